@@ -0,0 +1,114 @@
+package com.tngtech.junit.dataprovider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cross product of two dataproviders using the array and {@link Iterable} variants of
+ * {@link DataProviders#crossProduct(Object[][], Object[][])} and
+ * {@link DataProviders#crossProductSingleArg(Object[], Object[])} as well as the lazy cross product of five
+ * dataproviders compared to nested eager cross products. The lazy variants are consumed completely.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataProvidersBenchmark {
+
+    @Param({ "10", "100" })
+    public int rows;
+
+    private Object[][] rows1;
+    private Object[][] rows2;
+    private Object[] singleArgRows1;
+    private Object[] singleArgRows2;
+    private List<List<Object>> iterableRows1;
+    private List<List<Object>> iterableRows2;
+    private Object[][] dimension;
+
+    @Setup
+    public void setup() {
+        rows1 = new Object[rows][];
+        rows2 = new Object[rows][];
+        singleArgRows1 = new Object[rows];
+        singleArgRows2 = new Object[rows];
+        iterableRows1 = new ArrayList<List<Object>>(rows);
+        iterableRows2 = new ArrayList<List<Object>>(rows);
+        for (int idx = 0; idx < rows; idx++) {
+            rows1[idx] = new Object[] { idx, "a" + idx };
+            rows2[idx] = new Object[] { (long) idx, "b" + idx, idx % 2 == 0 };
+            singleArgRows1[idx] = idx;
+            singleArgRows2[idx] = "b" + idx;
+            iterableRows1.add(Arrays.asList(rows1[idx]));
+            iterableRows2.add(Arrays.asList(rows2[idx]));
+        }
+        dimension = new Object[][] { { 1 }, { 2 }, { 3 }, { 4 }, { 5 } };
+    }
+
+    @Benchmark
+    public Object[][] crossProduct() {
+        return DataProviders.crossProduct(rows1, rows2);
+    }
+
+    @Benchmark
+    public Object[][] crossProductSingleArg() {
+        return DataProviders.crossProductSingleArg(singleArgRows1, singleArgRows2);
+    }
+
+    @Benchmark
+    public Object[][] crossProductIterable() {
+        return DataProviders.crossProduct(iterableRows1, iterableRows2);
+    }
+
+    @Benchmark
+    public long crossProductLazy() {
+        return consume(DataProviders.lazyCrossProduct(rows1, rows2));
+    }
+
+    @Benchmark
+    public long crossProductFiveDimensionsEager() {
+        Object[][] result = DataProviders.crossProduct(DataProviders.crossProduct(DataProviders.crossProduct(
+                DataProviders.crossProduct(dimension, dimension), dimension), dimension), dimension);
+        return consume(Arrays.asList(result));
+    }
+
+    @Benchmark
+    public long crossProductFiveDimensionsLazy() {
+        return consume(DataProviders.lazyCrossProduct(dimension, dimension, dimension, dimension, dimension));
+    }
+
+    @Benchmark
+    public long crossProductFiveDimensionsStream() {
+        return DataProviders.crossProductStream(dimension, dimension, dimension, dimension, dimension)
+                .mapToLong(row -> row.length).sum();
+    }
+
+    @Benchmark
+    public long pairwiseFiveDimensions() {
+        return consume(Arrays.asList(DataProviders.pairwise(dimension, dimension, dimension, dimension, dimension)));
+    }
+
+    private static long consume(Iterable<Object[]> rows) {
+        long result = 0;
+        for (Object[] row : rows) {
+            result += row.length;
+        }
+        return result;
+    }
+}
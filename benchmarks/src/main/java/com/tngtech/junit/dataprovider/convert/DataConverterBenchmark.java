@@ -0,0 +1,100 @@
+package com.tngtech.junit.dataprovider.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link DataConverter#convert(Object, boolean, Class[], ConverterContext)} for every supported input shape
+ * of a dataprovider result, always providing the same rows of an {@code int} and a {@code String} argument.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataConverterBenchmark {
+
+    public enum Shape {
+        OBJECT_ARRAY_ARRAY, OBJECT_ARRAY, STRING_ARRAY, ITERABLE, ITERATOR, STREAM, SUPPLIER
+    }
+
+    @Param
+    public Shape shape;
+
+    @Param({ "10", "1000" })
+    public int rows;
+
+    private final Class<?>[] parameterTypes = new Class<?>[] { int.class, String.class };
+    private final Class<?>[] singleParameterType = new Class<?>[] { String.class };
+
+    private DataConverter dataConverter;
+    private ConverterContext converterContext;
+
+    private Object[][] objectArrayArray;
+    private Object[] objectArray;
+    private String[] stringArray;
+    private List<List<Object>> iterable;
+
+    @Setup
+    public void setup() {
+        dataConverter = new DataConverter();
+        converterContext = new ConverterContext(",", true, true, false);
+
+        objectArrayArray = new Object[rows][];
+        objectArray = new Object[rows];
+        stringArray = new String[rows];
+        iterable = new ArrayList<List<Object>>(rows);
+        for (int idx = 0; idx < rows; idx++) {
+            objectArrayArray[idx] = new Object[] { idx, "row" + idx };
+            objectArray[idx] = "row" + idx;
+            stringArray[idx] = idx + ", row" + idx;
+            iterable.add(Arrays.<Object>asList(idx, "row" + idx));
+        }
+    }
+
+    @Benchmark
+    public List<Object[]> convert() {
+        switch (shape) {
+            case OBJECT_ARRAY_ARRAY:
+                return dataConverter.convert(objectArrayArray, false, parameterTypes, converterContext);
+            case OBJECT_ARRAY:
+                return dataConverter.convert(objectArray, false, singleParameterType, converterContext);
+            case STRING_ARRAY:
+                return dataConverter.convert(stringArray, false, parameterTypes, converterContext);
+            case ITERABLE:
+                return dataConverter.convert(iterable, false, parameterTypes, converterContext);
+            case ITERATOR:
+                Iterator<List<Object>> iterator = iterable.iterator();
+                return dataConverter.convert(iterator, false, parameterTypes, converterContext);
+            case STREAM:
+                return dataConverter.convert(iterable.stream(), false, parameterTypes, converterContext);
+            case SUPPLIER:
+                Supplier<Object[][]> supplier = new Supplier<Object[][]>() {
+                    @Override
+                    public Object[][] get() {
+                        return objectArrayArray;
+                    }
+                };
+                return dataConverter.convert(supplier, false, parameterTypes, converterContext);
+            default:
+                throw new IllegalStateException("Unsupported shape: " + shape);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.tngtech.junit.dataprovider.convert;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares splitting a single row of a {@code String[]} dataprovider using {@link StringConverter#splitBy(String,
+ * String)} against the former implementation {@code (data + "\0").split(regex)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SplitByBenchmark {
+
+    @Param({ ",", "\\|", "\\s*,\\s*" })
+    public String regex;
+
+    private String data;
+    private StringConverter stringConverter;
+
+    @Setup
+    public void setup() {
+        String delimiter = ("\\|".equals(regex)) ? "|" : ",";
+        data = "1" + delimiter + " some text " + delimiter + "3.5" + delimiter + "VALUE" + delimiter + "null";
+        stringConverter = new StringConverter();
+    }
+
+    @Benchmark
+    public String[] legacySplit() {
+        String[] splitData = (data + "\0").split(regex);
+
+        int lastItemIdx = splitData.length - 1;
+        splitData[lastItemIdx] = splitData[lastItemIdx].substring(0, splitData[lastItemIdx].length() - 1);
+
+        return splitData;
+    }
+
+    @Benchmark
+    public String[] splitBy() {
+        return stringConverter.splitBy(data, regex);
+    }
+}
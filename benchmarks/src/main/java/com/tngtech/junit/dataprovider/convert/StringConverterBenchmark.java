@@ -0,0 +1,73 @@
+package com.tngtech.junit.dataprovider.convert;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures converting a single row of a {@code String[]} dataprovider with four values using
+ * {@link StringConverter#convert(String, boolean, Class[], ConverterContext, int)} for each supported kind of target
+ * type.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringConverterBenchmark {
+
+    public enum TargetType {
+        STRING(String.class, "some text"),
+        BOOLEAN(boolean.class, "true"),
+        CHAR(char.class, "c"),
+        INT(int.class, "42"),
+        LONG(Long.class, "42l"),
+        DOUBLE(double.class, "3.5"),
+        ENUM(TimeUnit.class, "SECONDS"),
+        CLASS(Class.class, "java.lang.String"),
+        STRING_CONSTRUCTOR(BigDecimal.class, "3.14159"),
+        PARSE_FACTORY(LocalDate.class, "2019-11-07");
+
+        final Class<?> type;
+        final String value;
+
+        TargetType(Class<?> type, String value) {
+            this.type = type;
+            this.value = value;
+        }
+    }
+
+    @Param
+    public TargetType targetType;
+
+    private String data;
+    private Class<?>[] parameterTypes;
+    private ConverterContext converterContext;
+    private StringConverter stringConverter;
+
+    @Setup
+    public void setup() {
+        data = targetType.value + ", " + targetType.value + ", " + targetType.value + ", " + targetType.value;
+        parameterTypes = new Class<?>[] { targetType.type, targetType.type, targetType.type, targetType.type };
+        converterContext = new ConverterContext(",", true, true, false);
+        stringConverter = converterContext.getStringConverter();
+    }
+
+    @Benchmark
+    public Object[] convert() {
+        return stringConverter.convert(data, false, parameterTypes, converterContext, 0);
+    }
+}
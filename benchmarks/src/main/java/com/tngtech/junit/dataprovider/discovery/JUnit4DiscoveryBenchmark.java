@@ -0,0 +1,77 @@
+package com.tngtech.junit.dataprovider.discovery;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.runner.Description;
+import org.junit.runners.model.InitializationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tngtech.java.junit.dataprovider.DataProviderRunner;
+import com.tngtech.junit.dataprovider.discovery.SyntheticTestClasses.Kind;
+
+/**
+ * Measures the full JUnit4 discovery pipeline of a synthetic test class with {@link #testMethods} dataprovider test
+ * methods having {@link #rows} rows each, i.e. {@link DataProviderRunner} construction (including
+ * {@code validateTestMethods}) and {@code computeTestMethods} while building the {@link Description}. No test is
+ * executed.
+ * <p>
+ * Use {@code -prof gc} for the allocation rate, the retained heap of the resulting runner is printed once per trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JUnit4DiscoveryBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int testMethods;
+
+    @Param({ "1", "10", "100" })
+    public int rows;
+
+    private Class<?> testClass;
+
+    @Setup
+    public void setup() {
+        testClass = SyntheticTestClasses.get(Kind.JUNIT4, testMethods, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRetainedHeap() throws Exception {
+        long bytes = RetainedHeap.measure(new Callable<DataProviderRunner>() {
+            @Override
+            public DataProviderRunner call() throws Exception {
+                DataProviderRunner runner = new DataProviderRunner(testClass);
+                runner.getDescription();
+                return runner;
+            }
+        });
+        RetainedHeap.report(JUnit4DiscoveryBenchmark.class.getSimpleName(), testMethods, rows, bytes);
+
+        int expected = testMethods * rows;
+        int actual = discover().testCount();
+        if (actual != expected) {
+            throw new IllegalStateException(String.format("Expected %d test methods but were %d", expected, actual));
+        }
+    }
+
+    @Benchmark
+    public Description discover() throws InitializationError {
+        return new DataProviderRunner(testClass).getDescription();
+    }
+}
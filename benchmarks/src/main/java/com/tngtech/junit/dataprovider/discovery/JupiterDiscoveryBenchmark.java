@@ -0,0 +1,92 @@
+package com.tngtech.junit.dataprovider.discovery;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tngtech.junit.dataprovider.discovery.SyntheticTestClasses.Kind;
+
+/**
+ * Measures the full JUnit Jupiter discovery pipeline of a synthetic test class with {@link #testMethods} dataprovider
+ * test methods having {@link #rows} rows each, i.e. discovery through the {@link Launcher} and
+ * {@code provideTestTemplateInvocationContexts} including the display names of all invocations. The invocations
+ * themselves are disabled by {@link SkipInvocationsCondition} such that no test method is executed.
+ * <p>
+ * Use {@code -prof gc} for the allocation rate, the retained heap of all registered invocations is printed once per
+ * trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JupiterDiscoveryBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int testMethods;
+
+    @Param({ "1", "10", "100" })
+    public int rows;
+
+    private Launcher launcher;
+    private LauncherDiscoveryRequest request;
+
+    @Setup
+    public void setup() {
+        launcher = LauncherFactory.create();
+        request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectClass(SyntheticTestClasses.get(Kind.JUPITER, testMethods, rows))).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void reportRetainedHeap() throws Exception {
+        long bytes = RetainedHeap.measure(this::discover);
+        RetainedHeap.report(JupiterDiscoveryBenchmark.class.getSimpleName(), testMethods, rows, bytes);
+
+        int expected = testMethods * rows;
+        int actual = discover().size();
+        if (actual != expected) {
+            throw new IllegalStateException(
+                    String.format("Expected %d test template invocations but were %d", expected, actual));
+        }
+    }
+
+    @Benchmark
+    public List<TestIdentifier> discover() {
+        RegisteredInvocationsListener listener = new RegisteredInvocationsListener();
+        launcher.execute(request, listener);
+        return listener.invocations;
+    }
+
+    private static class RegisteredInvocationsListener implements TestExecutionListener {
+        private final List<TestIdentifier> invocations = new ArrayList<>();
+
+        @Override
+        public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+            invocations.add(testIdentifier);
+        }
+    }
+}
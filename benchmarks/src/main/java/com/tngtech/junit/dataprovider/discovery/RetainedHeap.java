@@ -0,0 +1,57 @@
+package com.tngtech.junit.dataprovider.discovery;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.Callable;
+
+/**
+ * Approximates the heap retained by the result of a discovery by comparing the used heap after full garbage
+ * collections while its result is still strongly reachable and after it has been released. Both are measured after the
+ * discovery such that garbage and caches created by it or by preceding benchmark iterations are excluded.
+ */
+final class RetainedHeap {
+
+    private static volatile Object retained;
+
+    /**
+     * @param discovery to be executed and whose result is kept reachable while measuring
+     * @return the approximated number of bytes retained by the result of the given {@code discovery}
+     * @throws Exception if and only if the {@code discovery} throws an exception
+     */
+    static long measure(Callable<?> discovery) throws Exception {
+        // warm up such that lazily initialized state of the discovery and of the heap usage reporting is excluded
+        discovery.call();
+        usedHeapAfterGc();
+
+        retained = discovery.call();
+        long withResult;
+        try {
+            withResult = usedHeapAfterGc();
+        } finally {
+            retained = null;
+        }
+        return withResult - usedHeapAfterGc();
+    }
+
+    /**
+     * Prints the retained heap such that it is reported alongside the JMH results of the forked VM.
+     *
+     * @param benchmark name of the benchmark
+     * @param testMethods number of dataprovider test methods
+     * @param rows number of rows of each dataprovider
+     * @param bytes retained heap
+     */
+    static void report(String benchmark, int testMethods, int rows, long bytes) {
+        System.out.printf("%n%s (testMethods = %d, rows = %d): retained heap after discovery = %,d bytes (%,d bytes per test)%n",
+                benchmark, testMethods, rows, bytes, bytes / Math.max(1, (long) testMethods * rows));
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int idx = 0; idx < 3; idx++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
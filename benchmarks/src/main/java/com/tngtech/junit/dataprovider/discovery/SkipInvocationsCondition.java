@@ -0,0 +1,20 @@
+package com.tngtech.junit.dataprovider.discovery;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Disables all test template invocations such that the dataprovider tests are generated (including their display
+ * names) but their test methods are never executed.
+ */
+public class SkipInvocationsCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (context.getUniqueId().contains("[test-template-invocation:")) {
+            return ConditionEvaluationResult.disabled("discovery only");
+        }
+        return ConditionEvaluationResult.enabled("discovery only");
+    }
+}
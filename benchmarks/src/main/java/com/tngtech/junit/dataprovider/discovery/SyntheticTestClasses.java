@@ -0,0 +1,138 @@
+package com.tngtech.junit.dataprovider.discovery;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates, compiles and loads synthetic test classes having a given number of dataprovider test methods, each using
+ * its own dataprovider with a given number of rows of an {@code int} and a {@code String} argument.
+ * <p>
+ * The dataproviders do not cache their results such that every discovery invokes them again as for a fresh test run.
+ * <p>
+ * Note: Compiling the generated sources requires running on a JDK.
+ */
+final class SyntheticTestClasses {
+
+    enum Kind {
+        JUNIT4, JUPITER
+    }
+
+    private static final ConcurrentMap<List<Object>, Class<?>> CLASSES = new ConcurrentHashMap<List<Object>, Class<?>>();
+
+    /**
+     * @param kind of test framework the test class is generated for
+     * @param testMethods number of dataprovider test methods
+     * @param rows number of rows of each dataprovider
+     * @return the loaded synthetic test class; never {@code null}
+     */
+    static Class<?> get(Kind kind, int testMethods, int rows) {
+        List<Object> key = Arrays.<Object>asList(kind, testMethods, rows);
+
+        Class<?> result = CLASSES.get(key);
+        if (result == null) {
+            result = compileAndLoad(kind, testMethods, rows);
+            CLASSES.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    static String generateSource(Kind kind, String className, int testMethods, int rows) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("package synthetic;\n\n");
+        if (kind == Kind.JUNIT4) {
+            sb.append("import org.junit.Test;\n");
+            sb.append("import org.junit.runner.RunWith;\n");
+            sb.append("import com.tngtech.java.junit.dataprovider.DataProvider;\n");
+            sb.append("import com.tngtech.java.junit.dataprovider.DataProviderRunner;\n");
+            sb.append("import com.tngtech.java.junit.dataprovider.UseDataProvider;\n\n");
+            sb.append("@RunWith(DataProviderRunner.class)\n");
+        } else {
+            sb.append("import org.junit.jupiter.api.TestTemplate;\n");
+            sb.append("import org.junit.jupiter.api.extension.ExtendWith;\n");
+            sb.append("import com.tngtech.junit.dataprovider.DataProvider;\n");
+            sb.append("import com.tngtech.junit.dataprovider.UseDataProvider;\n");
+            sb.append("import com.tngtech.junit.dataprovider.UseDataProviderExtension;\n\n");
+            sb.append("@ExtendWith({ UseDataProviderExtension.class, ")
+                    .append(SkipInvocationsCondition.class.getName()).append(".class })\n");
+        }
+        sb.append("public class ").append(className).append(" {\n\n");
+        sb.append("    static Object[][] rows() {\n");
+        sb.append("        Object[][] result = new Object[").append(rows).append("][];\n");
+        sb.append("        for (int idx = 0; idx < result.length; idx++) {\n");
+        sb.append("            result[idx] = new Object[] { idx, \"row\" + idx };\n");
+        sb.append("        }\n");
+        sb.append("        return result;\n");
+        sb.append("    }\n");
+        for (int idx = 0; idx < testMethods; idx++) {
+            sb.append("\n");
+            sb.append("    @DataProvider(cache = false)\n");
+            sb.append("    public static Object[][] dataProviderTest").append(idx).append("() {\n");
+            sb.append("        return rows();\n");
+            sb.append("    }\n\n");
+            sb.append((kind == Kind.JUNIT4) ? "    @Test\n" : "    @TestTemplate\n");
+            sb.append("    @UseDataProvider\n");
+            sb.append("    public void test").append(idx).append("(int number, String text) {\n");
+            sb.append("    }\n");
+        }
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static Class<?> compileAndLoad(Kind kind, int testMethods, int rows) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler found, please run benchmarks using a JDK.");
+        }
+
+        String className = String.format("%sTest%dx%d", (kind == Kind.JUNIT4) ? "JUnit4" : "Jupiter", testMethods,
+                rows);
+        try {
+            File directory = Files.createTempDirectory("synthetic-tests").toFile();
+            File sourceFile = new File(new File(directory, "synthetic"), className + ".java");
+            Files.createDirectories(sourceFile.getParentFile().toPath());
+            Files.write(sourceFile.toPath(),
+                    generateSource(kind, className, testMethods, rows).getBytes(StandardCharsets.UTF_8));
+
+            StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, Locale.ROOT,
+                    StandardCharsets.UTF_8);
+            try {
+                Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sourceFile);
+                List<String> options = Arrays.asList("-classpath", System.getProperty("java.class.path"), "-d",
+                        directory.getAbsolutePath(), "-proc:none", "-nowarn");
+
+                Writer output = new StringWriter();
+                if (!compiler.getTask(output, fileManager, null, options, null, units).call()) {
+                    throw new IllegalStateException("Could not compile synthetic test class: " + output);
+                }
+            } finally {
+                fileManager.close();
+            }
+
+            @SuppressWarnings("resource") // must be kept open to load classes lazily
+            URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toURI().toURL() },
+                    SyntheticTestClasses.class.getClassLoader());
+            return Class.forName("synthetic." + className, true, classLoader);
+
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not generate synthetic test class " + className, e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Could not load synthetic test class " + className, e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.tngtech.junit.dataprovider.format;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tngtech.junit.dataprovider.DataProvider;
+import com.tngtech.junit.dataprovider.placeholder.ArgumentPlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.CanonicalClassNamePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.CompleteMethodSignaturePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.IndexPlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.NamedArgumentPlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.SimpleClassNamePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.SimpleMethodNamePlaceholder;
+
+/**
+ * Measures {@link DataProviderPlaceholderFormatter#format(Method, int, List)} using the default placeholders and
+ * {@link DataProvider#DEFAULT_FORMAT} (or a format additionally using all other placeholders) for typical arguments.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DataProviderPlaceholderFormatterBenchmark {
+
+    @Param({ DataProvider.DEFAULT_FORMAT, "%c.%m(%cm) [%i: %na[0..-1] / %p[0]]" })
+    public String format;
+
+    private Method testMethod;
+    private List<Object> arguments;
+    private DataProviderPlaceholderFormatter formatter;
+
+    @Setup
+    public void setup() throws Exception {
+        // not getClass() as JMH instantiates a generated subclass
+        testMethod = DataProviderPlaceholderFormatterBenchmark.class.getDeclaredMethod("test", int.class, String.class,
+                long[].class, TimeUnit.class);
+        arguments = Arrays.<Object>asList(42, "some text\twith tab", new long[] { 1L, 2L, 3L }, TimeUnit.SECONDS);
+
+        // same placeholders as used by default in the JUnit Jupiter dataprovider extensions
+        List<BasePlaceholder> placeholders = new ArrayList<BasePlaceholder>();
+        placeholders.add(new ArgumentPlaceholder());
+        placeholders.add(new CanonicalClassNamePlaceholder());
+        placeholders.add(new CompleteMethodSignaturePlaceholder());
+        placeholders.add(new IndexPlaceholder());
+        placeholders.add(new NamedArgumentPlaceholder());
+        placeholders.add(new SimpleClassNamePlaceholder());
+        placeholders.add(new SimpleMethodNamePlaceholder());
+
+        formatter = new DataProviderPlaceholderFormatter(format, placeholders);
+    }
+
+    @Benchmark
+    public String format() {
+        return formatter.format(testMethod, 7, arguments);
+    }
+
+    void test(int number, String text, long[] values, TimeUnit unit) {
+        // only used as test method
+    }
+}
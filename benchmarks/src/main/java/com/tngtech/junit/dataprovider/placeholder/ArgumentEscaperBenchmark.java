@@ -0,0 +1,61 @@
+package com.tngtech.junit.dataprovider.placeholder;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares escaping a single argument using {@link ArgumentEscaper#escape(String)} against the former implementation
+ * of three {@link String#replaceAll(String, String)} passes followed by replacing all non-printable characters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArgumentEscaperBenchmark {
+
+    @Param({ "some printable text", "line 1\nline 2\r\n\ttabbed", "gr\u00fc\u00dfe \ud83d\ude00" })
+    public String argument;
+
+    @Benchmark
+    public String legacyEscape() {
+        String result = argument.replaceAll("\0", "\\\\0").replaceAll("\r", "\\\\r").replaceAll("\n", "\\\\n");
+
+        StringBuilder stringBuilder = new StringBuilder();
+        for (int offset = 0; offset < result.length();) {
+            int codePoint = result.codePointAt(offset);
+            offset += Character.charCount(codePoint);
+
+            switch (Character.getType(codePoint)) {
+                case Character.CONTROL:
+                case Character.FORMAT:
+                case Character.PRIVATE_USE:
+                case Character.SURROGATE:
+                case Character.UNASSIGNED:
+                    stringBuilder.append(AbstractArgumentPlaceholder.STRING_NON_PRINTABLE);
+                    break;
+
+                default:
+                    stringBuilder.append(Character.toChars(codePoint));
+                    break;
+            }
+        }
+        return stringBuilder.toString();
+    }
+
+    @Benchmark
+    public String escape() {
+        return ArgumentEscaper.escape(argument);
+    }
+}
@@ -0,0 +1,262 @@
+package com.tngtech.junit.dataprovider.resolver;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.tngtech.junit.dataprovider.DataProvider;
+
+/**
+ * Measures {@link DefaultDataProviderMethodResolver#resolve(DataProviderResolverContext)} for a test class having a
+ * class hierarchy of four levels with eight dataprovider methods each. The dataprovider is either resolved by its
+ * explicit name or by name convention, located in the test class itself or in its topmost superclass.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DefaultDataProviderMethodResolverBenchmark {
+
+    public enum Lookup {
+        EXPLICIT_NAME, CONVENTION_IN_TEST_CLASS, CONVENTION_IN_SUPERCLASS
+    }
+
+    @Param
+    public Lookup lookup;
+
+    private DefaultDataProviderMethodResolver resolver;
+    private DataProviderResolverContext context;
+
+    @Setup
+    public void setup() throws Exception {
+        resolver = new DefaultDataProviderMethodResolver();
+
+        Method testMethod;
+        String dataProviderName;
+        switch (lookup) {
+            case EXPLICIT_NAME:
+                testMethod = Level3.class.getDeclaredMethod("testLevel3H", int.class);
+                dataProviderName = "dataProviderLevel0A";
+                break;
+            case CONVENTION_IN_TEST_CLASS:
+                testMethod = Level3.class.getDeclaredMethod("testLevel3H", int.class);
+                dataProviderName = DataProviderResolverContext.METHOD_NAME_TO_USE_CONVENTION;
+                break;
+            case CONVENTION_IN_SUPERCLASS:
+                testMethod = Level3.class.getDeclaredMethod("testLevel0A", int.class);
+                dataProviderName = DataProviderResolverContext.METHOD_NAME_TO_USE_CONVENTION;
+                break;
+            default:
+                throw new IllegalStateException("Unsupported lookup: " + lookup);
+        }
+
+        context = new DataProviderResolverContext(testMethod,
+                Collections.<Class<? extends DataProviderMethodResolver>>singletonList(
+                        DefaultDataProviderMethodResolver.class),
+                ResolveStrategy.UNTIL_FIRST_MATCH, Collections.<Class<?>>singletonList(Level3.class),
+                DataProvider.class, dataProviderName);
+    }
+
+    @Benchmark
+    public List<Method> resolve() {
+        return resolver.resolve(context);
+    }
+
+    @Benchmark
+    public List<Method> findDataProviderMethods() {
+        return DataProviderMethodResolverHelper.findDataProviderMethods(context);
+    }
+
+    // -- test classes to benchmark with ------------------------------------------------------------------------------
+
+    static class Level0 {
+        @DataProvider
+        static Object[][] dataProviderLevel0A() {
+            return new Object[][] { { 0 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0B() {
+            return new Object[][] { { 1 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0C() {
+            return new Object[][] { { 2 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0D() {
+            return new Object[][] { { 3 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0E() {
+            return new Object[][] { { 4 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0F() {
+            return new Object[][] { { 5 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0G() {
+            return new Object[][] { { 6 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel0H() {
+            return new Object[][] { { 7 } };
+        }
+    }
+
+    static class Level1 extends Level0 {
+        @DataProvider
+        static Object[][] dataProviderLevel1A() {
+            return new Object[][] { { 0 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1B() {
+            return new Object[][] { { 1 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1C() {
+            return new Object[][] { { 2 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1D() {
+            return new Object[][] { { 3 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1E() {
+            return new Object[][] { { 4 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1F() {
+            return new Object[][] { { 5 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1G() {
+            return new Object[][] { { 6 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel1H() {
+            return new Object[][] { { 7 } };
+        }
+    }
+
+    static class Level2 extends Level1 {
+        @DataProvider
+        static Object[][] dataProviderLevel2A() {
+            return new Object[][] { { 0 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2B() {
+            return new Object[][] { { 1 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2C() {
+            return new Object[][] { { 2 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2D() {
+            return new Object[][] { { 3 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2E() {
+            return new Object[][] { { 4 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2F() {
+            return new Object[][] { { 5 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2G() {
+            return new Object[][] { { 6 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel2H() {
+            return new Object[][] { { 7 } };
+        }
+    }
+
+    static class Level3 extends Level2 {
+        @DataProvider
+        static Object[][] dataProviderLevel3A() {
+            return new Object[][] { { 0 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3B() {
+            return new Object[][] { { 1 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3C() {
+            return new Object[][] { { 2 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3D() {
+            return new Object[][] { { 3 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3E() {
+            return new Object[][] { { 4 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3F() {
+            return new Object[][] { { 5 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3G() {
+            return new Object[][] { { 6 } };
+        }
+
+        @DataProvider
+        static Object[][] dataProviderLevel3H() {
+            return new Object[][] { { 7 } };
+        }
+
+        void testLevel0A(int value) {
+            // only used as test method
+        }
+
+        void testLevel3H(int value) {
+            // only used as test method
+        }
+    }
+}
@@ -49,6 +49,11 @@ val projectSettings = mapOf(
         "artifactBaseName" to "junit-jupiter-params-dataprovider",
         "description" to "A TestNG like dataprovider runner for JUnit Jupiter Parameterized Tests which is largely compatible to JUnit4 dataprovider.",
         "Automatic-Module-Name" to "com.tngtech.junit.dataprovider.jupiter.params"
+    ),
+    ":benchmarks" to mapOf(
+        "artifactBaseName" to "junit-dataprovider-benchmarks",
+        "description" to "JMH benchmarks for the hot paths of all junit-dataprovider modules (not published).",
+        "Automatic-Module-Name" to "com.tngtech.junit.dataprovider.benchmarks"
     )
 )
 
@@ -66,6 +71,9 @@ class Dependency {
     val mockito8 = "org.mockito:mockito-core:3.2.4"
 
     val groovy = "org.codehaus.groovy:groovy:3.0.25"
+
+    val jmhCore = "org.openjdk.jmh:jmh-core:1.37"
+    val jmhGeneratorAnnprocess = "org.openjdk.jmh:jmh-generator-annprocess:1.37"
 }
 
 val dependency = Dependency() // required because using `object` does not work using properties from outside
@@ -272,6 +280,41 @@ project(":junit-jupiter-params") {
     }
 }
 
+project(":benchmarks") {
+    configure<JavaPluginExtension> {
+        sourceCompatibility = JavaVersion.VERSION_1_8
+        targetCompatibility = JavaVersion.VERSION_1_8
+    }
+
+    dependencies {
+        "implementation"(project(":junit4"))
+        "implementation"(project(":junit-jupiter"))
+        // required to benchmark discovery of Jupiter test classes
+        "implementation"(dependency.junitJupiterPlatformLauncher)
+
+        "implementation"(dependency.jmhCore)
+        "annotationProcessor"(dependency.jmhGeneratorAnnprocess)
+    }
+
+    tasks {
+        named<JavaCompile>("compileJava") {
+            // sources generated by JMH annotation processor are not free of lint warnings
+            options.compilerArgs.remove("-Werror")
+            // required to benchmark named argument placeholder
+            options.compilerArgs.add("-parameters")
+        }
+
+        register<JavaExec>("jmh") {
+            group = "verification"
+            description = "Runs all JMH benchmarks, use '-PjmhArgs=...' to pass arguments, e.g. a benchmark regex."
+
+            classpath = project.the<SourceSetContainer>()["main"].runtimeClasspath
+            mainClass.set("org.openjdk.jmh.Main")
+            args = (findProperty("jmhArgs")?.toString() ?: "").split(" ").filter { it.isNotBlank() }
+        }
+    }
+}
+
 // configure after properties are set and integration tests are added
 subprojects {
     configure<JacocoPluginExtension> {
@@ -368,7 +411,7 @@ subprojects {
 //}
 
 // -- coveralls plugin multi-module project workaround ---------------------------------------------------------
-val publishedProjects = subprojects.filter { true }
+val publishedProjects = subprojects.filter { it.path != ":benchmarks" }
 val jacocoRootReport = tasks.register("jacocoRootReport", JacocoReport::class) {
     description = "Generates an aggregate report from all subprojects"
 
@@ -400,7 +443,7 @@ val isReleaseVersion by extra(!project.version.toString().endsWith("-SNAPSHOT"))
 val isReleaseBuild by extra(project.hasProperty("release"))
 
 if (isReleaseBuild) {
-    subprojects {
+    configure(publishedProjects) {
         apply(plugin = "com.vanniktech.maven.publish")
         apply<SigningPlugin>()
 
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider;
+
+import static com.tngtech.junit.dataprovider.Preconditions.checkArgument;
+import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Greedy generator of covering arrays of a given strength {@code t} (similar to AETG) for an arbitrary number of
+ * dataproviders (= dimensions). A covering array is a subset of the cross product of all dimensions which still contains
+ * every combination of rows of any {@code t} dimensions at least once. For {@code t = 2} (= pairwise), it typically has
+ * only a small fraction of the rows of the cross product.
+ * <p>
+ * The seed drives the randomized greedy construction, i.e. the yet uncovered combination each candidate starts with,
+ * the order in which the remaining dimensions are chosen, and ties between equally good rows. The result is
+ * deterministic for the same dimensions, strength and seed.
+ */
+final class CoveringArray {
+
+    /**
+     * Number of candidates created for each row of the result, of which the one covering the most yet uncovered
+     * combinations is chosen.
+     */
+    private static final int CANDIDATES = 20;
+
+    private final Object[][][] dimensions;
+    private final Random random;
+
+    private final List<Combination> combinations;
+    private final List<List<Combination>> combinationsByDimension;
+    private long uncovered;
+
+    /**
+     * @param strength of the covering array, i.e. every combination of rows of any {@code strength} dimensions is
+     *            covered; is reduced to the number of dimensions if greater
+     * @param seed for the randomized greedy construction
+     * @param dimensions to be combined
+     * @throws NullPointerException if and only if given {@code dimensions} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if given {@code strength} is not positive or no {@code dimensions}
+     *             are given
+     */
+    CoveringArray(int strength, long seed, Object[][]... dimensions) {
+        checkArgument(strength > 0, "'strength' must be positive but was %d", strength);
+        checkNotNull(dimensions, "'rows' must not be null");
+        checkArgument(dimensions.length > 0, "'rows' must not be empty");
+        for (Object[][] dimension : dimensions) {
+            checkNotNull(dimension, "'rows' must not contain null");
+        }
+
+        this.dimensions = dimensions.clone();
+        this.random = new Random(seed);
+        this.combinations = new ArrayList<Combination>();
+        this.combinationsByDimension = new ArrayList<List<Combination>>(dimensions.length);
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            combinationsByDimension.add(new ArrayList<Combination>());
+        }
+        if (!isAnyDimensionEmpty()) {
+            addCombinations(new int[Math.min(strength, dimensions.length)], 0, 0);
+        }
+    }
+
+    /**
+     * @return the rows of the covering array, each one consisting of the concatenated rows of all dimensions; never
+     *         {@code null} but empty if any dimension is empty
+     */
+    Object[][] generate() {
+        List<Object[]> result = new ArrayList<Object[]>();
+        while (uncovered > 0) {
+            int[] best = null;
+            int bestCovered = -1;
+            for (int candidate = 0; candidate < CANDIDATES; candidate++) {
+                int[] indices = createCandidate();
+                int covered = countUncovered(combinations, indices);
+                if (covered > bestCovered) {
+                    best = indices;
+                    bestCovered = covered;
+                }
+            }
+            markCovered(best);
+            result.add(row(best));
+        }
+        return result.toArray(new Object[result.size()][]);
+    }
+
+    private boolean isAnyDimensionEmpty() {
+        for (Object[][] dimension : dimensions) {
+            if (dimension.length == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void addCombinations(int[] dims, int position, int firstDim) {
+        if (position == dims.length) {
+            Combination combination = new Combination(dims.clone());
+            combinations.add(combination);
+            for (int dim : combination.dims) {
+                combinationsByDimension.get(dim).add(combination);
+            }
+            uncovered += combination.size;
+            return;
+        }
+        for (int dim = firstDim; dim <= dimensions.length - dims.length + position; dim++) {
+            dims[position] = dim;
+            addCombinations(dims, position + 1, dim + 1);
+        }
+    }
+
+    /**
+     * Creates a candidate starting with a random yet uncovered combination and greedily choosing the rows of all other
+     * dimensions in random order such that each covers the most yet uncovered combinations with the rows chosen before.
+     * Therefore, every candidate covers at least one yet uncovered combination.
+     */
+    private int[] createCandidate() {
+        int[] indices = new int[dimensions.length];
+        boolean[] assigned = new boolean[dimensions.length];
+
+        Combination start = randomUncoveredCombination();
+        start.assign(start.randomUncovered(), indices, assigned);
+
+        for (int dim : shuffledDimensions()) {
+            if (assigned[dim]) {
+                continue;
+            }
+            assigned[dim] = true;
+
+            int bestIdx = 0;
+            int bestGain = -1;
+            int ties = 0;
+            for (int idx = 0; idx < dimensions[dim].length; idx++) {
+                indices[dim] = idx;
+                int gain = countUncovered(combinationsByDimension.get(dim), indices, assigned);
+                if (gain > bestGain) {
+                    bestIdx = idx;
+                    bestGain = gain;
+                    ties = 1;
+                } else if (gain == bestGain && random.nextInt(++ties) == 0) {
+                    bestIdx = idx;
+                }
+            }
+            indices[dim] = bestIdx;
+        }
+        return indices;
+    }
+
+    private Combination randomUncoveredCombination() {
+        int offset = random.nextInt(combinations.size());
+        for (int i = 0; i < combinations.size(); i++) {
+            Combination combination = combinations.get((offset + i) % combinations.size());
+            if (!combination.uncovered.isEmpty()) {
+                return combination;
+            }
+        }
+        throw new IllegalStateException("No uncovered combination left");
+    }
+
+    private int[] shuffledDimensions() {
+        int[] result = new int[dimensions.length];
+        for (int idx = 0; idx < result.length; idx++) {
+            result[idx] = idx;
+        }
+        for (int idx = result.length - 1; idx > 0; idx--) {
+            int other = random.nextInt(idx + 1);
+            int tmp = result[idx];
+            result[idx] = result[other];
+            result[other] = tmp;
+        }
+        return result;
+    }
+
+    private int countUncovered(List<Combination> candidates, int[] indices) {
+        int result = 0;
+        for (Combination combination : candidates) {
+            if (combination.uncovered.get(combination.indexOf(indices))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private int countUncovered(List<Combination> candidates, int[] indices, boolean[] assigned) {
+        int result = 0;
+        for (Combination combination : candidates) {
+            if (combination.isAssigned(assigned) && combination.uncovered.get(combination.indexOf(indices))) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    private void markCovered(int[] indices) {
+        for (Combination combination : combinations) {
+            int index = combination.indexOf(indices);
+            if (combination.uncovered.get(index)) {
+                combination.uncovered.clear(index);
+                uncovered--;
+            }
+        }
+    }
+
+    private Object[] row(int[] indices) {
+        int length = 0;
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            length += dimensions[dim][indices[dim]].length;
+        }
+
+        Object[] result = new Object[length];
+        int offset = 0;
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            Object[] row = dimensions[dim][indices[dim]];
+            System.arraycopy(row, 0, result, offset, row.length);
+            offset += row.length;
+        }
+        return result;
+    }
+
+    /**
+     * Combination of {@code t} dimensions and the combinations of their rows which are not yet covered, whereby each
+     * combination of rows is identified by its mixed radix index.
+     */
+    private class Combination {
+        private final int[] dims;
+        private final int size;
+        private final BitSet uncovered;
+
+        Combination(int[] dims) {
+            this.dims = dims;
+
+            long size = 1;
+            for (int dim : dims) {
+                size *= dimensions[dim].length;
+            }
+            checkArgument(size <= Integer.MAX_VALUE, "Too many combinations of rows for strength %d", dims.length);
+            this.size = (int) size;
+
+            this.uncovered = new BitSet(this.size);
+            this.uncovered.set(0, this.size);
+        }
+
+        int indexOf(int[] indices) {
+            int result = 0;
+            for (int dim : dims) {
+                result = result * dimensions[dim].length + indices[dim];
+            }
+            return result;
+        }
+
+        boolean isAssigned(boolean[] assigned) {
+            for (int dim : dims) {
+                if (!assigned[dim]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int randomUncovered() {
+            int result = uncovered.nextSetBit(random.nextInt(size));
+            return (result >= 0) ? result : uncovered.nextSetBit(0);
+        }
+
+        void assign(int index, int[] indices, boolean[] assigned) {
+            int remainder = index;
+            for (int i = dims.length - 1; i >= 0; i--) {
+                int length = dimensions[dims[i]].length;
+                indices[dims[i]] = remainder % length;
+                assigned[dims[i]] = true;
+                remainder /= length;
+            }
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider;
+
+import static com.tngtech.junit.dataprovider.Preconditions.checkArgument;
+import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy cross product of an arbitrary number of dataproviders (= dimensions). Each row is computed not until it is
+ * requested, such that the cross product never has to be held in memory completely but only the given dimensions.
+ * <p>
+ * The rows are in the same order as the ones of {@link DataProviders#crossProduct(Object[][], Object[][])}, i.e. the
+ * rows of the last dimension vary fastest. Every row is a new {@link Object} array containing the concatenated rows of
+ * all dimensions.
+ * <p>
+ * Note: The rows of the given dimensions are not copied, hence they must not be modified afterwards.
+ */
+final class CrossProduct implements Iterable<Object[]> {
+
+    private final Object[][][] dimensions;
+    private final long size;
+
+    /**
+     * @param dimensions to be cross producted
+     * @throws NullPointerException if and only if given {@code dimensions} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code dimensions} are given or the cross product would have
+     *             more than {@link Long#MAX_VALUE} rows
+     */
+    CrossProduct(Object[][]... dimensions) {
+        checkNotNull(dimensions, "'rows' must not be null");
+        checkArgument(dimensions.length > 0, "'rows' must not be empty");
+
+        long size = 1;
+        for (Object[][] dimension : dimensions) {
+            checkNotNull(dimension, "'rows' must not contain null");
+            try {
+                size = Math.multiplyExact(size, dimension.length);
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Cross product must not have more than " + Long.MAX_VALUE + " rows",
+                        e);
+            }
+        }
+        this.dimensions = dimensions.clone();
+        this.size = size;
+    }
+
+    /**
+     * @return the number of rows of this cross product, i.e. the product of the number of rows of all dimensions
+     */
+    long size() {
+        return size;
+    }
+
+    /**
+     * @param index of the requested row
+     * @return the row with the given {@code index}
+     * @throws IndexOutOfBoundsException if and only if the given {@code index} is negative or not less than
+     *             {@link #size()}
+     */
+    Object[] get(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return row(indicesOf(index));
+    }
+
+    @Override
+    public Iterator<Object[]> iterator() {
+        return new Iterator<Object[]>() {
+            private final int[] indices = new int[dimensions.length];
+            private long remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public Object[] next() {
+                if (remaining <= 0) {
+                    throw new NoSuchElementException();
+                }
+                Object[] result = row(indices);
+                if (--remaining > 0) {
+                    increment(indices);
+                }
+                return result;
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("remove");
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<Object[]> spliterator() {
+        return new RangeSpliterator(0, size);
+    }
+
+    /**
+     * @return a sequential {@link Stream} of all rows of this cross product; can also be turned into a parallel one as
+     *         the rows can be split up efficiently
+     */
+    Stream<Object[]> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    private int[] indicesOf(long index) {
+        int[] result = new int[dimensions.length];
+        long remainder = index;
+        for (int dim = dimensions.length - 1; dim >= 0; dim--) {
+            int length = dimensions[dim].length;
+            result[dim] = (int) (remainder % length);
+            remainder /= length;
+        }
+        return result;
+    }
+
+    private void increment(int[] indices) {
+        for (int dim = dimensions.length - 1; dim >= 0; dim--) {
+            if (++indices[dim] < dimensions[dim].length) {
+                return;
+            }
+            indices[dim] = 0;
+        }
+    }
+
+    private Object[] row(int[] indices) {
+        int length = 0;
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            length += dimensions[dim][indices[dim]].length;
+        }
+
+        Object[] result = new Object[length];
+        int offset = 0;
+        for (int dim = 0; dim < dimensions.length; dim++) {
+            Object[] row = dimensions[dim][indices[dim]];
+            System.arraycopy(row, 0, result, offset, row.length);
+            offset += row.length;
+        }
+        return result;
+    }
+
+    /**
+     * {@link Spliterator} over the rows from {@code from} (inclusive) to {@code to} (exclusive) which computes the
+     * first row of its range by index and all further rows incrementally.
+     */
+    private class RangeSpliterator implements Spliterator<Object[]> {
+        private long from;
+        private final long to;
+        private int[] indices;
+
+        RangeSpliterator(long from, long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object[]> action) {
+            checkNotNull(action, "'action' must not be null");
+            if (from >= to) {
+                return false;
+            }
+            if (indices == null) {
+                indices = indicesOf(from);
+            } else {
+                increment(indices);
+            }
+            from++;
+            action.accept(row(indices));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Object[]> trySplit() {
+            if (indices != null) {
+                return null; // already started traversal
+            }
+            long middle = (from + to) >>> 1;
+            if (middle <= from) {
+                return null;
+            }
+            Spliterator<Object[]> prefix = new RangeSpliterator(from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+}
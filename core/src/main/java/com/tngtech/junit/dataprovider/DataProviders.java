@@ -18,8 +18,8 @@ package com.tngtech.junit.dataprovider;
 import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class DataProviders {
 
@@ -161,13 +161,13 @@ public class DataProviders {
      */
     public static <T extends Iterable<?>, V extends Iterable<?>> Object[][] crossProduct(Iterable<T> rows1,
             Iterable<V> rows2) {
-        List<List<Object>> rowsOut = new ArrayList<List<Object>>();
+        List<Object[]> rowsOut = new ArrayList<Object[]>();
         for (Iterable<?> row1 : rows1) {
             for (Iterable<?> row2 : rows2) {
                 rowsOut.add(concat(row1, row2));
             }
         }
-        return convert(rowsOut);
+        return rowsOut.toArray(new Object[rowsOut.size()][]);
     }
 
     /**
@@ -185,16 +185,170 @@ public class DataProviders {
      * @return an {@link Object} array array containing the cross product of the given {@code rows}
      */
     public static Object[][] crossProductSingleArg(Iterable<?> rows1, Iterable<?> rows2) {
-        List<List<Object>> rowsOut = new ArrayList<List<Object>>();
+        List<Object[]> rowsOut = new ArrayList<Object[]>();
         for (Object row1 : rows1) {
             for (Object row2 : rows2) {
-                rowsOut.add(Arrays.asList(row1, row2));
+                rowsOut.add(new Object[] { row1, row2 });
             }
         }
-        return convert(rowsOut);
+        return rowsOut.toArray(new Object[rowsOut.size()][]);
     }
 
-    private static List<Object> concat(Iterable<?> row1, Iterable<?> row2) {
+    /**
+     * Creates a lazy cross product of all provided dataproviders, i.e. a dataprovider test for each combination of
+     * their rows. In contrast to {@link #crossProduct(Object[][], Object[][])} the rows are not created up front but
+     * each one not until it is iterated, such that only the given dataproviders are held in memory. The rows are in the
+     * same order as for {@link #crossProduct(Object[][], Object[][])}, i.e. the rows of the last dataprovider vary
+     * fastest.
+     *
+     * <pre>
+     * <code>
+     * Iterable&lt;Object[]&gt; r = lazyCrossProduct(dataProviderMethod1(), dataProviderMethod2(), dataProviderMethod3());
+     * </code>
+     * </pre>
+     *
+     * @param rows of all dataproviders which should be cross producted
+     * @return a reusable {@link Iterable} over the cross product of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code rows} are given
+     */
+    public static Iterable<Object[]> lazyCrossProduct(Object[][]... rows) {
+        return new CrossProduct(rows);
+    }
+
+    /**
+     * Same as {@link #lazyCrossProduct(Object[][]...)} but for single arg dataproviders.
+     *
+     * <pre>
+     * <code>
+     * Iterable&lt;Object[]&gt; r = lazyCrossProductSingleArg(dataProviderMethod1(), dataProviderMethod2());
+     * </code>
+     * </pre>
+     *
+     * @param rows of all single arg dataproviders which should be cross producted
+     * @return a reusable {@link Iterable} over the cross product of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code rows} are given
+     * @see #lazyCrossProduct(Object[][]...)
+     */
+    public static Iterable<Object[]> lazyCrossProductSingleArg(Object[]... rows) {
+        return new CrossProduct(toDimensions(rows));
+    }
+
+    /**
+     * Same as {@link #lazyCrossProduct(Object[][]...)} but returns a {@link Stream} which also supports efficient
+     * parallel traversal.
+     *
+     * <pre>
+     * <code>
+     * Stream&lt;Object[]&gt; r = crossProductStream(dataProviderMethod1(), dataProviderMethod2(), dataProviderMethod3());
+     * </code>
+     * </pre>
+     *
+     * @param rows of all dataproviders which should be cross producted
+     * @return a sequential and ordered {@link Stream} of the cross product of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code rows} are given
+     * @see #lazyCrossProduct(Object[][]...)
+     */
+    public static Stream<Object[]> crossProductStream(Object[][]... rows) {
+        return new CrossProduct(rows).stream();
+    }
+
+    /**
+     * Same as {@link #crossProductStream(Object[][]...)} but for single arg dataproviders.
+     *
+     * @param rows of all single arg dataproviders which should be cross producted
+     * @return a sequential and ordered {@link Stream} of the cross product of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code rows} are given
+     * @see #lazyCrossProduct(Object[][]...)
+     */
+    public static Stream<Object[]> crossProductStreamSingleArg(Object[]... rows) {
+        return new CrossProduct(toDimensions(rows)).stream();
+    }
+
+    /**
+     * Creates a dataprovider test for a pairwise combination of all provided dataproviders, i.e. a subset of their
+     * cross product which still contains every combination of rows of any two dataproviders at least once. This
+     * usually requires far fewer tests than {@link #lazyCrossProduct(Object[][]...)} while still covering all
+     * interactions between two dataproviders.
+     *
+     * <pre>
+     * <code>
+     * Object[][] r = pairwise(browsers(), operatingSystems(), locales(), screenSizes());
+     * </code>
+     * </pre>
+     *
+     * @param rows of all dataproviders which should be combined
+     * @return an {@link Object} array array containing a pairwise combination of the given {@code rows}; the result is
+     *         always the same for the same {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code rows} are given
+     * @see #tWise(int, long, Object[][]...)
+     */
+    public static Object[][] pairwise(Object[][]... rows) {
+        return tWise(2, 0L, rows);
+    }
+
+    /**
+     * Same as {@link #pairwise(Object[][]...)} but for single arg dataproviders.
+     *
+     * @param rows of all single arg dataproviders which should be combined
+     * @return an {@link Object} array array containing a pairwise combination of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if no {@code rows} are given
+     * @see #pairwise(Object[][]...)
+     */
+    public static Object[][] pairwiseSingleArg(Object[]... rows) {
+        return tWiseSingleArg(2, 0L, rows);
+    }
+
+    /**
+     * Creates a dataprovider test for a t-wise combination of all provided dataproviders, i.e. a subset of their cross
+     * product which still contains every combination of rows of any {@code strength} dataproviders at least once. If
+     * {@code strength} is not less than the number of dataproviders, the result contains all rows of the cross product.
+     * <p>
+     * The combinations are generated by a randomized greedy construction driven by the given {@code seed} such that the
+     * result is always the same for the same {@code strength}, {@code seed} and {@code rows}. Other seeds may lead to
+     * different combinations and a slightly different number of rows.
+     *
+     * <pre>
+     * <code>
+     * Object[][] r = tWise(3, 42L, browsers(), operatingSystems(), locales(), screenSizes());
+     * </code>
+     * </pre>
+     *
+     * @param strength number of dataproviders of which all combinations of rows must be contained, e.g. {@code 2} for
+     *            pairwise
+     * @param seed for the randomized greedy construction of the combinations
+     * @param rows of all dataproviders which should be combined
+     * @return an {@link Object} array array containing a t-wise combination of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if given {@code strength} is not positive or no {@code rows} are
+     *             given
+     */
+    public static Object[][] tWise(int strength, long seed, Object[][]... rows) {
+        return new CoveringArray(strength, seed, rows).generate();
+    }
+
+    /**
+     * Same as {@link #tWise(int, long, Object[][]...)} but for single arg dataproviders.
+     *
+     * @param strength number of dataproviders of which all combinations of rows must be contained
+     * @param seed for the randomized greedy construction of the combinations
+     * @param rows of all single arg dataproviders which should be combined
+     * @return an {@link Object} array array containing a t-wise combination of the given {@code rows}
+     * @throws NullPointerException if and only if given {@code rows} or any of them is {@code null}
+     * @throws IllegalArgumentException if and only if given {@code strength} is not positive or no {@code rows} are
+     *             given
+     * @see #tWise(int, long, Object[][]...)
+     */
+    public static Object[][] tWiseSingleArg(int strength, long seed, Object[]... rows) {
+        return new CoveringArray(strength, seed, toDimensions(rows)).generate();
+    }
+
+    private static Object[] concat(Iterable<?> row1, Iterable<?> row2) {
         List<Object> outs = new ArrayList<Object>();
         for (Object t : row1) {
             outs.add(t);
@@ -202,14 +356,16 @@ public class DataProviders {
         for (Object v : row2) {
             outs.add(v);
         }
-        return outs;
+        return outs.toArray();
     }
 
-    private static Object[][] convert(List<List<Object>> rows) {
-        Object[][] result = new Object[rows.size()][];
-        int indexOut = 0;
-        for (List<Object> row : rows) {
-            result[indexOut++] = row.toArray();
+    private static Object[][][] toDimensions(Object[]... rows) {
+        checkNotNull(rows, "'rows' must not be null");
+
+        Object[][][] result = new Object[rows.length][][];
+        for (int idx = 0; idx < rows.length; idx++) {
+            checkNotNull(rows[idx], "'rows' must not contain null");
+            result[idx] = testForEach(rows[idx]);
         }
         return result;
     }
@@ -20,7 +20,17 @@ import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
 import static com.tngtech.junit.dataprovider.Preconditions.checkState;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Class to convert dataprovider data (= arguments) to its corresponding parameters.
@@ -38,9 +48,19 @@ public class DataConverter {
      * <li>Iterable&lt;?&gt;</li>
      * <li>Object[]</li>
      * <li>String[]</li>
+     * <li>Iterator&lt;?&gt;</li>
+     * <li>Stream&lt;?&gt;</li>
+     * <li>Supplier&lt;?&gt; supplying one of the above, e.g. Supplier&lt;Stream&lt;?&gt;&gt;</li>
      * </ul>
      *
-     * Note: {@link Iterable} can be replaced by any valid subtype. As well as an arbitrary inner type is also accepted.
+     * Note: {@link Iterable}, {@link Iterator}, and {@link Stream} can be replaced by any valid subtype. As well as an
+     * arbitrary inner type is also accepted. The elements of an {@link Iterator} or a {@link Stream} are treated the
+     * same way as the elements of an {@link Iterable}. Elements being an {@link Object}{@code []} are treated as
+     * arguments of a single test (like the elements of an {@code Object[][]}) except if the test method has a single
+     * parameter which accepts the array itself, e.g. for {@code Iterable<Object[]>} or {@code Stream<Object[]>} (see
+     * {@code DataProviders#lazyCrossProduct(Object[][]...)}). An {@link Iterator} and a {@link Stream} can only be
+     * consumed once (see also {@link #isReusable(Object)}), whereas a {@link Supplier} is asked for new data on every
+     * conversion. A given {@link Stream} (also if supplied) is closed after it has been consumed completely.
      *
      * @param data to be converted
      * @param isVarargs determines whether test method has a varargs parameter
@@ -52,11 +72,128 @@ public class DataConverter {
      * @throws IllegalArgumentException if and only if given {@code parameterTypes} are empty
      * @throws IllegalStateException if and only if given {@code context} is {@code null} but data is {@code String[]}
      * @throws ClassCastException if and only if {@code data} is not a compatible type
+     * @see #convertToIterator(Object, boolean, Class[], ConverterContext)
      */
     public List<Object[]> convert(Object data, boolean isVarargs, Class<?>[] parameterTypes, ConverterContext context) {
+        checkParameterTypes(parameterTypes);
+
+        Object source = supply(data);
+        try {
+            Iterator<Object[]> iterator = iterator(source, isVarargs, parameterTypes, context);
+
+            int expectedSize = sizeOf(source);
+            List<Object[]> result = new ArrayList<Object[]>((expectedSize >= 0) ? expectedSize : 10);
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+            return result;
+
+        } finally {
+            if (source instanceof BaseStream) {
+                ((BaseStream<?, ?>) source).close();
+            }
+        }
+    }
+
+    /**
+     * Converts the given {@link Object} lazily to a {@link Stream} of {@link Object}{@code []} with {@link Class}es
+     * correspond to given {@code parameterTypes}. Each row is only converted as soon as it is pulled from the returned
+     * {@link Stream} such that the converted data never has to be held in memory completely.
+     * <p>
+     * For supported types, see {@link #convert(Object, boolean, Class[], ConverterContext)}.
+     *
+     * @param data to be converted
+     * @param isVarargs determines whether test method has a varargs parameter
+     * @param parameterTypes required types for {@code data}
+     * @param context containing settings which should be used to convert given {@code data} (only required for
+     *            converting {@code String[]})
+     * @return a sequential and ordered {@link Stream} of converted data with the required {@code parameterTypes};
+     *         closing it also closes a given {@link Stream} {@code data}
+     * @throws NullPointerException if and only if given {@code parameterTypes} are {@code null}
+     * @throws IllegalArgumentException if and only if given {@code parameterTypes} are empty
+     * @throws IllegalStateException if and only if given {@code context} is {@code null} but data is {@code String[]}
+     * @throws ClassCastException if and only if {@code data} is not a compatible type
+     * @see #convertToIterator(Object, boolean, Class[], ConverterContext)
+     */
+    public Stream<Object[]> convertToStream(Object data, boolean isVarargs, Class<?>[] parameterTypes,
+            ConverterContext context) {
+        checkParameterTypes(parameterTypes);
+
+        final Object source = supply(data);
+        Iterator<Object[]> iterator = iterator(source, isVarargs, parameterTypes, context);
+
+        int expectedSize = sizeOf(source);
+        Spliterator<Object[]> spliterator;
+        if (expectedSize >= 0) {
+            spliterator = Spliterators.spliterator(iterator, expectedSize, Spliterator.ORDERED);
+        } else {
+            spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+        }
+
+        Stream<Object[]> result = StreamSupport.stream(spliterator, false);
+        if (source instanceof BaseStream) {
+            result = result.onClose(new Runnable() {
+                @Override
+                public void run() {
+                    ((BaseStream<?, ?>) source).close();
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * Converts the given {@link Object} lazily to an {@link Iterator} of {@link Object}{@code []} with {@link Class}es
+     * correspond to given {@code parameterTypes}. The arguments are checked eagerly, whereas each row is converted not
+     * until {@link Iterator#next()} is called. Therefore conversion errors of a row are also thrown not until then.
+     * <p>
+     * For supported types, see {@link #convert(Object, boolean, Class[], ConverterContext)}.
+     *
+     * @param data to be converted
+     * @param isVarargs determines whether test method has a varargs parameter
+     * @param parameterTypes required types for {@code data}
+     * @param context containing settings which should be used to convert given {@code data} (only required for
+     *            converting {@code String[]})
+     * @return an unmodifiable {@link Iterator} over the converted data with the required {@code parameterTypes}
+     * @throws NullPointerException if and only if given {@code parameterTypes} are {@code null}
+     * @throws IllegalArgumentException if and only if given {@code parameterTypes} are empty
+     * @throws IllegalStateException if and only if given {@code context} is {@code null} but data is {@code String[]}
+     * @throws ClassCastException if and only if {@code data} is not a compatible type
+     */
+    public Iterator<Object[]> convertToIterator(Object data, boolean isVarargs, Class<?>[] parameterTypes,
+            ConverterContext context) {
+        checkParameterTypes(parameterTypes);
+        return iterator(supply(data), isVarargs, parameterTypes, context);
+    }
+
+    /**
+     * Determines whether the given {@code data} can be converted multiple times. This is not the case for single-use
+     * sources like {@link Iterator}s and {@link Stream}s which can only be consumed once. Such data must not be cached
+     * in order to be converted again later on. Instead the dataprovider has to be invoked again.
+     * <p>
+     * Note: A {@link Supplier} is reusable as it is expected to supply new data on every call.
+     *
+     * @param data to be checked
+     * @return {@code true} if and only if the given {@code data} can be converted more than once
+     */
+    public static boolean isReusable(Object data) {
+        return !(data instanceof Iterator || data instanceof BaseStream);
+    }
+
+    private void checkParameterTypes(Class<?>[] parameterTypes) {
         checkNotNull(parameterTypes, "'parameterTypes' must not be null");
         checkArgument(parameterTypes.length != 0, "'parameterTypes' must not be empty");
+    }
 
+    private Object supply(Object data) {
+        if (data instanceof Supplier) {
+            return ((Supplier<?>) data).get();
+        }
+        return data;
+    }
+
+    private Iterator<Object[]> iterator(Object data, boolean isVarargs, Class<?>[] parameterTypes,
+            ConverterContext context) {
         if (data instanceof Object[][]) {
             return convert((Object[][]) data, isVarargs, parameterTypes, context);
 
@@ -70,61 +207,142 @@ public class DataConverter {
         } else if (data instanceof Iterable) {
             @SuppressWarnings("rawtypes")
             Iterable iterableData = (Iterable) data;
-            return convert(iterableData, isVarargs, parameterTypes, context);
+            return convert(iterableData.iterator(), isVarargs, parameterTypes, context);
+
+        } else if (data instanceof Iterator) {
+            @SuppressWarnings("rawtypes")
+            Iterator iteratorData = (Iterator) data;
+            return convert(iteratorData, isVarargs, parameterTypes, context);
+
+        } else if (data instanceof Stream) {
+            @SuppressWarnings("rawtypes")
+            Stream streamData = (Stream) data;
+            return convert(streamData.iterator(), isVarargs, parameterTypes, context);
         }
-        throw new ClassCastException(
-                String.format("Cannot cast to either Object[][], Object[], String[], or Iterable because data was: %s", data));
+        throw new ClassCastException(String.format(
+                "Cannot cast to either Object[][], Object[], String[], Iterable, Iterator, Stream, or Supplier because data was: %s",
+                data));
     }
 
-    private List<Object[]> convert(Object[][] data, boolean isVarargs, Class<?>[] parameterTypes,
-            ConverterContext config) {
-        List<Object[]> result = new ArrayList<Object[]>();
-        for (Object[] arguments : data) {
-            result.add(config.getObjectArrayConverter().convert(arguments, isVarargs, parameterTypes));
-        }
-        return result;
+    private Iterator<Object[]> convert(Object[][] data, final boolean isVarargs, final Class<?>[] parameterTypes,
+            final ConverterContext context) {
+        return new ConvertingIterator<Object[]>(Arrays.asList(data).iterator()) {
+            @Override
+            protected Object[] convert(Object[] arguments, int rowIdx) {
+                return context.getObjectArrayConverter().convert(arguments, isVarargs, parameterTypes);
+            }
+        };
     }
 
-    private List<Object[]> convert(String[] data, boolean isVarargs, Class<?>[] parameterTypes,
-            ConverterContext context) {
-        List<Object[]> result = new ArrayList<Object[]>();
-        int idx = 0;
-        for (String argString : data) {
-            result.add(context.getStringConverter().convert(argString, isVarargs, parameterTypes, context, idx++));
-        }
-        return result;
+    private Iterator<Object[]> convert(String[] data, final boolean isVarargs, final Class<?>[] parameterTypes,
+            final ConverterContext context) {
+        return new ConvertingIterator<String>(Arrays.asList(data).iterator()) {
+            @Override
+            protected Object[] convert(String argString, int rowIdx) {
+                return context.getStringConverter().convert(argString, isVarargs, parameterTypes, context, rowIdx);
+            }
+        };
     }
 
-    private List<Object[]> convert(Object[] data, boolean isVarargs, Class<?>[] parameterTypes,
-            ConverterContext context) {
-        List<Object[]> result = new ArrayList<Object[]>();
-        for (Object argument : data) {
-            result.add(context.getSingleArgConverter().convert(argument, isVarargs, parameterTypes));
-        }
-        return result;
+    private Iterator<Object[]> convert(Object[] data, final boolean isVarargs, final Class<?>[] parameterTypes,
+            final ConverterContext context) {
+        return new ConvertingIterator<Object>(Arrays.asList(data).iterator()) {
+            @Override
+            protected Object[] convert(Object argument, int rowIdx) {
+                return context.getSingleArgConverter().convert(argument, isVarargs, parameterTypes);
+            }
+        };
     }
 
-    private List<Object[]> convert(Iterable<?> data, boolean isVarargs, Class<?>[] parameterTypes,
-            ConverterContext context) {
-        List<Object[]> result = new ArrayList<Object[]>();
-        for (Object arguments : data) {
-            if (arguments != null && Iterable.class.isAssignableFrom(arguments.getClass())) {
-                @SuppressWarnings("rawtypes")
-                Iterable iterable = (Iterable) arguments;
-                result.add(context.getObjectArrayConverter().convert(toArray(iterable), isVarargs, parameterTypes));
-
-            } else {
-                result.add(context.getSingleArgConverter().convert(arguments, isVarargs, parameterTypes));
+    private Iterator<Object[]> convert(Iterator<?> data, final boolean isVarargs, final Class<?>[] parameterTypes,
+            final ConverterContext context) {
+        return new ConvertingIterator<Object>(data) {
+            @Override
+            protected Object[] convert(Object arguments, int rowIdx) {
+                if (arguments != null && Iterable.class.isAssignableFrom(arguments.getClass())) {
+                    @SuppressWarnings("rawtypes")
+                    Iterable iterable = (Iterable) arguments;
+                    return context.getObjectArrayConverter().convert(toArray(iterable), isVarargs, parameterTypes);
+                }
+                if (arguments instanceof Object[] && !isSingleArgument(arguments, isVarargs, parameterTypes)) {
+                    return context.getObjectArrayConverter().convert((Object[]) arguments, isVarargs, parameterTypes);
+                }
+                return context.getSingleArgConverter().convert(arguments, isVarargs, parameterTypes);
             }
-        }
-        return result;
+        };
+    }
+
+    /**
+     * @return {@code true} if and only if the given {@link Object} array {@code arguments} can be passed as single
+     *         argument to a test method with the given {@code parameterTypes}, e.g. to {@code test(String[] arg)}
+     */
+    private boolean isSingleArgument(Object arguments, boolean isVarargs, Class<?>[] parameterTypes) {
+        return !isVarargs && parameterTypes.length == 1 && parameterTypes[0].isInstance(arguments);
     }
 
     private Object[] toArray(Iterable<?> iterable) {
+        if (iterable instanceof Collection) {
+            return ((Collection<?>) iterable).toArray();
+        }
         List<Object> list = new ArrayList<Object>();
         for (Object element : iterable) {
             list.add(element);
         }
         return list.toArray();
     }
+
+    /**
+     * @param data to be converted
+     * @return the number of rows of given {@code data} if known in advance without iterating it, {@code -1} otherwise
+     */
+    private int sizeOf(Object data) {
+        if (data instanceof Object[]) {
+            return ((Object[]) data).length;
+        } else if (data instanceof Collection) {
+            return ((Collection<?>) data).size();
+        }
+        return -1;
+    }
+
+    /**
+     * Read-only {@link Iterator} which converts each element of the given source {@link Iterator} not until it is
+     * requested using {@link #next()}.
+     *
+     * @param <T> type of the elements of the source {@link Iterator}
+     */
+    private abstract static class ConvertingIterator<T> implements Iterator<Object[]> {
+
+        private final Iterator<? extends T> source;
+        private int rowIdx;
+
+        ConvertingIterator(Iterator<? extends T> source) {
+            this.source = source;
+            this.rowIdx = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return source.hasNext();
+        }
+
+        @Override
+        public Object[] next() {
+            if (!source.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return convert(source.next(), rowIdx++);
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("remove");
+        }
+
+        /**
+         * @param element to be converted
+         * @param rowIdx index of the given {@code element} (row) for better error messages
+         * @return the converted {@code element}
+         */
+        protected abstract Object[] convert(T element, int rowIdx);
+    }
 }
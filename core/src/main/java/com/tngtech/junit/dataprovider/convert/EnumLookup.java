@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.convert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Looks up {@link Enum} constants by name, either case-sensitive or case-insensitive. The lookup maps are built only
+ * once per {@link Enum} type and cached globally using a {@link ClassValue}.
+ * <p>
+ * The case-insensitive lookup uses {@link String#CASE_INSENSITIVE_ORDER}, which is equivalent to
+ * {@link String#equalsIgnoreCase(String)}, such that no folded copy of the requested name is created. It returns the
+ * first matching constant in declaration order if multiple constants only differ in case.
+ */
+final class EnumLookup {
+
+    private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<EnumLookup>() {
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+
+    /**
+     * @param enumType for which the {@link EnumLookup} is requested; must be an {@link Enum} type
+     * @return the cached {@link EnumLookup} for the given {@code enumType}; never {@code null}
+     */
+    static EnumLookup forType(Class<?> enumType) {
+        return LOOKUPS.get(enumType);
+    }
+
+    private final Map<String, Enum<?>> constantsByName;
+    private final Map<String, Enum<?>> constantsByNameIgnoringCase;
+
+    private EnumLookup(Class<?> enumType) {
+        Object[] enumConstants = enumType.getEnumConstants();
+        if (enumConstants == null) {
+            throw new IllegalArgumentException(String.format("'%s' is not an enum type", enumType.getName()));
+        }
+
+        this.constantsByName = new HashMap<String, Enum<?>>(enumConstants.length * 4 / 3 + 1);
+        this.constantsByNameIgnoringCase = new TreeMap<String, Enum<?>>(String.CASE_INSENSITIVE_ORDER);
+        for (Object enumConstant : enumConstants) {
+            Enum<?> constant = (Enum<?>) enumConstant;
+            constantsByName.put(constant.name(), constant);
+
+            if (!constantsByNameIgnoringCase.containsKey(constant.name())) {
+                constantsByNameIgnoringCase.put(constant.name(), constant);
+            }
+        }
+    }
+
+    /**
+     * @param name of the requested {@link Enum} constant
+     * @param ignoreCase {@code true} if and only if the case of the {@code name} should be ignored
+     * @return the {@link Enum} constant with given {@code name} or {@code null} if no such constant exists
+     */
+    Enum<?> get(String name, boolean ignoreCase) {
+        if (ignoreCase) {
+            return constantsByNameIgnoringCase.get(name);
+        }
+        return constantsByName.get(name);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.convert;
+
+import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Splits regex-separated {@link String} {@code data} by a delimiting regular expression which is compiled only once.
+ * <p>
+ * The result is the same as of {@code (data + "\0").split(regex)} with the added null terminator removed again
+ * afterwards, i.e. trailing empty {@link String}s are kept. If the regular expression is a plain literal, e.g.
+ * {@code ","}, {@code ";"}, or {@code "\\|"}, the {@code data} is scanned using {@link String#indexOf(String, int)}
+ * without using any regular expression machinery at all.
+ */
+abstract class Splitter {
+
+    private static final String REGEX_META_CHARACTERS = ".$|()[{^?*+\\";
+
+    /**
+     * @param regex the delimiting regular expression
+     * @return a {@link Splitter} for the given {@code regex}
+     * @throws NullPointerException if and only if given {@code regex} is {@code null}
+     * @throws java.util.regex.PatternSyntaxException if and only if given {@code regex} is invalid
+     */
+    static Splitter of(String regex) {
+        checkNotNull(regex, "'regex' must not be null");
+
+        String literal = toLiteral(regex);
+        if (literal != null) {
+            return new LiteralSplitter(literal);
+        }
+        return new PatternSplitter(regex);
+    }
+
+    /**
+     * Determines the literal matched by the given {@code regex}, i.e. either the {@code regex} itself if it does not
+     * contain any regular expression meta character, or the escaped character if {@code regex} is a single escaped
+     * non-alphanumeric character.
+     *
+     * @param regex the delimiting regular expression
+     * @return the literal matched by {@code regex} or {@code null} if it is no simple literal
+     */
+    private static String toLiteral(String regex) {
+        if (regex.isEmpty() || regex.indexOf('\0') >= 0) {
+            return null;
+        }
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            char escaped = regex.charAt(1);
+            if (!Character.isLetterOrDigit(escaped) && escaped < Character.MIN_HIGH_SURROGATE) {
+                return String.valueOf(escaped);
+            }
+            return null;
+        }
+        for (int idx = 0; idx < regex.length(); idx++) {
+            if (REGEX_META_CHARACTERS.indexOf(regex.charAt(idx)) >= 0) {
+                return null;
+            }
+        }
+        return regex;
+    }
+
+    /**
+     * @param data regex-separated {@link String} to be split; must not be {@code null}
+     * @return the split {@code data}
+     */
+    abstract String[] split(String data);
+
+    private static final class LiteralSplitter extends Splitter {
+        private final String literal;
+
+        LiteralSplitter(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        String[] split(String data) {
+            int literalLength = literal.length();
+
+            int count = 1;
+            for (int idx = data.indexOf(literal); idx >= 0; idx = data.indexOf(literal, idx + literalLength)) {
+                count++;
+            }
+
+            String[] result = new String[count];
+            int resultIdx = 0;
+            int start = 0;
+            for (int idx = data.indexOf(literal); idx >= 0; idx = data.indexOf(literal, start)) {
+                result[resultIdx++] = data.substring(start, idx);
+                start = idx + literalLength;
+            }
+            result[resultIdx] = data.substring(start);
+            return result;
+        }
+    }
+
+    private static final class PatternSplitter extends Splitter {
+        private final Pattern pattern;
+
+        PatternSplitter(String regex) {
+            this.pattern = Pattern.compile(regex);
+        }
+
+        @Override
+        String[] split(String data) {
+            // add trailing null terminator that split for "regex" ending data works properly
+            String[] splitData = pattern.split(data + "\0");
+
+            // remove added null terminator
+            int lastItemIdx = splitData.length - 1;
+            splitData[lastItemIdx] = splitData[lastItemIdx].substring(0, splitData[lastItemIdx].length() - 1);
+
+            return splitData;
+        }
+    }
+}
@@ -16,12 +16,68 @@
 package com.tngtech.junit.dataprovider.convert;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class StringConverter {
 
     protected static final Object OBJECT_NO_CONVERSION = new Object();
 
+    private static final int MAX_CACHED_SPLITTERS = 64;
+
+    /**
+     * Names of the protected conversion methods which, if overridden, must be called for every value instead of using
+     * the precomputed {@link ValueParser}s.
+     */
+    private static final List<String> CONVERSION_METHOD_NAMES = Arrays.asList("convertPrimaryOrWrapper",
+            "convertToLong", "convertToEnumValue", "tryConvertUsingSingleStringParamConstructor");
+
+    private static final ClassValue<Boolean> OVERRIDES_CONVERSION_METHODS = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> clazz = type; !StringConverter.class.equals(clazz); clazz = clazz.getSuperclass()) {
+                for (Method method : clazz.getDeclaredMethods()) {
+                    if (CONVERSION_METHOD_NAMES.contains(method.getName())) {
+                        return Boolean.TRUE;
+                    }
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
+    private static final ValueParser STRING_PARSER = new ValueParser(String.class) {
+        @Override
+        Object parse(String str, ConverterContext context) {
+            return str;
+        }
+    };
+
+    private static final ValueParser CLASS_PARSER = new ValueParser(Class.class) {
+        @Override
+        Object parse(String str, ConverterContext context) {
+            return convertToClass(str, targetType);
+        }
+    };
+
+    /**
+     * {@link ConversionPlan}s by the parameter types and varargs flag they were built for. As all rows of a
+     * dataprovider are converted using the same parameter types, the plan is built only once per test method.
+     */
+    private final ConcurrentMap<PlanKey, ConversionPlan> conversionPlans = new ConcurrentHashMap<PlanKey, ConversionPlan>();
+
+    /**
+     * {@link Splitter}s by their delimiting regular expression such that each one is compiled only once, no matter how
+     * many dataproviders using different ones are converted alternately. It is cleared completely if it reaches
+     * {@link #MAX_CACHED_SPLITTERS} entries to keep it bounded.
+     */
+    private final ConcurrentMap<String, Splitter> splitters = new ConcurrentHashMap<String, Splitter>();
+
     /**
      * Converts the given {@code data} to its corresponding arguments using the given {@code parameterTypes} and other
      * provided information.
@@ -46,7 +102,7 @@ public class StringConverter {
                     return new Object[] { Array.newInstance(parameterTypes[0].getComponentType(), 0) };
                 }
             } else {
-                return new Object[] { convertValue(data, parameterTypes[0], context) };
+                return new Object[] { convertValue(data, getConversionPlan(isVarargs, parameterTypes).parsers[0], context) };
             }
         }
 
@@ -58,14 +114,18 @@ public class StringConverter {
     }
 
     protected String[] splitBy(String data, String regex) {
-        // add trailing null terminator that split for "regex" ending data works properly
-        String[] splitData = (data + "\0").split(regex);
-
-        // remove added null terminator
-        int lastItemIdx = splitData.length - 1;
-        splitData[lastItemIdx] = splitData[lastItemIdx].substring(0, splitData[lastItemIdx].length() - 1);
-
-        return splitData;
+        Splitter splitter = splitters.get(regex);
+        if (splitter == null) {
+            if (splitters.size() >= MAX_CACHED_SPLITTERS) {
+                splitters.clear();
+            }
+            Splitter newSplitter = Splitter.of(regex);
+            splitter = splitters.putIfAbsent(regex, newSplitter);
+            if (splitter == null) {
+                splitter = newSplitter;
+            }
+        }
+        return splitter.split(data);
     }
 
     protected void checkArgumentsAndParameterCount(int argCount, int paramCount, boolean isVarargs, int rowIdx) {
@@ -77,37 +137,94 @@ public class StringConverter {
     }
 
     private Object[] convert(String[] splitData, boolean isVarargs, Class<?>[] parameterTypes, ConverterContext context) {
-        Object[] result= new Object[(isVarargs) ? parameterTypes.length : splitData.length];
+        ValueParser[] parsers = getConversionPlan(isVarargs, parameterTypes).parsers;
+
+        Object[] result = new Object[(isVarargs) ? parameterTypes.length : splitData.length];
 
         int nonVarargParametersLength = (isVarargs) ? parameterTypes.length - 1 : splitData.length;
         for (int idx = 0; idx < nonVarargParametersLength; idx++) {
-            result[idx] = convertValue(splitData[idx], parameterTypes[idx], context);
+            result[idx] = convertValue(splitData[idx], parsers[idx], context);
         }
 
         if (isVarargs) {
-            Class<?> varargComponentType = parameterTypes[nonVarargParametersLength].getComponentType();
+            ValueParser varargParser = parsers[nonVarargParametersLength];
 
-            Object varargArray = Array.newInstance(varargComponentType, splitData.length - parameterTypes.length + 1);
+            Object varargArray = Array.newInstance(varargParser.targetType, splitData.length - parameterTypes.length + 1);
             for (int idx = nonVarargParametersLength; idx < splitData.length; idx++) {
-                Array.set(varargArray, idx - nonVarargParametersLength,
-                        convertValue(splitData[idx], varargComponentType, context));
+                Array.set(varargArray, idx - nonVarargParametersLength, convertValue(splitData[idx], varargParser, context));
             }
             result[nonVarargParametersLength] = varargArray;
         }
         return result;
     }
 
-    private Object convertValue(String data, Class<?> targetType, ConverterContext context) {
+    private ConversionPlan getConversionPlan(boolean isVarargs, Class<?>[] parameterTypes) {
+        PlanKey key = new PlanKey(isVarargs, parameterTypes);
+        ConversionPlan result = conversionPlans.get(key);
+        if (result == null) {
+            result = new ConversionPlan(createParsers(isVarargs, parameterTypes));
+            ConversionPlan existing = conversionPlans.putIfAbsent(new PlanKey(isVarargs, parameterTypes.clone()), result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+        return result;
+    }
+
+    private ValueParser[] createParsers(boolean isVarargs, Class<?>[] parameterTypes) {
+        boolean overridesConversionMethods = OVERRIDES_CONVERSION_METHODS.get(getClass()).booleanValue();
+
+        ValueParser[] result = new ValueParser[parameterTypes.length];
+        for (int idx = 0; idx < parameterTypes.length; idx++) {
+            Class<?> targetType = parameterTypes[idx];
+            if (isVarargs && idx == parameterTypes.length - 1) {
+                targetType = targetType.getComponentType();
+            }
+            result[idx] = (overridesConversionMethods) ? new ExtensionPointParser(targetType) : createParser(targetType);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a {@link ValueParser} for the given {@code targetType} which directly applies the conversion of
+     * {@link #convertPrimaryOrWrapper(String, Class)}, {@link #convertToEnumValue(String, Class, boolean)}, or
+     * {@link #tryConvertUsingSingleStringParamConstructor(String, Class)} applicable for it.
+     */
+    private static ValueParser createParser(Class<?> targetType) {
+        if (String.class.equals(targetType)) {
+            return STRING_PARSER;
+        }
+        PrimitiveOrWrapper primitiveOrWrapper = PrimitiveOrWrapper.of(targetType);
+        if (primitiveOrWrapper != null) {
+            return new PrimitiveOrWrapperParser(targetType, primitiveOrWrapper);
+        }
+        if (targetType.isEnum()) {
+            return new EnumParser(targetType);
+        }
+        if (Class.class.equals(targetType)) {
+            return CLASS_PARSER;
+        }
+        return new StringFactoryParser(targetType);
+    }
+
+    private Object convertValue(String data, ValueParser parser, ConverterContext context) {
         String str = (context.isTrimValues()) ? data.trim() : data;
         if (context.isConvertNulls() && ConverterContext.NULL.equals(str)) {
             return null;
         }
 
-        Object tmp = customConvertValue(str, targetType, context);
+        Object tmp = customConvertValue(str, parser.targetType, context);
         if (tmp != OBJECT_NO_CONVERSION) {
             return tmp;
         }
+        return parser.parse(str, context);
+    }
 
+    /**
+     * Converts the given {@code str} by calling the protected conversion methods one after another such that
+     * overriding them takes effect.
+     */
+    private Object convertUsingExtensionPoints(String str, Class<?> targetType, ConverterContext context) {
         if (String.class.equals(targetType)) {
             return str;
         }
@@ -124,22 +241,14 @@ public class StringConverter {
         }
 
         if (Class.class.equals(targetType)) {
-            try {
-                return Class.forName(str);
-            } catch (Exception e) {
-                throw new IllegalArgumentException(
-                        String.format("Unable to instantiate '%s' for '%s'", targetType.getSimpleName(), str), e);
-            }
+            return convertToClass(str, targetType);
         }
 
         Object result = tryConvertUsingSingleStringParamConstructor(str, targetType);
         if (result != null) {
             return result;
         }
-
-        throw new IllegalArgumentException(String.format(
-                "Type '%s' is not supported as parameter type of test methods. Supported types are primitive types and their wrappers, 'Enum' values, 'String's, and types having a single 'String' parameter constructor.",
-                targetType.getSimpleName()));
+        throw unsupportedTargetType(targetType);
     }
 
     /**
@@ -157,85 +266,291 @@ public class StringConverter {
     }
 
     protected Object convertPrimaryOrWrapper(String str, Class<?> targetType) {
+        PrimitiveOrWrapper primitiveOrWrapper = PrimitiveOrWrapper.of(targetType);
+        if (primitiveOrWrapper == null) {
+            return null;
+        }
+        try {
+            if (primitiveOrWrapper == PrimitiveOrWrapper.LONG) {
+                return convertToLong(str);
+            }
+            return primitiveOrWrapper.parse(str, targetType);
+        } catch (NumberFormatException e) {
+            throw cannotConvert(str, targetType, e);
+        }
+    }
+
+    protected Object convertToLong(String str) {
+        return parseLong(str);
+    }
+
+    @SuppressWarnings("rawtypes")
+    protected Object convertToEnumValue(String str, Class<Enum> enumType, boolean ignoreEnumCase) {
+        return lookupEnumValue(str, EnumLookup.forType(enumType), enumType, ignoreEnumCase);
+    }
+
+    /**
+     * Tries to convert the given {@link String} using a public constructor of {@code targetType} having a single
+     * {@link String} parameter. If there is no such constructor, a public static factory method
+     * {@code valueOf(String)}, {@code parse(CharSequence)}, or {@code parse(String)} returning {@code targetType} is
+     * used instead.
+     * <p>
+     * The constructor or factory method is looked up only once per {@code targetType} and invoked via a cached
+     * {@link java.lang.invoke.MethodHandle} afterwards.
+     *
+     * @param str value to be converted
+     * @param targetType target type into which value should be converted
+     * @return to target type converted {@link String} or {@code null} if no applicable constructor or factory method
+     *         exists
+     * @throws IllegalArgumentException if and only if the applicable constructor or factory method throws an exception
+     */
+    protected Object tryConvertUsingSingleStringParamConstructor(String str, Class<?> targetType) {
+        return StringFactory.forType(targetType).create(str);
+    }
+
+    private static Long parseLong(String str) {
+        String longStr = str;
+        if (longStr.endsWith("l")) {
+            longStr = longStr.substring(0, longStr.length() - 1);
+        }
+        return Long.valueOf(longStr);
+    }
+
+    private static Enum<?> lookupEnumValue(String str, EnumLookup lookup, Class<?> enumType, boolean ignoreEnumCase) {
+        Enum<?> result = lookup.get(str, ignoreEnumCase);
+        if (result != null) {
+            return result;
+        }
+
+        String errorMessage = "'%s' is not a valid value of enum '%s'.";
+        if (!ignoreEnumCase) {
+            errorMessage += " Please be aware of case sensitivity or use 'ignoreEnumCase'. Error was: No enum constant "
+                    + enumType.getCanonicalName() + "." + str;
+        }
+        throw new IllegalArgumentException(String.format(errorMessage, str, enumType.getSimpleName()));
+    }
+
+    private static Class<?> convertToClass(String str, Class<?> targetType) {
         try {
-            if (boolean.class.equals(targetType) || Boolean.class.equals(targetType)) {
+            return Class.forName(str);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(
+                    String.format("Unable to instantiate '%s' for '%s'", targetType.getSimpleName(), str), e);
+        }
+    }
+
+    private static IllegalArgumentException cannotConvert(String str, Class<?> targetType, NumberFormatException e) {
+        return new IllegalArgumentException(
+                String.format("Cannot convert '%s' to type '%s'", str, targetType.getSimpleName()), e);
+    }
+
+    private static IllegalArgumentException unsupportedTargetType(Class<?> targetType) {
+        return new IllegalArgumentException(String.format(
+                "Type '%s' is not supported as parameter type of test methods. Supported types are primitive types and their wrappers, 'Enum' values, 'String's, and types having a single 'String' parameter constructor or a static 'valueOf(String)' or 'parse(CharSequence)' factory method.",
+                targetType.getSimpleName()));
+    }
+
+    /**
+     * Primitive types and their wrappers supported by {@link StringConverter#convertPrimaryOrWrapper(String, Class)}.
+     */
+    private enum PrimitiveOrWrapper {
+        BOOLEAN(boolean.class, Boolean.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 return Boolean.valueOf(str);
             }
-            if (byte.class.equals(targetType) || Byte.class.equals(targetType)) {
+        },
+        BYTE(byte.class, Byte.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 return Byte.valueOf(str);
             }
-            if (char.class.equals(targetType) || Character.class.equals(targetType)) {
+        },
+        CHAR(char.class, Character.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 if (str.length() == 1) {
                     return str.charAt(0);
                 }
                 throw new IllegalArgumentException(
                         String.format("'%s' cannot be converted to type '%s'.", str, targetType.getSimpleName()));
             }
-            if (short.class.equals(targetType) || Short.class.equals(targetType)) {
+        },
+        SHORT(short.class, Short.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 return Short.valueOf(str);
             }
-            if (int.class.equals(targetType) || Integer.class.equals(targetType)) {
+        },
+        INT(int.class, Integer.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 return Integer.valueOf(str);
             }
-            if (long.class.equals(targetType) || Long.class.equals(targetType)) {
-                return convertToLong(str);
+        },
+        LONG(long.class, Long.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
+                return parseLong(str);
             }
-            if (float.class.equals(targetType) || Float.class.equals(targetType)) {
+        },
+        FLOAT(float.class, Float.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 return Float.valueOf(str);
             }
-            if (double.class.equals(targetType) || Double.class.equals(targetType)) {
+        },
+        DOUBLE(double.class, Double.class) {
+            @Override
+            Object parse(String str, Class<?> targetType) {
                 return Double.valueOf(str);
             }
-        } catch (NumberFormatException e) {
-            throw new IllegalArgumentException(
-                    String.format("Cannot convert '%s' to type '%s'", str, targetType.getSimpleName()), e);
+        };
+
+        private static final Map<Class<?>, PrimitiveOrWrapper> BY_TYPE = new HashMap<Class<?>, PrimitiveOrWrapper>();
+        static {
+            for (PrimitiveOrWrapper primitiveOrWrapper : values()) {
+                BY_TYPE.put(primitiveOrWrapper.primitiveType, primitiveOrWrapper);
+                BY_TYPE.put(primitiveOrWrapper.wrapperType, primitiveOrWrapper);
+            }
+        }
+
+        private final Class<?> primitiveType;
+        private final Class<?> wrapperType;
+
+        PrimitiveOrWrapper(Class<?> primitiveType, Class<?> wrapperType) {
+            this.primitiveType = primitiveType;
+            this.wrapperType = wrapperType;
+        }
+
+        /**
+         * @throws NumberFormatException if and only if {@code str} is not a valid number
+         */
+        abstract Object parse(String str, Class<?> targetType);
+
+        static PrimitiveOrWrapper of(Class<?> targetType) {
+            return BY_TYPE.get(targetType);
         }
-        return null;
     }
 
-    protected Object convertToLong(String str) {
-        String longStr = str;
-        if (longStr.endsWith("l")) {
-            longStr = longStr.substring(0, longStr.length() - 1);
+    /**
+     * Precomputed conversion of the values of a single parameter (column) which are neither {@code null} nor converted
+     * by {@link StringConverter#customConvertValue(String, Class, ConverterContext)}.
+     */
+    private abstract static class ValueParser {
+        final Class<?> targetType;
+
+        ValueParser(Class<?> targetType) {
+            this.targetType = targetType;
         }
-        return Long.valueOf(longStr);
+
+        abstract Object parse(String str, ConverterContext context);
     }
 
-    @SuppressWarnings("rawtypes")
-    protected Object convertToEnumValue(String str, Class<Enum> enumType, boolean ignoreEnumCase) {
-        String errorMessage = "'%s' is not a valid value of enum '%s'.";
-        if (ignoreEnumCase) {
-            for (Enum<?> enumConstant : enumType.getEnumConstants()) {
-                if (str.equalsIgnoreCase(enumConstant.name())) {
-                    return enumConstant;
-                }
-            }
-        } else {
+    private static final class PrimitiveOrWrapperParser extends ValueParser {
+        private final PrimitiveOrWrapper primitiveOrWrapper;
+
+        PrimitiveOrWrapperParser(Class<?> targetType, PrimitiveOrWrapper primitiveOrWrapper) {
+            super(targetType);
+            this.primitiveOrWrapper = primitiveOrWrapper;
+        }
+
+        @Override
+        Object parse(String str, ConverterContext context) {
             try {
-                @SuppressWarnings("unchecked")
-                Enum result = Enum.valueOf(enumType, str);
-                return result;
+                return primitiveOrWrapper.parse(str, targetType);
+            } catch (NumberFormatException e) {
+                throw cannotConvert(str, targetType, e);
+            }
+        }
+    }
+
+    private static final class EnumParser extends ValueParser {
+        private final EnumLookup lookup;
 
-            } catch (IllegalArgumentException e) {
-                errorMessage += " Please be aware of case sensitivity or use 'ignoreEnumCase'. Error was: " + e.getMessage();
+        EnumParser(Class<?> targetType) {
+            super(targetType);
+            this.lookup = EnumLookup.forType(targetType);
+        }
+
+        @Override
+        Object parse(String str, ConverterContext context) {
+            return lookupEnumValue(str, lookup, targetType, context.isIgnoreEnumCase());
+        }
+    }
+
+    private static final class StringFactoryParser extends ValueParser {
+        private final StringFactory factory;
+
+        StringFactoryParser(Class<?> targetType) {
+            super(targetType);
+            this.factory = StringFactory.forType(targetType);
+        }
+
+        @Override
+        Object parse(String str, ConverterContext context) {
+            Object result = factory.create(str);
+            if (result != null) {
+                return result;
             }
+            throw unsupportedTargetType(targetType);
         }
-        throw new IllegalArgumentException(String.format(errorMessage, str, enumType.getSimpleName()));
     }
 
-    protected Object tryConvertUsingSingleStringParamConstructor(String str, Class<?> targetType) {
-        for (Constructor<?> constructor : targetType.getConstructors()) {
-            if (constructor.getParameterTypes().length == 1 && String.class.equals(constructor.getParameterTypes()[0])) {
-                try {
-                    return constructor.newInstance(str);
-                } catch (Exception e) {
-                    throw new IllegalArgumentException(
-                            String.format("Tried to invoke '%s' for argument '%s'. Exception was: %s", constructor, str,
-                                    e.getMessage()),
-                            e);
-                }
+    /**
+     * {@link ValueParser} calling the protected conversion methods for every value as at least one of them is
+     * overridden.
+     */
+    private final class ExtensionPointParser extends ValueParser {
+        ExtensionPointParser(Class<?> targetType) {
+            super(targetType);
+        }
+
+        @Override
+        Object parse(String str, ConverterContext context) {
+            return convertUsingExtensionPoints(str, targetType, context);
+        }
+    }
+
+    /**
+     * Conversion plan for a specific combination of parameter types and varargs flag, i.e. one {@link ValueParser} per
+     * parameter. For a varargs method, the last {@link ValueParser} targets the component type of the varargs
+     * parameter.
+     */
+    private static final class ConversionPlan {
+        final ValueParser[] parsers;
+
+        ConversionPlan(ValueParser[] parsers) {
+            this.parsers = parsers;
+        }
+    }
+
+    private static final class PlanKey {
+        private final boolean isVarargs;
+        private final Class<?>[] parameterTypes;
+        private final int hashCode;
+
+        PlanKey(boolean isVarargs, Class<?>[] parameterTypes) {
+            this.isVarargs = isVarargs;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = 31 * Arrays.hashCode(parameterTypes) + (isVarargs ? 1 : 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PlanKey)) {
+                return false;
             }
+            PlanKey other = (PlanKey) obj;
+            return isVarargs == other.isVarargs && Arrays.equals(parameterTypes, other.parameterTypes);
         }
-        return null;
     }
 }
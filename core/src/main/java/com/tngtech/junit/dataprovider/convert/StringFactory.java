@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates instances of a type out of a single {@link String}, either using a public constructor having a single
+ * {@link String} parameter or, if no such constructor exists, using a public static factory method
+ * {@code valueOf(String)}, {@code parse(CharSequence)}, or {@code parse(String)} returning the type itself.
+ * <p>
+ * The lookup is done only once per type and cached globally using a {@link ClassValue}. Subsequent conversions invoke
+ * a {@link MethodHandle} directly instead of searching and invoking the constructor or method reflectively.
+ */
+abstract class StringFactory {
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Object.class, String.class);
+
+    private static final StringFactory NONE = new StringFactory(null) {
+        @Override
+        Object create(String str) {
+            return null;
+        }
+    };
+
+    private static final ClassValue<StringFactory> FACTORIES = new ClassValue<StringFactory>() {
+        @Override
+        protected StringFactory computeValue(Class<?> type) {
+            return lookup(type);
+        }
+    };
+
+    /**
+     * @param type for which a {@link StringFactory} is requested
+     * @return the cached {@link StringFactory} for given {@code type}; never {@code null}
+     */
+    static StringFactory forType(Class<?> type) {
+        return FACTORIES.get(type);
+    }
+
+    private static StringFactory lookup(Class<?> type) {
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if (constructor.getParameterTypes().length == 1 && String.class.equals(constructor.getParameterTypes()[0])) {
+                try {
+                    return new MethodHandleStringFactory(constructor, MethodHandles.lookup().unreflectConstructor(constructor));
+                } catch (IllegalAccessException e) {
+                    return new ReflectiveConstructorStringFactory(constructor);
+                }
+            }
+        }
+
+        StringFactory result = lookupFactoryMethod(type, "valueOf", String.class);
+        if (result == null) {
+            result = lookupFactoryMethod(type, "parse", CharSequence.class);
+        }
+        if (result == null) {
+            result = lookupFactoryMethod(type, "parse", String.class);
+        }
+        return (result == null) ? NONE : result;
+    }
+
+    private static StringFactory lookupFactoryMethod(Class<?> type, String name, Class<?> parameterType) {
+        Method method;
+        try {
+            method = type.getMethod(name, parameterType);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (!Modifier.isStatic(method.getModifiers()) || !type.equals(method.getReturnType())) {
+            return null;
+        }
+        try {
+            return new MethodHandleStringFactory(method, MethodHandles.lookup().unreflect(method));
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private final Member member;
+
+    private StringFactory(Member member) {
+        this.member = member;
+    }
+
+    /**
+     * @param str value to be converted
+     * @return a new instance created out of the given {@code str} or {@code null} if there is no applicable
+     *         constructor or factory method
+     * @throws IllegalArgumentException if and only if the constructor or factory method throws an exception
+     */
+    abstract Object create(String str);
+
+    IllegalArgumentException failed(String str, Throwable cause) {
+        return new IllegalArgumentException(
+                String.format("Tried to invoke '%s' for argument '%s'. Exception was: %s", member, str, cause.getMessage()),
+                cause);
+    }
+
+    private static final class MethodHandleStringFactory extends StringFactory {
+        private final MethodHandle methodHandle;
+
+        MethodHandleStringFactory(Member member, MethodHandle methodHandle) {
+            super(member);
+            this.methodHandle = methodHandle.asType(FACTORY_TYPE);
+        }
+
+        @Override
+        Object create(String str) {
+            try {
+                return (Object) methodHandle.invokeExact(str);
+            } catch (Throwable t) {
+                // wrap like reflective invocation does for backwards compatible exception message and cause
+                throw failed(str, new InvocationTargetException(t));
+            }
+        }
+    }
+
+    private static final class ReflectiveConstructorStringFactory extends StringFactory {
+        private final Constructor<?> constructor;
+
+        ReflectiveConstructorStringFactory(Constructor<?> constructor) {
+            super(constructor);
+            this.constructor = constructor;
+        }
+
+        @Override
+        Object create(String str) {
+            try {
+                return constructor.newInstance(str);
+            } catch (Exception e) {
+                throw failed(str, e);
+            }
+        }
+    }
+}
@@ -15,7 +15,13 @@
  */
 package com.tngtech.junit.dataprovider.placeholder;
 
+import java.lang.reflect.Array;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -45,9 +51,29 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * <td>{@link Object#toString()}</td>
  * </tr>
  * </table>
+ * <p>
+ * If a maximum argument length is configured (see {@link LengthLimits}), each argument is cut after that length and
+ * followed by {@link LengthLimits#ELISION_MARKER}. Thereby arrays, {@link CharSequence}s, and {@link Collection}s or
+ * {@link Map}s using the default {@link Object#toString()} implementation are only formatted as far as required.
  */
 abstract class AbstractArgumentPlaceholder extends BasePlaceholder {
 
+    /**
+     * Determines whether a {@link Collection} or {@link Map} type uses the {@link Object#toString()} implementation
+     * of {@link AbstractCollection} or {@link AbstractMap}, respectively, such that it can be formatted partially.
+     */
+    private static final ClassValue<Boolean> DEFAULT_TO_STRING = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaringClass = type.getMethod("toString").getDeclaringClass();
+                return AbstractCollection.class.equals(declaringClass) || AbstractMap.class.equals(declaringClass);
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     protected static final class FromAndTo {
         protected final int from;
         protected final int to;
@@ -76,6 +102,11 @@ abstract class AbstractArgumentPlaceholder extends BasePlaceholder {
         super(placeholderRegex);
     }
 
+    @Override
+    protected boolean isCompilable() {
+        return true;
+    }
+
     /**
      * @param placeholder containing the subscript
      * @param subscriptStartIndex starting index of first subscript inner digit (to parse part within {@code []})
@@ -104,33 +135,173 @@ abstract class AbstractArgumentPlaceholder extends BasePlaceholder {
         return new FromAndTo(from, to);
     }
 
-    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "false positive if 'param.toString()' returns 'null'")
     protected String format(Object param) {
-        if (param == null) {
-            return STRING_NULL;
+        if (param != null && param.getClass().isArray()) {
+            StringBuilder result = new StringBuilder();
+            appendFormatted(param, result);
+            return result.toString();
+        }
+        return ArgumentEscaper.escape(stringOf(param));
+    }
+
+    /**
+     * Same as {@link #format(Object)} but cuts the result after {@code maxLength} characters followed by
+     * {@link LengthLimits#ELISION_MARKER} if it is longer. Huge arrays, {@link CharSequence}s, {@link Collection}s and
+     * {@link Map}s are never formatted completely in this case (see class documentation).
+     *
+     * @param param to be formatted
+     * @param maxLength maximum length of the formatted {@code param} excluding the {@link LengthLimits#ELISION_MARKER}
+     *            or {@link LengthLimits#UNLIMITED}
+     * @return the formatted and potentially cut {@code param}
+     */
+    protected String format(Object param, int maxLength) {
+        if (maxLength == LengthLimits.UNLIMITED || param == null) {
+            return LengthLimits.elide(format(param), maxLength);
+
+        } else if (param.getClass().isArray() || (param instanceof CharSequence
+                && ((CharSequence) param).length() > maxLength) || isPartiallyFormattable(param)) {
+            StringBuilder result = new StringBuilder();
+            appendFormattedUpTo(param, maxLength + 1, result);
+            return LengthLimits.elide(result.toString(), maxLength);
+        }
+        return LengthLimits.elide(format(param), maxLength);
+    }
 
-        } else if (param.getClass().isArray()) {
+    /**
+     * Appends the escaped {@link String} representation of the given {@code param} to {@code result} as returned by
+     * {@link #format(Object)}.
+     */
+    private void appendFormatted(Object param, StringBuilder result) {
+        if (param != null && param.getClass().isArray()) {
             if (param.getClass().getComponentType().isPrimitive()) {
-                return formatPrimitiveArray(param);
+                result.append(formatPrimitiveArray(param));
+                return;
             }
-            return "[" + formatArray((Object[]) param) + "]";
+            Object[] array = (Object[]) param;
 
-        } else if (param instanceof String && ((String) param).isEmpty()) {
-            return STRING_EMPTY;
+            result.append('[');
+            for (int i = 0; i < array.length; i++) {
+                if (i > 0) {
+                    result.append(", ");
+                }
+                appendFormatted(array[i], result);
+            }
+            result.append(']');
 
+        } else {
+            ArgumentEscaper.appendEscaped(stringOf(param), result);
         }
+    }
+
+    /**
+     * Same as {@link #appendFormatted(Object, StringBuilder)} but stops as soon as {@code result} contains at least
+     * {@code limit} characters.
+     */
+    private void appendFormattedUpTo(Object param, int limit, StringBuilder result) {
+        if (param != null && param.getClass().isArray()) {
+            boolean primitive = param.getClass().getComponentType().isPrimitive();
+            int length = Array.getLength(param);
+
+            result.append('[');
+            for (int i = 0; i < length; i++) {
+                if (result.length() >= limit) {
+                    return;
+                }
+                if (i > 0) {
+                    result.append(", ");
+                }
+                Object element = Array.get(param, i);
+                if (primitive) {
+                    result.append(element);
+                } else {
+                    appendFormattedUpTo(element, limit, result);
+                }
+            }
+            result.append(']');
+
+        } else if ((param instanceof CharSequence && ((CharSequence) param).length() > limit - result.length())
+                || isPartiallyFormattable(param)) {
+            appendUpTo(param, limit, result);
 
-        String result;
-        if (param instanceof String) {
-            result = (String) param;
         } else {
-            result = param.toString();
+            ArgumentEscaper.appendEscaped(stringOf(param), result);
         }
+    }
+
+    /**
+     * Appends the escaped {@link String} representation of the given {@code object} to {@code result} until it
+     * contains at least {@code limit} characters.
+     */
+    private void appendUpTo(Object object, int limit, StringBuilder result) {
+        if (object instanceof CharSequence) {
+            CharSequence charSequence = (CharSequence) object;
+            int end = Math.max(limit - result.length(), 0);
+            if (end < charSequence.length()) {
+                ArgumentEscaper.appendEscaped(charSequence.subSequence(0, end), result);
+            } else {
+                ArgumentEscaper.appendEscaped(String.valueOf(charSequence), result);
+            }
+
+        } else if (object instanceof Map && isPartiallyFormattable(object)) {
+            Map<?, ?> map = (Map<?, ?>) object;
+
+            result.append('{');
+            Iterator<? extends Map.Entry<?, ?>> entries = map.entrySet().iterator();
+            while (entries.hasNext() && result.length() < limit) {
+                Map.Entry<?, ?> entry = entries.next();
+                appendUpTo((entry.getKey() == map) ? "(this Map)" : entry.getKey(), limit, result);
+                result.append('=');
+                appendUpTo((entry.getValue() == map) ? "(this Map)" : entry.getValue(), limit, result);
+                if (entries.hasNext()) {
+                    result.append(", ");
+                }
+            }
+            if (!entries.hasNext()) {
+                result.append('}');
+            }
+
+        } else if (object instanceof Collection && isPartiallyFormattable(object)) {
+            Collection<?> collection = (Collection<?>) object;
+
+            result.append('[');
+            Iterator<?> elements = collection.iterator();
+            while (elements.hasNext() && result.length() < limit) {
+                Object element = elements.next();
+                appendUpTo((element == collection) ? "(this Collection)" : element, limit, result);
+                if (elements.hasNext()) {
+                    result.append(", ");
+                }
+            }
+            if (!elements.hasNext()) {
+                result.append(']');
+            }
+
+        } else {
+            ArgumentEscaper.appendEscaped(String.valueOf(object), result);
+        }
+    }
+
+    /**
+     * @return the unescaped {@link String} representation of the given non-array {@code param}
+     */
+    @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "false positive if 'param.toString()' returns 'null'")
+    private static String stringOf(Object param) {
+        if (param == null) {
+            return STRING_NULL;
+
+        } else if (param instanceof String && ((String) param).isEmpty()) {
+            return STRING_EMPTY;
+        }
+
+        String result = param.toString();
         if (result == null) { // maybe null if "param.toString()" returns null
             return STRING_NULL;
         }
-        result = result.replaceAll("\0", "\\\\0").replaceAll("\r", "\\\\r").replaceAll("\n", "\\\\n");
-        return replaceNonPrintableChars(result, STRING_NON_PRINTABLE);
+        return result;
+    }
+
+    private static boolean isPartiallyFormattable(Object object) {
+        return (object instanceof Collection || object instanceof Map) && DEFAULT_TO_STRING.get(object.getClass());
     }
 
     private String formatPrimitiveArray(Object primitiveArray) {
@@ -162,39 +333,4 @@ abstract class AbstractArgumentPlaceholder extends BasePlaceholder {
         }
         throw new IllegalStateException("Called 'formatPrimitiveArray' on non-primitive array");
     }
-
-    private String formatArray(Object[] array) {
-        StringBuilder stringBuilder = new StringBuilder();
-        for (int i = 0; i < array.length; i++) {
-            stringBuilder.append(format(array[i]));
-            if (i < array.length - 1) {
-                stringBuilder.append(", ");
-            }
-        }
-        return stringBuilder.toString();
-    }
-
-    private String replaceNonPrintableChars(String input, String replacement) {
-        StringBuilder result = new StringBuilder();
-        for (int offset = 0; offset < input.length();) {
-            int codePoint = input.codePointAt(offset);
-            offset += Character.charCount(codePoint);
-
-            // Replace invisible control characters and unused code points
-            switch (Character.getType(codePoint)) {
-                case Character.CONTROL: // \p{Cc}
-                case Character.FORMAT: // \p{Cf}
-                case Character.PRIVATE_USE: // \p{Co}
-                case Character.SURROGATE: // \p{Cs}
-                case Character.UNASSIGNED: // \p{Cn}
-                    result.append(replacement);
-                    break;
-
-                default:
-                    result.append(Character.toChars(codePoint));
-                    break;
-            }
-        }
-        return result.toString();
-    }
 }
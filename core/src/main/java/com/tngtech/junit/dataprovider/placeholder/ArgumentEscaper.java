@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.placeholder;
+
+/**
+ * Escapes the {@link String} representation of an argument of a dataprovider test in a single pass such that it can
+ * be used within a test name: {@code \0}, {@code \r} and {@code \n} are replaced by their escape sequences and all
+ * other invisible control characters and unused code points are replaced by
+ * {@link AbstractArgumentPlaceholder#STRING_NON_PRINTABLE}.
+ * <p>
+ * Strings which do not require escaping at all (e.g. printable ASCII) are neither copied nor wrapped.
+ */
+final class ArgumentEscaper {
+
+    /**
+     * @param input to be escaped
+     * @return the escaped {@code input}; the same instance if nothing has to be escaped
+     */
+    static String escape(String input) {
+        int firstEscapeIndex = indexOfFirstEscape(input);
+        if (firstEscapeIndex < 0) {
+            return input;
+        }
+
+        StringBuilder result = new StringBuilder(input.length() + 16);
+        appendEscaped(input, firstEscapeIndex, result);
+        return result.toString();
+    }
+
+    /**
+     * Appends the escaped {@code input} directly to {@code result} without creating any intermediate {@link String}.
+     *
+     * @param input to be escaped
+     * @param result to which the escaped {@code input} is appended
+     */
+    static void appendEscaped(CharSequence input, StringBuilder result) {
+        appendEscaped(input, 0, result);
+    }
+
+    /**
+     * Appends the escaped {@code input} to {@code result} where no character before the given {@code start} index
+     * requires escaping. Consecutive characters which do not require escaping are copied as a whole.
+     */
+    private static void appendEscaped(CharSequence input, int start, StringBuilder result) {
+        int length = input.length();
+        int offset = start;
+        int unescapedStart = 0;
+        while (offset < length) {
+            char c = input.charAt(offset);
+            if (c >= ' ' && c < 0x7F) {
+                offset++;
+                continue;
+            }
+
+            int codePoint = Character.codePointAt(input, offset);
+            int charCount = Character.charCount(codePoint);
+            String replacement = replacementFor(codePoint);
+            if (replacement != null) {
+                result.append(input, unescapedStart, offset).append(replacement);
+                unescapedStart = offset + charCount;
+            }
+            offset += charCount;
+        }
+        result.append(input, unescapedStart, length);
+    }
+
+    private static int indexOfFirstEscape(String input) {
+        int length = input.length();
+        for (int offset = 0; offset < length;) {
+            char c = input.charAt(offset);
+            if (c >= ' ' && c < 0x7F) {
+                offset++;
+                continue;
+            }
+
+            int codePoint = input.codePointAt(offset);
+            if (replacementFor(codePoint) != null) {
+                return offset;
+            }
+            offset += Character.charCount(codePoint);
+        }
+        return -1;
+    }
+
+    /**
+     * @return the replacement for the given {@code codePoint} or {@code null} if it is printable
+     */
+    private static String replacementFor(int codePoint) {
+        switch (codePoint) {
+            case '\0':
+                return "\\0";
+            case '\r':
+                return "\\r";
+            case '\n':
+                return "\\n";
+            default:
+                break;
+        }
+
+        // Replace invisible control characters and unused code points
+        switch (Character.getType(codePoint)) {
+            case Character.CONTROL: // \p{Cc}
+            case Character.FORMAT: // \p{Cf}
+            case Character.PRIVATE_USE: // \p{Co}
+            case Character.SURROGATE: // \p{Cs}
+            case Character.UNASSIGNED: // \p{Cn}
+                return AbstractArgumentPlaceholder.STRING_NON_PRINTABLE;
+
+            default:
+                return null;
+        }
+    }
+}
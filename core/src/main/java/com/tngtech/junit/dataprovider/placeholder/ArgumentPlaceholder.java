@@ -32,7 +32,11 @@ public class ArgumentPlaceholder extends AbstractArgumentPlaceholder {
     @Override
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         FromAndTo fromAndTo = calcFromAndToForSubscriptAndArguments(placeholder, 3, data.getArguments().size());
-        return formatAll(data.getArguments().subList(fromAndTo.from, fromAndTo.to));
+        List<Object> arguments = data.getArguments().subList(fromAndTo.from, fromAndTo.to);
+        if (data.getMaxArgumentLength() == LengthLimits.UNLIMITED) {
+            return formatAll(arguments);
+        }
+        return formatAll(arguments, data.getMaxArgumentLength());
     }
 
     /**
@@ -43,9 +47,21 @@ public class ArgumentPlaceholder extends AbstractArgumentPlaceholder {
      * @return the {@link String} representation of the given {@link List}{@code <Object>}
      */
     protected String formatAll(List<Object> arguments) {
+        return formatAll(arguments, LengthLimits.UNLIMITED);
+    }
+
+    /**
+     * Same as {@link #formatAll(List)} but each argument is cut after the given {@code maxArgumentLength} (see
+     * {@link #format(Object, int)}).
+     *
+     * @param arguments to be formatted
+     * @param maxArgumentLength maximum length of each formatted argument or {@link LengthLimits#UNLIMITED}
+     * @return the {@link String} representation of the given {@link List}{@code <Object>}
+     */
+    protected String formatAll(List<Object> arguments, int maxArgumentLength) {
         StringBuilder stringBuilder = new StringBuilder();
         for (int i = 0; i < arguments.size(); i++) {
-            stringBuilder.append(format(arguments.get(i)));
+            stringBuilder.append(format(arguments.get(i), maxArgumentLength));
             if (i < arguments.size() - 1) {
                 stringBuilder.append(", ");
             }
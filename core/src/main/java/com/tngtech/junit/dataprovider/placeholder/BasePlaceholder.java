@@ -55,6 +55,28 @@ public abstract class BasePlaceholder {
         return sb.toString();
     }
 
+    /**
+     * Determines whether this placeholder may be used within a {@link PlaceholderTemplate}, i.e. a format pattern
+     * which is parsed only once and rendered in a single pass afterwards. This requires that
+     * <ul>
+     * <li>the regular expression starts with {@code %} and neither contains anchors nor lookarounds,</li>
+     * <li>{@link #process(ReplacementData, String)} is not overridden, and</li>
+     * <li>{@link #getReplacementFor(String, ReplacementData)} has no side effects as it might be called in a different
+     * order.</li>
+     * </ul>
+     * Defaults to {@code false} such that custom placeholders are always processed as before, i.e. one after another
+     * using {@link #process(ReplacementData, String)}.
+     *
+     * @return {@code true} if and only if this placeholder supports being compiled into a {@link PlaceholderTemplate}
+     */
+    protected boolean isCompilable() {
+        return false;
+    }
+
+    Pattern getPattern() {
+        return pattern;
+    }
+
     /**
      * Generate and returns the replacement for the found and given placeholder.
      *
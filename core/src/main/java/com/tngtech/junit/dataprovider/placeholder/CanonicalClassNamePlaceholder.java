@@ -24,4 +24,9 @@ public class CanonicalClassNamePlaceholder extends BasePlaceholder {
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         return data.getTestMethod().getDeclaringClass().getCanonicalName();
     }
+
+    @Override
+    protected boolean isCompilable() {
+        return true;
+    }
 }
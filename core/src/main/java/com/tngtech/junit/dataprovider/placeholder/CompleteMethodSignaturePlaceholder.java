@@ -24,4 +24,9 @@ public class CompleteMethodSignaturePlaceholder extends BasePlaceholder {
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         return data.getTestMethod().toString();
     }
+
+    @Override
+    protected boolean isCompilable() {
+        return true;
+    }
 }
@@ -24,4 +24,9 @@ public class IndexPlaceholder extends BasePlaceholder {
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         return String.valueOf(data.getTestIndex());
     }
+
+    @Override
+    protected boolean isCompilable() {
+        return true;
+    }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.placeholder;
+
+/**
+ * Limits for the length of generated dataprovider test names and of each formatted argument within them, such that
+ * huge arguments (e.g. large arrays, collections or payloads) do not result in huge test names. Oversized names or
+ * arguments are cut and followed by {@link #ELISION_MARKER}.
+ * <p>
+ * Limits can be configured per dataprovider or globally for all dataproviders using the system properties
+ * {@value #PROPERTY_MAX_NAME_LENGTH} and {@value #PROPERTY_MAX_ARGUMENT_LENGTH}. Test names are not limited by
+ * default.
+ */
+public final class LengthLimits {
+
+    /**
+     * Name of the system property to limit the length of all dataprovider test names.
+     */
+    public static final String PROPERTY_MAX_NAME_LENGTH = "junit.dataprovider.maxNameLength";
+
+    /**
+     * Name of the system property to limit the length of each formatted argument within dataprovider test names.
+     */
+    public static final String PROPERTY_MAX_ARGUMENT_LENGTH = "junit.dataprovider.maxArgumentLength";
+
+    /**
+     * Maximum length meaning that a name or an argument is not limited at all.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * Marker appended to names and arguments which have been cut because they exceeded their maximum length.
+     */
+    public static final String ELISION_MARKER = "...";
+
+    /**
+     * @param maxNameLength configured for a dataprovider, not positive if not configured
+     * @return the given {@code maxNameLength} if positive, the value of system property
+     *         {@value #PROPERTY_MAX_NAME_LENGTH} if set, or {@link #UNLIMITED} otherwise
+     * @throws IllegalArgumentException if and only if the system property is required but no positive number
+     */
+    public static int maxNameLength(int maxNameLength) {
+        return resolve(maxNameLength, PROPERTY_MAX_NAME_LENGTH);
+    }
+
+    /**
+     * @param maxArgumentLength configured for a dataprovider, not positive if not configured
+     * @return the given {@code maxArgumentLength} if positive, the value of system property
+     *         {@value #PROPERTY_MAX_ARGUMENT_LENGTH} if set, or {@link #UNLIMITED} otherwise
+     * @throws IllegalArgumentException if and only if the system property is required but no positive number
+     */
+    public static int maxArgumentLength(int maxArgumentLength) {
+        return resolve(maxArgumentLength, PROPERTY_MAX_ARGUMENT_LENGTH);
+    }
+
+    /**
+     * Cuts the given {@code value} after {@code maxLength} characters (without splitting a surrogate pair) and
+     * appends {@link #ELISION_MARKER} if it is longer than {@code maxLength}.
+     *
+     * @param value to be cut
+     * @param maxLength maximum length of the given {@code value} excluding the {@link #ELISION_MARKER}
+     * @return the given {@code value} if it does not exceed {@code maxLength}, its cut version otherwise
+     */
+    public static String elide(String value, int maxLength) {
+        if (value.length() <= maxLength) {
+            return value;
+        }
+        int end = maxLength;
+        if (end > 0 && Character.isHighSurrogate(value.charAt(end - 1))
+                && Character.isLowSurrogate(value.charAt(end))) {
+            end--;
+        }
+        return new StringBuilder(end + ELISION_MARKER.length()).append(value, 0, end).append(ELISION_MARKER)
+                .toString();
+    }
+
+    private static int resolve(int configured, String property) {
+        if (configured > 0) {
+            return configured;
+        }
+        String value = System.getProperty(property);
+        if (value == null) {
+            return UNLIMITED;
+        }
+        try {
+            int result = Integer.parseInt(value.trim());
+            if (result > 0) {
+                return result;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("System property '%s' must be a positive number but was: %s", property, value), e);
+        }
+        throw new IllegalArgumentException(
+                String.format("System property '%s' must be a positive number but was: %s", property, value));
+    }
+}
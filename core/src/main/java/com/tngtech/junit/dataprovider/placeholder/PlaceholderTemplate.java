@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.placeholder;
+
+import static com.tngtech.junit.dataprovider.Preconditions.checkArgument;
+import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+
+/**
+ * A format pattern (e.g. {@code DataProvider#format()}) compiled for a given list of {@link BasePlaceholder}s. The
+ * format is parsed only once into a list of literal and placeholder tokens such that every test name is rendered in a
+ * single pass afterwards instead of scanning the format again for every placeholder.
+ * <p>
+ * The result is always the same as processing all placeholders one after another using
+ * {@link BasePlaceholder#process(ReplacementData, String)}. Therefore the format is processed like this (= fallback)
+ * <ul>
+ * <li>if any placeholder is not compilable (see {@link BasePlaceholder#isCompilable()}), e.g. custom placeholders,</li>
+ * <li>if the format contains a {@code %} which is not part of any placeholder, or</li>
+ * <li>if a replacement contains a {@code %}</li>
+ * </ul>
+ * as later placeholders could match parts of earlier replacements in these cases.
+ */
+public class PlaceholderTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES = 256;
+
+    /**
+     * Lock-free cache of compiled templates which is cleared completely if it reaches {@link #MAX_CACHED_TEMPLATES}
+     * entries to keep it bounded.
+     */
+    private static final ConcurrentMap<Key, PlaceholderTemplate> cache = new ConcurrentHashMap<Key, PlaceholderTemplate>();
+
+    /**
+     * Returns the {@link PlaceholderTemplate} for the given {@code format} and {@code placeholders}. Templates are
+     * cached such that the same format is usually compiled only once for the same placeholders. Nevertheless, callers
+     * rendering many names should keep the returned template instead of calling this method for every name.
+     *
+     * @param format to be compiled
+     * @param placeholders to be used in the given order
+     * @return the compiled {@link PlaceholderTemplate}; never {@code null}
+     * @throws NullPointerException if and only if one of the given arguments is {@code null}
+     */
+    public static PlaceholderTemplate of(String format, List<? extends BasePlaceholder> placeholders) {
+        checkNotNull(format, "'format' must not be null");
+        checkNotNull(placeholders, "'placeholders' must not be null");
+
+        Key key = new Key(format, placeholders.toArray(new BasePlaceholder[placeholders.size()]));
+        PlaceholderTemplate result = cache.get(key);
+        if (result == null) {
+            if (cache.size() >= MAX_CACHED_TEMPLATES) {
+                cache.clear();
+            }
+            PlaceholderTemplate newTemplate = new PlaceholderTemplate(format, key.placeholders);
+            result = cache.putIfAbsent(key, newTemplate);
+            if (result == null) {
+                result = newTemplate;
+            }
+        }
+        return result;
+    }
+
+    private final String format;
+    private final BasePlaceholder[] placeholders;
+
+    /**
+     * Tokens in order, or {@code null} if format must be processed by all placeholders one after another.
+     */
+    private final Token[] tokens;
+
+    private PlaceholderTemplate(String format, BasePlaceholder[] placeholders) {
+        this.format = format;
+        this.placeholders = placeholders;
+        this.tokens = compile(format, placeholders);
+    }
+
+    /**
+     * @return {@code true} if and only if the format was compiled into tokens, i.e. test names are rendered in a
+     *         single pass unless a replacement contains a {@code %}
+     */
+    public boolean isCompiled() {
+        return tokens != null;
+    }
+
+    /**
+     * Renders the format using the given {@link ReplacementData}.
+     *
+     * @param data used to generate the replacements
+     * @return the format containing the generated replacements instead of the placeholders
+     */
+    public String render(ReplacementData data) {
+        return render(data, LengthLimits.UNLIMITED);
+    }
+
+    /**
+     * Renders the format using the given {@link ReplacementData} and cuts the result after {@code maxLength}
+     * characters followed by {@link LengthLimits#ELISION_MARKER} if it is longer. Thereby formatted arguments are
+     * additionally limited to the remaining length such that they are never formatted completely if the name is cut
+     * anyway.
+     *
+     * @param data used to generate the replacements
+     * @param maxLength maximum length of the result excluding the {@link LengthLimits#ELISION_MARKER} or
+     *            {@link LengthLimits#UNLIMITED}
+     * @return the format containing the generated replacements instead of the placeholders
+     * @throws IllegalArgumentException if and only if given {@code maxLength} is not positive
+     */
+    public String render(ReplacementData data, int maxLength) {
+        checkArgument(maxLength > 0, "'maxLength' must be positive but was %d", maxLength);
+
+        if (tokens == null) {
+            return LengthLimits.elide(process(data), maxLength);
+        }
+
+        StringBuilder result = new StringBuilder(format.length() + 16 * tokens.length);
+        for (Token token : tokens) {
+            if (result.length() > maxLength) {
+                break;
+            }
+            if (token.placeholder == null) {
+                result.append(token.text);
+            } else {
+                ReplacementData limitedData = data;
+                if (maxLength != LengthLimits.UNLIMITED) {
+                    int remainingLength = Math.max(maxLength - result.length() + 1, 1);
+                    limitedData = data.withMaxArgumentLength(Math.min(data.getMaxArgumentLength(), remainingLength));
+                }
+
+                String replacement = token.placeholder.getReplacementFor(token.text, limitedData);
+                if (replacement.indexOf('%') >= 0) {
+                    return LengthLimits.elide(process(data), maxLength);
+                }
+                result.append(replacement);
+            }
+        }
+        return LengthLimits.elide(result.toString(), maxLength);
+    }
+
+    private String process(ReplacementData data) {
+        String result = format;
+        for (BasePlaceholder placeholder : placeholders) {
+            result = placeholder.process(data, result);
+        }
+        return result;
+    }
+
+    private static Token[] compile(String format, BasePlaceholder[] placeholders) {
+        for (BasePlaceholder placeholder : placeholders) {
+            if (!isCompilable(placeholder)) {
+                return null;
+            }
+        }
+
+        List<Token> tokens = new ArrayList<Token>();
+        tokens.add(new Token(format, null, -1));
+        for (int stage = 0; stage < placeholders.length; stage++) {
+            List<Token> newTokens = new ArrayList<Token>();
+            for (Token token : tokens) {
+                if (token.placeholder == null) {
+                    split(token.text, placeholders[stage], stage, newTokens);
+                } else {
+                    newTokens.add(token);
+                }
+            }
+            tokens = newTokens;
+        }
+
+        Token previous = null;
+        for (Token token : tokens) {
+            if (token.placeholder == null && token.text.indexOf('%') >= 0) {
+                // remaining '%' might be matched together with adjacent replacements
+                return null;
+            }
+            if (previous != null && previous.placeholder != null && token.placeholder != null
+                    && previous.stage > token.stage) {
+                // previous placeholder might have been matched together with the already replaced following one
+                return null;
+            }
+            previous = token;
+        }
+        return tokens.toArray(new Token[tokens.size()]);
+    }
+
+    private static boolean isCompilable(BasePlaceholder placeholder) {
+        if (!placeholder.isCompilable() || !placeholder.getPattern().pattern().startsWith("%")) {
+            return false;
+        }
+        try {
+            return BasePlaceholder.class.equals(placeholder.getClass()
+                    .getMethod("process", ReplacementData.class, String.class).getDeclaringClass());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static void split(String text, BasePlaceholder placeholder, int stage, List<Token> result) {
+        Matcher matcher = placeholder.getPattern().matcher(text);
+        int start = 0;
+        while (matcher.find()) {
+            if (matcher.start() > start) {
+                result.add(new Token(text.substring(start, matcher.start()), null, -1));
+            }
+            result.add(new Token(matcher.group(), placeholder, stage));
+            start = matcher.end();
+        }
+        if (start < text.length()) {
+            result.add(new Token(text.substring(start), null, -1));
+        }
+    }
+
+    private static final class Token {
+        private final String text;
+        private final BasePlaceholder placeholder;
+        private final int stage;
+
+        Token(String text, BasePlaceholder placeholder, int stage) {
+            this.text = text;
+            this.placeholder = placeholder;
+            this.stage = stage;
+        }
+    }
+
+    private static final class Key {
+        private final String format;
+        private final BasePlaceholder[] placeholders;
+
+        Key(String format, BasePlaceholder[] placeholders) {
+            this.format = format;
+            this.placeholders = placeholders;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = format.hashCode();
+            for (BasePlaceholder placeholder : placeholders) {
+                result = 31 * result + System.identityHashCode(placeholder);
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            if (!format.equals(other.format) || placeholders.length != other.placeholders.length) {
+                return false;
+            }
+            for (int idx = 0; idx < placeholders.length; idx++) {
+                if (placeholders[idx] != other.placeholders[idx]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
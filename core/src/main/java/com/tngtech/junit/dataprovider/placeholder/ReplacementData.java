@@ -15,6 +15,7 @@
  */
 package com.tngtech.junit.dataprovider.placeholder;
 
+import static com.tngtech.junit.dataprovider.Preconditions.checkArgument;
 import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
 import static java.util.Collections.unmodifiableList;
 
@@ -37,17 +38,38 @@ public class ReplacementData {
      * @throws NullPointerException if and only if a given value is {@code null}
      */
     public static ReplacementData of(Method testMethod, int testIndex, List<Object> arguments) {
-        return new ReplacementData(testMethod, testIndex, arguments);
+        return of(testMethod, testIndex, arguments, LengthLimits.UNLIMITED);
+    }
+
+    /**
+     * Creates {@link ReplacementData} for the given values.
+     *
+     * @param testMethod to be executed
+     * @param testIndex the index (row) of the test / used dataprovider
+     * @param arguments used for invoking this test testMethod
+     * @param maxArgumentLength maximum length of each formatted argument, see {@link LengthLimits}
+     * @return {@link ReplacementData} containing the given values
+     * @throws NullPointerException if and only if a given value is {@code null}
+     * @throws IllegalArgumentException if and only if given {@code maxArgumentLength} is not positive
+     */
+    public static ReplacementData of(Method testMethod, int testIndex, List<Object> arguments, int maxArgumentLength) {
+        checkNotNull(arguments, "'arguments' must not be null");
+        return new ReplacementData(testMethod, testIndex, new ArrayList<Object>(arguments), maxArgumentLength);
     }
 
     private final Method testMethod;
     private final int testIndex;
     private final List<Object> arguments;
+    private final int maxArgumentLength;
+
+    private ReplacementData(Method testMethod, int testIndex, List<Object> arguments, int maxArgumentLength) {
+        checkNotNull(testMethod, "'testMethod' must not be null");
+        checkArgument(maxArgumentLength > 0, "'maxArgumentLength' must be positive but was %d", maxArgumentLength);
 
-    private ReplacementData(Method testMethod, int testIndex, List<Object> arguments) {
-        this.testMethod = checkNotNull(testMethod, "'testMethod' must not be null");
+        this.testMethod = testMethod;
         this.testIndex = testIndex;
-        this.arguments = new ArrayList<Object>(checkNotNull(arguments, "'arguments' must not be null"));
+        this.arguments = arguments;
+        this.maxArgumentLength = maxArgumentLength;
     }
 
     public Method getTestMethod() {
@@ -62,11 +84,31 @@ public class ReplacementData {
         return unmodifiableList(arguments);
     }
 
+    /**
+     * @return the maximum length of each formatted argument or {@link LengthLimits#UNLIMITED}
+     */
+    public int getMaxArgumentLength() {
+        return maxArgumentLength;
+    }
+
+    /**
+     * @param maxArgumentLength maximum length of each formatted argument
+     * @return {@link ReplacementData} containing the same values as this but the given {@code maxArgumentLength}
+     *         (sharing the arguments as both are immutable)
+     */
+    ReplacementData withMaxArgumentLength(int maxArgumentLength) {
+        if (maxArgumentLength == this.maxArgumentLength) {
+            return this;
+        }
+        return new ReplacementData(testMethod, testIndex, arguments, maxArgumentLength);
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
         int result = 1;
         result = prime * result + testIndex;
+        result = prime * result + maxArgumentLength;
         result = prime * result + ((arguments == null) ? 0 : arguments.hashCode());
         result = prime * result + ((testMethod == null) ? 0 : testMethod.hashCode());
         return result;
@@ -87,6 +129,9 @@ public class ReplacementData {
         if (testIndex != other.testIndex) {
             return false;
         }
+        if (maxArgumentLength != other.maxArgumentLength) {
+            return false;
+        }
         if (arguments == null) {
             if (other.arguments != null) {
                 return false;
@@ -107,6 +152,6 @@ public class ReplacementData {
     @Override
     public String toString() {
         return "ReplacementData [testMethod=" + testMethod + ", testIndex=" + testIndex + ", arguments="
-                + arguments + "]";
+                + arguments + ", maxArgumentLength=" + maxArgumentLength + "]";
     }
 }
@@ -24,4 +24,9 @@ public class SimpleClassNamePlaceholder extends BasePlaceholder {
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         return data.getTestMethod().getDeclaringClass().getSimpleName();
     }
+
+    @Override
+    protected boolean isCompilable() {
+        return true;
+    }
 }
@@ -24,4 +24,9 @@ public class SimpleMethodNamePlaceholder extends BasePlaceholder {
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         return data.getTestMethod().getName();
     }
+
+    @Override
+    protected boolean isCompilable() {
+        return true;
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.resolver;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Index of all methods of a location class hierarchy which are annotated with a given annotation. Methods of a
+ * subclass shadow annotated methods having the same signature in a superclass.
+ * <p>
+ * The index is built only once per location and annotation class and cached globally using a {@link ClassValue}.
+ * Afterwards, annotated methods can be looked up by name in constant time.
+ */
+final class AnnotatedMethodIndex {
+
+    /**
+     * Comparator for {@link Method}s based upon JUnit 4's {@code org.junit.internal.MethodSorter} implementation to
+     * get a predictable order of methods because of
+     * <a href="bugs.java.com/view_bug.do?bug_id=7023180">JDK-7023180 : Change in specified-to-be-unspecified ordering
+     * of getDeclaredMethods causes application problems</a>.
+     */
+    private static final Comparator<Method> DEFAULT_SORTER = new Comparator<Method>() {
+        @Override
+        public int compare(Method method1, Method method2) {
+            String name1 = method1.getName();
+            String name2 = method2.getName();
+            int comparison = name1.hashCode() < name2.hashCode() ? -1 : name1.hashCode() == name2.hashCode() ? 0 : 1;
+            if (comparison == 0) {
+                comparison = name1.compareTo(name2);
+                if (comparison == 0) {
+                    comparison = method1.toString().compareTo(method2.toString());
+                }
+            }
+            return comparison;
+        }
+    };
+
+    private static final ClassValue<ConcurrentMap<Class<? extends Annotation>, AnnotatedMethodIndex>> INDICES = new ClassValue<ConcurrentMap<Class<? extends Annotation>, AnnotatedMethodIndex>>() {
+        @Override
+        protected ConcurrentMap<Class<? extends Annotation>, AnnotatedMethodIndex> computeValue(Class<?> location) {
+            return new ConcurrentHashMap<Class<? extends Annotation>, AnnotatedMethodIndex>();
+        }
+    };
+
+    /**
+     * @param location where to search for annotated methods
+     * @param annotationClass which the methods must be annotated with
+     * @return the cached {@link AnnotatedMethodIndex} for the given {@code location} and {@code annotationClass};
+     *         never {@code null}
+     */
+    static AnnotatedMethodIndex of(Class<?> location, Class<? extends Annotation> annotationClass) {
+        ConcurrentMap<Class<? extends Annotation>, AnnotatedMethodIndex> indices = INDICES.get(location);
+
+        AnnotatedMethodIndex result = indices.get(annotationClass);
+        if (result == null) {
+            AnnotatedMethodIndex newIndex = new AnnotatedMethodIndex(location, annotationClass);
+            result = indices.putIfAbsent(annotationClass, newIndex);
+            if (result == null) {
+                result = newIndex;
+            }
+        }
+        return result;
+    }
+
+    private final List<Method> methods;
+    private final Map<String, List<Method>> methodsByName;
+
+    private AnnotatedMethodIndex(Class<?> location, Class<? extends Annotation> annotationClass) {
+        List<Method> methods = new ArrayList<Method>();
+        Map<String, List<Method>> methodsByName = new HashMap<String, List<Method>>();
+        Set<List<Object>> signatures = new HashSet<List<Object>>();
+
+        Class<?> currentClass = location;
+        while (currentClass != null) {
+            for (Method method : sorted(currentClass.getDeclaredMethods())) {
+                if (method.getAnnotation(annotationClass) != null && signatures.add(signatureOf(method))) {
+                    methods.add(method);
+
+                    List<Method> methodsWithName = methodsByName.get(method.getName());
+                    if (methodsWithName == null) {
+                        methodsWithName = new ArrayList<Method>(1);
+                        methodsByName.put(method.getName(), methodsWithName);
+                    }
+                    methodsWithName.add(method);
+                }
+            }
+            currentClass = currentClass.getSuperclass();
+        }
+
+        this.methods = Collections.unmodifiableList(methods);
+        this.methodsByName = methodsByName;
+    }
+
+    /**
+     * @return all annotated methods from the location down to {@link Object}, each class sorted the same way
+     */
+    List<Method> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @param name of the requested methods
+     * @return all annotated methods with the given {@code name} in the same order as in {@link #getMethods()}
+     */
+    List<Method> getMethods(String name) {
+        List<Method> result = methodsByName.get(name);
+        return (result == null) ? Collections.<Method>emptyList() : Collections.unmodifiableList(result);
+    }
+
+    /**
+     * @param names of the requested methods
+     * @return all annotated methods having any of the given {@code names} in the same order as in
+     *         {@link #getMethods()}
+     */
+    List<Method> getMethods(Set<String> names) {
+        List<Method> result = null;
+        for (String name : names) {
+            List<Method> methodsWithName = methodsByName.get(name);
+            if (methodsWithName != null) {
+                if (result != null) {
+                    // methods with different names found, retain their order
+                    return filter(names);
+                }
+                result = methodsWithName;
+            }
+        }
+        return (result == null) ? Collections.<Method>emptyList() : Collections.unmodifiableList(result);
+    }
+
+    private List<Method> filter(Set<String> names) {
+        List<Method> result = new ArrayList<Method>();
+        for (Method method : methods) {
+            if (names.contains(method.getName())) {
+                result.add(method);
+            }
+        }
+        return result;
+    }
+
+    private static Method[] sorted(Method[] methods) {
+        Method[] result = Arrays.copyOf(methods, methods.length);
+        Arrays.sort(result, DEFAULT_SORTER);
+        return result;
+    }
+
+    private static List<Object> signatureOf(Method method) {
+        Class<?>[] parameterTypes = method.getParameterTypes();
+
+        List<Object> result = new ArrayList<Object>(parameterTypes.length + 1);
+        result.add(method.getName());
+        result.addAll(Arrays.asList(parameterTypes));
+        return result;
+    }
+}
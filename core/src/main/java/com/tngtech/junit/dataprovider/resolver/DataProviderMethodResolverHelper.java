@@ -17,8 +17,6 @@ package com.tngtech.junit.dataprovider.resolver;
 
 import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
@@ -31,6 +29,9 @@ public class DataProviderMethodResolverHelper {
      * If {@link ResolveStrategy} is pointing to {@link ResolveStrategy#UNTIL_FIRST_MATCH}, the first found dataprovider
      * methods of the first resolver will be returned. {@link ResolveStrategy#AGGREGATE_ALL_MATCHES} will aggregate the
      * results of all resolvers such that all found dataprovider methods are returned.
+     * <p>
+     * Resolver instances are obtained from the {@link ResolverRegistry}, i.e. resolvers annotated with {@link Shareable}
+     * are instantiated only once.
      *
      * @param context to be used for resolving dataprovider methods
      * @return the found dataprovider methods or an empty list
@@ -41,7 +42,7 @@ public class DataProviderMethodResolverHelper {
 
         List<Method> result = new ArrayList<Method>();
         for (Class<? extends DataProviderMethodResolver> resolverClass : context.getResolverClasses()) {
-            DataProviderMethodResolver resolver = newInstance(resolverClass);
+            DataProviderMethodResolver resolver = ResolverRegistry.getInstance(resolverClass);
 
             List<Method> dataProviderMethods = resolver.resolve(context);
             if (context.getResolveStrategy() == ResolveStrategy.UNTIL_FIRST_MATCH && !dataProviderMethods.isEmpty()) {
@@ -54,31 +55,4 @@ public class DataProviderMethodResolverHelper {
         }
         return result;
     }
-
-    private static <T> T newInstance(Class<T> clazz) {
-        Constructor<T> constructor;
-        try {
-            constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalArgumentException(
-                    String.format("Could not find default constructor to instantiate '%s'.", clazz), e);
-        } catch (SecurityException e) {
-            throw new IllegalArgumentException(String.format(
-                    "Security violation while trying to access default constructor to instantiate '%s'.", clazz), e);
-        }
-        try {
-            return constructor.newInstance();
-        } catch (IllegalAccessException e) {
-            throw new IllegalArgumentException(
-                    String.format("Could not access default constructor to instantiate '%s'.", clazz), e);
-        } catch (InstantiationException e) {
-            throw new IllegalArgumentException(
-                    String.format("Could not instantiate '%s' using default constructor.", clazz), e);
-        } catch (InvocationTargetException e) {
-            throw new IllegalArgumentException(
-                    String.format("The default constructor of '%s' has thrown an exception: %s", clazz, e.getMessage()),
-                    e);
-        }
-    }
-}
\ No newline at end of file
+}
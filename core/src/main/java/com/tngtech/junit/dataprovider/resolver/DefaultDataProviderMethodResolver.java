@@ -21,9 +21,10 @@ import static java.lang.Character.toUpperCase;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Default implementation to resolve the dataprovider method for a given {@link DataProviderResolverContext}.
@@ -62,8 +63,36 @@ import java.util.List;
  * <p>
  * Note: Dataproviders are also found if they are not public.
  */
+@Shareable
 public class DefaultDataProviderMethodResolver implements DataProviderMethodResolver {
 
+    /**
+     * Determines for every resolver class if neither {@link #findAnnotatedMethods(List, Class)} nor
+     * {@link #isMatchingNameConvention(String, String)} is overridden such that dataprovider methods can be looked up
+     * directly by name.
+     */
+    private static final ClassValue<Boolean> USES_DEFAULT_LOOKUP = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> clazz = type; !DefaultDataProviderMethodResolver.class.equals(clazz); clazz = clazz.getSuperclass()) {
+                if (declaresMethod(clazz, "findAnnotatedMethods", List.class, Class.class)
+                        || declaresMethod(clazz, "isMatchingNameConvention", String.class, String.class)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean declaresMethod(Class<?> clazz, String name, Class<?>... parameterTypes) {
+            try {
+                clazz.getDeclaredMethod(name, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     /**
      * {@inheritDoc}
      *
@@ -73,6 +102,22 @@ public class DefaultDataProviderMethodResolver implements DataProviderMethodReso
     public List<Method> resolve(DataProviderResolverContext context) {
         checkNotNull(context, "'context' must not be null");
 
+        if (USES_DEFAULT_LOOKUP.get(getClass())) {
+            Set<String> dataProviderNames;
+            if (context.useDataProviderNameConvention()) {
+                dataProviderNames = getNameConventionNames(context.getTestMethod().getName());
+            } else {
+                dataProviderNames = Collections.singleton(context.getDataProviderName());
+            }
+
+            List<Method> result = new ArrayList<Method>();
+            for (Class<?> location : context.getLocations()) {
+                result.addAll(AnnotatedMethodIndex.of(location, context.getDataProviderAnnotationClass())
+                        .getMethods(dataProviderNames));
+            }
+            return result;
+        }
+
         List<Method> dataProviderMethods = findAnnotatedMethods(context.getLocations(),
                 context.getDataProviderAnnotationClass());
 
@@ -96,8 +141,9 @@ public class DefaultDataProviderMethodResolver implements DataProviderMethodReso
      * <p>
      * Note:
      * <ul>
-     * <li>Resulting methods are always sorted the same (see {@link #sorted(Method[])}).</li>
+     * <li>Resulting methods are always sorted the same (see {@link AnnotatedMethodIndex}).</li>
      * <li>Shadowing check is only applied location by location, not location overarching.</li>
+     * <li>The annotated methods of every location are only searched once and cached afterwards.</li>
      * </ul>
      *
      * @param locations denote where to search for methods
@@ -107,18 +153,7 @@ public class DefaultDataProviderMethodResolver implements DataProviderMethodReso
     protected List<Method> findAnnotatedMethods(List<Class<?>> locations, Class<? extends Annotation> annotationClass) {
         List<Method> result = new ArrayList<Method>();
         for (Class<?> location : locations) {
-            List<Method> intermediateResult = new ArrayList<Method>();
-            Class<?> currentClass = location;
-            while (currentClass != null) {
-                for (Method method : sorted(currentClass.getDeclaredMethods())) {
-                    Annotation foundAnnotation = method.getAnnotation(annotationClass);
-                    if (foundAnnotation != null && !isMethodShadowedBy(method, intermediateResult)) {
-                        intermediateResult.add(method);
-                    }
-                }
-                currentClass = currentClass.getSuperclass();
-            }
-            result.addAll(intermediateResult);
+            result.addAll(AnnotatedMethodIndex.of(location, annotationClass).getMethods());
         }
         return result;
     }
@@ -126,61 +161,63 @@ public class DefaultDataProviderMethodResolver implements DataProviderMethodReso
     protected boolean isMatchingNameConvention(String testMethodName, String dataProviderMethodName) {
         if (dataProviderMethodName.equals(testMethodName)) {
             return true;
-        } else if (dataProviderMethodName.equals(testMethodName.replaceAll("^test", "dataProvider"))) {
-            return true;
-        } else if (dataProviderMethodName.equals(testMethodName.replaceAll("^test", "data"))) {
-            return true;
-        } else if (dataProviderMethodName
-                .equals("dataProvider" + toUpperCase(testMethodName.charAt(0)) + testMethodName.substring(1))) {
+        } else if (testMethodName.startsWith("test")
+                && (isPrefixedName(dataProviderMethodName, "dataProvider", testMethodName, "test".length())
+                        || isPrefixedName(dataProviderMethodName, "data", testMethodName, "test".length()))) {
             return true;
-        } else if (dataProviderMethodName
-                .equals("data" + toUpperCase(testMethodName.charAt(0)) + testMethodName.substring(1))) {
+        } else if (!testMethodName.isEmpty() && (isPrefixedCapitalizedName(dataProviderMethodName, "dataProvider", testMethodName)
+                || isPrefixedCapitalizedName(dataProviderMethodName, "data", testMethodName))) {
             return true;
         }
         return false;
     }
 
     /**
-     * Method sorter to get a predicatable order of dataproviders because of
-     * <a href="bugs.java.com/view_bug.do?bug_id=7023180">JDK-7023180 : Change in specified-to-be-unspecified ordering
-     * of getDeclaredMethods causes application problems</a>.
-     *
-     * @param methods to be sorted
-     * @return a sorted copy of methods
+     * @return {@code true} if and only if {@code name} equals {@code prefix + testMethodName.substring(offset)}
      */
-    private Method[] sorted(Method[] methods) {
-        // Comparator for {@link Method}s based upon JUnit 4's {@code org.junit.internal.MethodSorter} implementation.
-        Comparator<Method> defaultSorter = new Comparator<Method>() {
-            @Override
-            public int compare(Method method1, Method method2) {
-                String name1 = method1.getName();
-                String name2 = method2.getName();
-                int comparison = name1.hashCode() < name2.hashCode() ? -1 : name1.hashCode() == name2.hashCode() ? 0 : 1;
-                if (comparison == 0) {
-                    comparison = name1.compareTo(name2);
-                    if (comparison == 0) {
-                        comparison = method1.toString().compareTo(method2.toString());
-                    }
-                }
-                return comparison;
-            }
-        };
+    private static boolean isPrefixedName(String name, String prefix, String testMethodName, int offset) {
+        int length = testMethodName.length() - offset;
+        return name.length() == prefix.length() + length && name.startsWith(prefix)
+                && name.regionMatches(prefix.length(), testMethodName, offset, length);
+    }
 
-        Method[] result = Arrays.copyOf(methods, methods.length);
-        Arrays.sort(result, defaultSorter);
-        return result;
+    /**
+     * @return {@code true} if and only if {@code name} equals {@code prefix} plus {@code testMethodName} with uppercased
+     *         first letter
+     */
+    private static boolean isPrefixedCapitalizedName(String name, String prefix, String testMethodName) {
+        return name.length() == prefix.length() + testMethodName.length() && name.startsWith(prefix)
+                && name.charAt(prefix.length()) == toUpperCase(testMethodName.charAt(0))
+                && name.regionMatches(prefix.length() + 1, testMethodName, 1, testMethodName.length() - 1);
     }
 
-    private boolean isMethodShadowedBy(Method method, List<Method> methods) {
-        for (Method other : methods) {
-            if (!other.getName().equals(method.getName())) {
-                continue;
-            }
-            if (!Arrays.equals(other.getParameterTypes(), method.getParameterTypes())) {
-                continue;
-            }
-            return true;
+    /**
+     * Derives all dataprovider method names matching the name convention for the given test method name, i.e.
+     * <ul>
+     * <li>the test method name itself,</li>
+     * <li>prefix "test" replaced by "dataProvider" and "data", and</li>
+     * <li>additional prefix "dataProvider" and "data" with uppercased first letter of the test method name.</li>
+     * </ul>
+     * <p>
+     * This method is package private (= visible) for testing.
+     * </p>
+     *
+     * @param testMethodName for which the dataprovider method names are derived
+     * @return all dataprovider method names matching the name convention
+     */
+    static Set<String> getNameConventionNames(String testMethodName) {
+        Set<String> result = new LinkedHashSet<String>(8);
+        result.add(testMethodName);
+        if (testMethodName.startsWith("test")) {
+            String suffix = testMethodName.substring("test".length());
+            result.add("dataProvider" + suffix);
+            result.add("data" + suffix);
         }
-        return false;
+        if (!testMethodName.isEmpty()) {
+            String capitalized = toUpperCase(testMethodName.charAt(0)) + testMethodName.substring(1);
+            result.add("dataProvider" + capitalized);
+            result.add("data" + capitalized);
+        }
+        return result;
     }
 }
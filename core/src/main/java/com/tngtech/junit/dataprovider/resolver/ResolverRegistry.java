@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider.resolver;
+
+import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * Registry providing dataprovider method resolver instances. The default constructor of each resolver class is looked
+ * up and made accessible only once and cached globally using a {@link ClassValue}.
+ * <p>
+ * Resolver classes annotated with {@link Shareable} are instantiated only once and the same instance is returned for
+ * every request. All other resolver classes are considered to be stateful and are instantiated for every request
+ * using the cached constructor {@link MethodHandle}.
+ */
+public final class ResolverRegistry {
+
+    private static final ClassValue<Instantiator> INSTANTIATORS = new ClassValue<Instantiator>() {
+        @Override
+        protected Instantiator computeValue(Class<?> resolverClass) {
+            Instantiator instantiator = new Instantiator(resolverClass, findDefaultConstructor(resolverClass));
+            if (resolverClass.isAnnotationPresent(Shareable.class)) {
+                return new Instantiator(resolverClass, instantiator.newInstance());
+            }
+            return instantiator;
+        }
+    };
+
+    /**
+     * @param <T> the type of the requested resolver
+     * @param resolverClass of which an instance is requested
+     * @return the shared instance if the given {@code resolverClass} is annotated with {@link Shareable} or a new
+     *         instance otherwise; never {@code null}
+     * @throws NullPointerException if and only if given {@code resolverClass} is {@code null}
+     * @throws IllegalArgumentException if the given {@code resolverClass} cannot be instantiated using its default
+     *             constructor
+     */
+    public static <T> T getInstance(Class<T> resolverClass) {
+        checkNotNull(resolverClass, "'resolverClass' must not be null");
+        return resolverClass.cast(INSTANTIATORS.get(resolverClass).getInstance());
+    }
+
+    private static MethodHandle findDefaultConstructor(Class<?> clazz) {
+        Constructor<?> constructor;
+        try {
+            constructor = clazz.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(
+                    String.format("Could not find default constructor to instantiate '%s'.", clazz), e);
+        } catch (SecurityException e) {
+            throw new IllegalArgumentException(String.format(
+                    "Security violation while trying to access default constructor to instantiate '%s'.", clazz), e);
+        }
+        if (Modifier.isAbstract(clazz.getModifiers())) {
+            throw new IllegalArgumentException(
+                    String.format("Could not instantiate '%s' using default constructor.", clazz));
+        }
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException(
+                    String.format("Could not access default constructor to instantiate '%s'.", clazz), e);
+        }
+    }
+
+    private static final class Instantiator {
+        private final Class<?> resolverClass;
+        private final MethodHandle constructor;
+        private final Object sharedInstance;
+
+        Instantiator(Class<?> resolverClass, MethodHandle constructor) {
+            this.resolverClass = resolverClass;
+            this.constructor = constructor;
+            this.sharedInstance = null;
+        }
+
+        Instantiator(Class<?> resolverClass, Object sharedInstance) {
+            this.resolverClass = resolverClass;
+            this.constructor = null;
+            this.sharedInstance = sharedInstance;
+        }
+
+        Object getInstance() {
+            return (sharedInstance != null) ? sharedInstance : newInstance();
+        }
+
+        Object newInstance() {
+            try {
+                return constructor.invoke();
+            } catch (Throwable t) {
+                throw new IllegalArgumentException(String.format(
+                        "The default constructor of '%s' has thrown an exception: %s", resolverClass, t.getMessage()),
+                        t);
+            }
+        }
+    }
+}
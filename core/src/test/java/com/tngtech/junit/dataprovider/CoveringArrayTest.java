@@ -0,0 +1,179 @@
+package com.tngtech.junit.dataprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CoveringArrayTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testCoveringArrayShouldThrowIllegalArgumentExceptionIfStrengthIsNotPositive() {
+        // Given:
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("'strength' must be positive but was 0");
+
+        // When:
+        new CoveringArray(0, 0L, dimension(2));
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testCoveringArrayShouldThrowNullPointerExceptionIfAnyRowsAreNull() {
+        // Given:
+        expectedException.expect(NullPointerException.class);
+        expectedException.expectMessage("'rows' must not contain null");
+
+        // When:
+        new CoveringArray(2, 0L, dimension(2), null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testGenerateShouldReturnEmptyIfAnyRowsAreEmpty() {
+        // Given:
+        CoveringArray underTest = new CoveringArray(2, 0L, dimension(2), new Object[0][], dimension(3));
+
+        // When:
+        Object[][] result = underTest.generate();
+
+        // Then:
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void testGenerateShouldReturnCrossProductIfStrengthIsNotLessThanNumberOfDimensions() {
+        // Given:
+        CoveringArray underTest = new CoveringArray(3, 0L, dimension(2), dimension(3));
+
+        // When:
+        Object[][] result = underTest.generate();
+
+        // Then:
+        assertThat(result).hasSize(6);
+        assertThat(isCovering(result, 2, 2, 3)).isTrue();
+    }
+
+    @Test
+    public void testGenerateShouldCoverAllPairsWithFarFewerRowsThanCrossProduct() {
+        // Given:
+        Object[][][] dimensions = new Object[13][][];
+        Arrays.fill(dimensions, dimension(3));
+
+        CoveringArray underTest = new CoveringArray(2, 0L, dimensions);
+
+        // When:
+        Object[][] result = underTest.generate();
+
+        // Then:
+        assertThat(result.length).isLessThan(30); // cross product would have 3^13 = 1594323 rows
+        assertThat(isCovering(result, 2, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3, 3)).isTrue();
+    }
+
+    @Test
+    public void testGenerateShouldCoverAllTriplesForStrengthThree() {
+        // Given:
+        CoveringArray underTest = new CoveringArray(3, 0L, dimension(2), dimension(3), dimension(2), dimension(4),
+                dimension(2), dimension(3));
+
+        // When:
+        Object[][] result = underTest.generate();
+
+        // Then:
+        assertThat(result.length).isLessThan(2 * 3 * 2 * 4 * 2 * 3);
+        assertThat(isCovering(result, 3, 2, 3, 2, 4, 2, 3)).isTrue();
+    }
+
+    @Test
+    public void testGenerateShouldReturnSameResultForSameSeed() {
+        // Given:
+
+        // When:
+        Object[][] result1 = new CoveringArray(2, 42L, dimension(3), dimension(4), dimension(2), dimension(5)).generate();
+        Object[][] result2 = new CoveringArray(2, 42L, dimension(3), dimension(4), dimension(2), dimension(5)).generate();
+
+        // Then:
+        assertThat(result1).isEqualTo(result2);
+    }
+
+    @Test
+    public void testGenerateShouldConcatenateRowsOfAllDimensions() {
+        // Given:
+        CoveringArray underTest = new CoveringArray(2, 0L, new Object[][] { { 1, "a" } }, new Object[][] { { 2.0 } });
+
+        // When:
+        Object[][] result = underTest.generate();
+
+        // Then:
+        assertThat(result).isEqualTo(new Object[][] { { 1, "a", 2.0 } });
+    }
+
+    // -- helper methods -----------------------------------------------------------------------------------------------
+
+    /**
+     * @return rows {@code { 0 }, { 1 }, ...} such that the value of a row equals its index
+     */
+    private static Object[][] dimension(int size) {
+        Object[][] result = new Object[size][];
+        for (int idx = 0; idx < size; idx++) {
+            result[idx] = new Object[] { idx };
+        }
+        return result;
+    }
+
+    /**
+     * @return {@code true} if and only if the given single arg {@code rows} contain all combinations of values of any
+     *         {@code strength} dimensions having the given {@code sizes}
+     */
+    private static boolean isCovering(Object[][] rows, int strength, int... sizes) {
+        for (int[] dims : combinations(sizes.length, Math.min(strength, sizes.length))) {
+            Set<List<Object>> covered = new HashSet<List<Object>>();
+            for (Object[] row : rows) {
+                List<Object> values = new ArrayList<Object>();
+                for (int dim : dims) {
+                    values.add(row[dim]);
+                }
+                covered.add(values);
+            }
+
+            int expected = 1;
+            for (int dim : dims) {
+                expected *= sizes[dim];
+            }
+            if (covered.size() != expected) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<int[]> combinations(int n, int k) {
+        List<int[]> result = new ArrayList<int[]>();
+        addCombinations(new int[k], 0, 0, n, result);
+        return result;
+    }
+
+    private static void addCombinations(int[] dims, int position, int firstDim, int n, List<int[]> result) {
+        if (position == dims.length) {
+            result.add(dims.clone());
+            return;
+        }
+        for (int dim = firstDim; dim <= n - dims.length + position; dim++) {
+            dims[position] = dim;
+            addCombinations(dims, position + 1, dim + 1, n, result);
+        }
+    }
+}
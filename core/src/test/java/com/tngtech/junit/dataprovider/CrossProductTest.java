@@ -0,0 +1,170 @@
+package com.tngtech.junit.dataprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CrossProductTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private final Object[][] rows1 = new Object[][] { { 1, "a" }, { 2, "b" } };
+    private final Object[][] rows2 = new Object[][] { { 3 }, { 4 }, { 5 } };
+    private final Object[][] rows3 = new Object[][] { { 6.0, 7.0 }, { 8.0, 9.0 } };
+
+    @Test
+    public void testCrossProductShouldThrowNullPointerExceptionIfRowsIsNull() {
+        // Given:
+        expectedException.expect(NullPointerException.class);
+        expectedException.expectMessage("'rows' must not be null");
+
+        // When:
+        new CrossProduct((Object[][][]) null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testCrossProductShouldThrowNullPointerExceptionIfAnyRowsAreNull() {
+        // Given:
+        expectedException.expect(NullPointerException.class);
+        expectedException.expectMessage("'rows' must not contain null");
+
+        // When:
+        new CrossProduct(rows1, null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testCrossProductShouldThrowIllegalArgumentExceptionIfSizeOverflows() {
+        // Given:
+        Object[][] rows = new Object[Integer.MAX_VALUE / 1024][];
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Cross product must not have more than");
+
+        // When:
+        new CrossProduct(rows, rows, rows, rows);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testSizeShouldReturnProductOfAllRows() {
+        // Given:
+        CrossProduct underTest = new CrossProduct(rows1, rows2, rows3);
+
+        // When:
+        long result = underTest.size();
+
+        // Then:
+        assertThat(result).isEqualTo(12);
+    }
+
+    @Test
+    public void testGetShouldReturnSameRowsAsIterator() {
+        // Given:
+        CrossProduct underTest = new CrossProduct(rows1, rows2, rows3);
+
+        // When:
+        List<Object[]> result = new ArrayList<Object[]>();
+        for (long idx = 0; idx < underTest.size(); idx++) {
+            result.add(underTest.get(idx));
+        }
+
+        // Then:
+        assertThat(result).hasSize(12);
+        assertThat(result.get(0)).isEqualTo(new Object[] { 1, "a", 3, 6.0, 7.0 });
+        assertThat(result.get(5)).isEqualTo(new Object[] { 1, "a", 5, 8.0, 9.0 });
+        assertThat(result.get(11)).isEqualTo(new Object[] { 2, "b", 5, 8.0, 9.0 });
+
+        int idx = 0;
+        for (Object[] row : underTest) {
+            assertThat(row).isEqualTo(result.get(idx++));
+        }
+        assertThat(idx).isEqualTo(12);
+    }
+
+    @Test
+    public void testGetShouldThrowIndexOutOfBoundsExceptionIfIndexIsNotLessThanSize() {
+        // Given:
+        CrossProduct underTest = new CrossProduct(rows1, rows2);
+
+        expectedException.expect(IndexOutOfBoundsException.class);
+        expectedException.expectMessage("Index: 6, Size: 6");
+
+        // When:
+        underTest.get(6);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testIteratorShouldThrowNoSuchElementExceptionIfExhausted() {
+        // Given:
+        Iterator<Object[]> underTest = new CrossProduct(rows2).iterator();
+        underTest.next();
+        underTest.next();
+        underTest.next();
+
+        expectedException.expect(NoSuchElementException.class);
+
+        // When:
+        underTest.next();
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testSpliteratorShouldSplitIntoTwoHalvesCoveringAllRows() {
+        // Given:
+        Spliterator<Object[]> underTest = new CrossProduct(rows1, rows2, rows3).spliterator();
+
+        // When:
+        Spliterator<Object[]> prefix = underTest.trySplit();
+
+        // Then:
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.estimateSize()).isEqualTo(6);
+        assertThat(underTest.estimateSize()).isEqualTo(6);
+        assertThat(underTest.hasCharacteristics(Spliterator.SIZED | Spliterator.ORDERED)).isTrue();
+
+        List<Object[]> rows = new ArrayList<Object[]>();
+        CollectingConsumer consumer = new CollectingConsumer(rows);
+        while (prefix.tryAdvance(consumer)) {
+            // collect
+        }
+        while (underTest.tryAdvance(consumer)) {
+            // collect
+        }
+        assertThat(rows).hasSize(12);
+        assertThat(rows.get(6)).isEqualTo(new Object[] { 2, "b", 3, 6.0, 7.0 });
+    }
+
+    // -- helper classes -----------------------------------------------------------------------------------------------
+
+    private static class CollectingConsumer implements Consumer<Object[]> {
+        private final List<Object[]> rows;
+
+        CollectingConsumer(List<Object[]> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public void accept(Object[] row) {
+            rows.add(row);
+        }
+    }
+}
@@ -4,14 +4,26 @@ import static com.tngtech.junit.dataprovider.DataProviders.$;
 import static com.tngtech.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.junit.dataprovider.DataProviders.crossProduct;
 import static com.tngtech.junit.dataprovider.DataProviders.crossProductSingleArg;
+import static com.tngtech.junit.dataprovider.DataProviders.crossProductStream;
+import static com.tngtech.junit.dataprovider.DataProviders.crossProductStreamSingleArg;
+import static com.tngtech.junit.dataprovider.DataProviders.lazyCrossProduct;
+import static com.tngtech.junit.dataprovider.DataProviders.lazyCrossProductSingleArg;
+import static com.tngtech.junit.dataprovider.DataProviders.pairwise;
+import static com.tngtech.junit.dataprovider.DataProviders.pairwiseSingleArg;
+import static com.tngtech.junit.dataprovider.DataProviders.tWise;
 import static com.tngtech.junit.dataprovider.DataProviders.testForEach;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -332,6 +344,193 @@ public class DataProvidersTest {
                 .isEqualTo(new Object[][] { { 1, 4 }, { 1, 5.0 }, { "2", 4 }, { "2", 5.0 }, { 3l, 4 }, { 3l, 5.0 } });
     }
 
+    @Test
+    public void testLazyCrossProductShouldThrowIllegalArgumentExceptionIfNoRowsAreGiven() {
+        // Given:
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("'rows' must not be empty");
+
+        // When:
+        lazyCrossProduct();
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testLazyCrossProductShouldReturnEmptyIfAnyRowsAreEmpty() {
+        // Given:
+
+        // When:
+        Iterable<Object[]> result = lazyCrossProduct(new Object[][] { { 1 } }, new Object[0][], new Object[][] { { 2 } });
+
+        // Then:
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    public void testLazyCrossProductShouldReturnSameRowsAsCrossProductForTwoRows() {
+        // Given:
+        Object[][] rows1 = new Object[][] { { 1, 2 }, { 3, 4 } };
+        Object[][] rows2 = new Object[][] { { 5, 6, 7 }, { 8, 9, 0 } };
+
+        // When:
+        Iterable<Object[]> result = lazyCrossProduct(rows1, rows2);
+
+        // Then:
+        assertThat(toArray(result)).isEqualTo(crossProduct(rows1, rows2));
+    }
+
+    @Test
+    public void testLazyCrossProductShouldReturnTheCrossProductOfMoreThanTwoRowsAndBeReusable() {
+        // Given:
+
+        // When:
+        Iterable<Object[]> result = lazyCrossProduct(new Object[][] { { 1 }, { 2 } }, new Object[][] { { "a", "b" } },
+                new Object[][] { { 3.0 }, { 4.0 } });
+
+        // Then:
+        Object[][] expected = new Object[][] { { 1, "a", "b", 3.0 }, { 1, "a", "b", 4.0 }, { 2, "a", "b", 3.0 },
+                { 2, "a", "b", 4.0 } };
+        assertThat(toArray(result)).isEqualTo(expected);
+        assertThat(toArray(result)).isEqualTo(expected);
+    }
+
+    @Test
+    public void testLazyCrossProductSingleArgShouldReturnSameRowsAsCrossProductSingleArg() {
+        // Given:
+        Object[] rows1 = new Object[] { 1, "2", 3l };
+        Object[] rows2 = new Object[] { 4, 5.0 };
+
+        // When:
+        Iterable<Object[]> result = lazyCrossProductSingleArg(rows1, rows2);
+
+        // Then:
+        assertThat(toArray(result)).isEqualTo(crossProductSingleArg(rows1, rows2));
+    }
+
+    @Test
+    public void testCrossProductStreamShouldReturnTheCrossProductOfAllRowsInOrderEvenIfParallel() {
+        // Given:
+
+        // When:
+        List<Object[]> result = crossProductStream(new Object[][] { { 1 }, { 2 }, { 3 } },
+                new Object[][] { { 4 }, { 5 } }, new Object[][] { { 6 }, { 7 } }).parallel().collect(toList());
+
+        // Then:
+        assertThat(result).hasSize(12);
+        assertThat(result.get(0)).isEqualTo(new Object[] { 1, 4, 6 });
+        assertThat(result.get(1)).isEqualTo(new Object[] { 1, 4, 7 });
+        assertThat(result.get(2)).isEqualTo(new Object[] { 1, 5, 6 });
+        assertThat(result.get(11)).isEqualTo(new Object[] { 3, 5, 7 });
+    }
+
+    @Test
+    public void testCrossProductStreamSingleArgShouldReturnTheCrossProductOfAllRows() {
+        // Given:
+
+        // When:
+        List<Object[]> result = crossProductStreamSingleArg(new Object[] { 1, 2 }, new Object[] { "a" },
+                new Object[] { true, false }).collect(toList());
+
+        // Then:
+        assertThat(toArray(result)).isEqualTo(new Object[][] { { 1, "a", true }, { 1, "a", false }, { 2, "a", true },
+                { 2, "a", false } });
+    }
+
+    @Test
+    public void testPairwiseShouldThrowNullPointerExceptionIfAnyRowsAreNull() {
+        // Given:
+        expectedException.expect(NullPointerException.class);
+        expectedException.expectMessage("'rows' must not contain null");
+
+        // When:
+        pairwise(new Object[][] { { 1 } }, null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testPairwiseShouldCoverAllPairsOfRowsWithFewerRowsThanCrossProduct() {
+        // Given:
+        Object[][] rows = new Object[][] { { 1 }, { 2 }, { 3 } };
+
+        // When:
+        Object[][] result = pairwise(rows, rows, rows, rows);
+
+        // Then:
+        assertThat(result.length).isLessThan(3 * 3 * 3 * 3);
+        for (int dim1 = 0; dim1 < 4; dim1++) {
+            for (int dim2 = dim1 + 1; dim2 < 4; dim2++) {
+                Set<List<Object>> pairs = new HashSet<List<Object>>();
+                for (Object[] row : result) {
+                    pairs.add(asList(row[dim1], row[dim2]));
+                }
+                assertThat(pairs).hasSize(9);
+            }
+        }
+    }
+
+    @Test
+    public void testPairwiseShouldReturnCrossProductForTwoRows() {
+        // Given:
+        Object[][] rows1 = new Object[][] { { 1, "1" }, { 2, "2" } };
+        Object[][] rows2 = new Object[][] { { 3.0 }, { 4.0 } };
+
+        // When:
+        Object[][] result = pairwise(rows1, rows2);
+
+        // Then:
+        assertThat(result).hasSize(4).contains(crossProduct(rows1, rows2));
+    }
+
+    @Test
+    public void testPairwiseSingleArgShouldReturnSameAsPairwiseForWrappedRows() {
+        // Given:
+
+        // When:
+        Object[][] result = pairwiseSingleArg(new Object[] { 1, 2 }, new Object[] { "a", "b" },
+                new Object[] { true, false });
+
+        // Then:
+        assertThat(result).isEqualTo(pairwise(new Object[][] { { 1 }, { 2 } }, new Object[][] { { "a" }, { "b" } },
+                new Object[][] { { true }, { false } }));
+    }
+
+    @Test
+    public void testTWiseShouldThrowIllegalArgumentExceptionIfStrengthIsNotPositive() {
+        // Given:
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("'strength' must be positive but was -1");
+
+        // When:
+        tWise(-1, 0L, new Object[][] { { 1 } });
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testTWiseShouldReturnSameRowsForSameSeed() {
+        // Given:
+        Object[][] rows = new Object[][] { { 1 }, { 2 }, { 3 }, { 4 } };
+
+        // When:
+        Object[][] result1 = tWise(3, 7L, rows, rows, rows, rows, rows);
+        Object[][] result2 = tWise(3, 7L, rows, rows, rows, rows, rows);
+
+        // Then:
+        assertThat(result1).isEqualTo(result2);
+    }
+
+    // -- helper methods -----------------------------------------------------------------------------------------------
+
+    private static Object[][] toArray(Iterable<Object[]> rows) {
+        List<Object[]> result = new ArrayList<Object[]>();
+        for (Object[] row : rows) {
+            result.add(row);
+        }
+        return result.toArray(new Object[result.size()][]);
+    }
+
     // -- Test data ----------------------------------------------------------------------------------------------------
 
     protected enum TestEnum {
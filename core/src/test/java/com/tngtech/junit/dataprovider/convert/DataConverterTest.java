@@ -2,14 +2,21 @@ package com.tngtech.junit.dataprovider.convert;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.junit.Before;
@@ -104,7 +111,7 @@ public class DataConverterTest {
 
         expectedException.expect(ClassCastException.class);
         expectedException.expectMessage(
-                "Cannot cast to either Object[][], Object[], String[], or Iterable because data was: null");
+                "Cannot cast to either Object[][], Object[], String[], Iterable, Iterator, Stream, or Supplier because data was: null");
 
         // When:
         underTest.convert(data, false, parameterTypes, context);
@@ -120,7 +127,7 @@ public class DataConverterTest {
 
         expectedException.expect(ClassCastException.class);
         expectedException.expectMessage(
-                "Cannot cast to either Object[][], Object[], String[], or Iterable because data was: " + data);
+                "Cannot cast to either Object[][], Object[], String[], Iterable, Iterator, Stream, or Supplier because data was: " + data);
 
         // When:
         underTest.convert(data, false, parameterTypes, context);
@@ -293,4 +300,238 @@ public class DataConverterTest {
         inOrder.verify(stringConverter).convert(data[1], false, parameterTypes, context, 1);
         verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
     }
+
+    @Test
+    public void testConvertToIteratorShouldThrowClassCastExceptionEagerlyIfDataIsNotConvertable() {
+        // Given:
+        Object data = "not convertable";
+        Class<?>[] parameterTypes = new Class<?>[] { Integer.class };
+
+        expectedException.expect(ClassCastException.class);
+        expectedException.expectMessage(
+                "Cannot cast to either Object[][], Object[], String[], Iterable, Iterator, Stream, or Supplier because data was: " + data);
+
+        // When:
+        underTest.convertToIterator(data, false, parameterTypes, context);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testConvertToIteratorShouldNotConvertAnyRowBeforeItIsRequested() {
+        // Given:
+        String[] data = new String[] { "1, 2", "3, 4" };
+        Class<?>[] parameterTypes = new Class<?>[] { int.class, int.class };
+
+        // When:
+        Iterator<Object[]> result = underTest.convertToIterator(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(result.hasNext()).isTrue();
+        verify(stringConverter, never()).convert(data[0], false, parameterTypes, context, 0);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertToIteratorShouldConvertRowsOneByOneInOrder() {
+        // Given:
+        String[] data = new String[] { "1, 2", "3, 4" };
+        Class<?>[] parameterTypes = new Class<?>[] { int.class, int.class };
+
+        // When:
+        Iterator<Object[]> result = underTest.convertToIterator(data, false, parameterTypes, context);
+        result.next();
+
+        // Then:
+        verify(stringConverter).convert(data[0], false, parameterTypes, context, 0);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+
+        result.next();
+        verify(stringConverter).convert(data[1], false, parameterTypes, context, 1);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    public void testConvertToStreamShouldConvertOnlyConsumedRows() {
+        // Given:
+        List<Object> data = Arrays.<Object>asList("12", 34L, 5.6);
+        Class<?>[] parameterTypes = new Class<?>[] { Object.class };
+
+        // When:
+        List<Object[]> result = underTest.convertToStream(data, false, parameterTypes, context).limit(2)
+                .collect(toList());
+
+        // Then:
+        assertThat(result).hasSize(2);
+        InOrder inOrder = inOrder(objectArrayConverter, singleArgConverter, stringConverter);
+        inOrder.verify(singleArgConverter).convert(data.get(0), false, parameterTypes);
+        inOrder.verify(singleArgConverter).convert(data.get(1), false, parameterTypes);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertShouldCallSingleArgConverterForEachElementOfStream() {
+        // Given:
+        Stream<Object> data = Stream.<Object>of("12", 34L);
+        Class<?>[] parameterTypes = new Class<?>[] { Object.class };
+
+        // When:
+        List<Object[]> result = underTest.convert(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(result).hasSize(2);
+        InOrder inOrder = inOrder(objectArrayConverter, singleArgConverter, stringConverter);
+        inOrder.verify(singleArgConverter).convert("12", false, parameterTypes);
+        inOrder.verify(singleArgConverter).convert(34L, false, parameterTypes);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertShouldCloseStreamAfterConsumingIt() {
+        // Given:
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Object> data = Stream.<Object>of("12").onClose(new Runnable() {
+            @Override
+            public void run() {
+                closed.set(true);
+            }
+        });
+        Class<?>[] parameterTypes = new Class<?>[] { Object.class };
+
+        // When:
+        underTest.convert(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    public void testConvertShouldCallObjectArrayConverterForEachElementOfIteratorOfList() {
+        // Given:
+        List<Object> row0 = Arrays.<Object>asList(1, "2");
+        List<Object> row1 = Arrays.<Object>asList(3, "4");
+        @SuppressWarnings("unchecked")
+        Iterator<List<Object>> data = asList(row0, row1).iterator();
+        Class<?>[] parameterTypes = new Class<?>[] { int.class, String.class };
+
+        // When:
+        List<Object[]> result = underTest.convert(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(result).hasSize(2);
+        InOrder inOrder = inOrder(objectArrayConverter, singleArgConverter, stringConverter);
+        inOrder.verify(objectArrayConverter).convert(row0.toArray(), false, parameterTypes);
+        inOrder.verify(objectArrayConverter).convert(row1.toArray(), false, parameterTypes);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertShouldCallObjectArrayConverterForEachElementOfStreamOfObjectArray() {
+        // Given:
+        Object[] row0 = new Object[] { 1, "2" };
+        Object[] row1 = new Object[] { 3, "4" };
+        Stream<Object[]> data = Stream.of(row0, row1);
+        Class<?>[] parameterTypes = new Class<?>[] { int.class, String.class };
+
+        // When:
+        List<Object[]> result = underTest.convert(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(result).hasSize(2);
+        InOrder inOrder = inOrder(objectArrayConverter, singleArgConverter, stringConverter);
+        inOrder.verify(objectArrayConverter).convert(row0, false, parameterTypes);
+        inOrder.verify(objectArrayConverter).convert(row1, false, parameterTypes);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertShouldCallSingleArgConverterForObjectArrayElementOfIterableIfSingleParameterAcceptsIt() {
+        // Given:
+        String[] row = new String[] { "1", "2" };
+        List<String[]> data = Collections.singletonList(row);
+        Class<?>[] parameterTypes = new Class<?>[] { String[].class };
+
+        // When:
+        List<Object[]> result = underTest.convert(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(result).hasSize(1);
+        verify(singleArgConverter).convert(row, false, parameterTypes);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertShouldUseSuppliedDataOnEveryConversionForSupplier() {
+        // Given:
+        Supplier<Stream<Object>> data = new Supplier<Stream<Object>>() {
+            @Override
+            public Stream<Object> get() {
+                return Stream.<Object>of("12");
+            }
+        };
+        Class<?>[] parameterTypes = new Class<?>[] { Object.class };
+
+        // When:
+        List<Object[]> result1 = underTest.convert(data, false, parameterTypes, context);
+        List<Object[]> result2 = underTest.convert(data, false, parameterTypes, context);
+
+        // Then:
+        assertThat(result1).hasSize(1);
+        assertThat(result2).hasSize(1);
+        verify(singleArgConverter, times(2)).convert("12", false, parameterTypes);
+        verifyNoMoreInteractions(objectArrayConverter, singleArgConverter, stringConverter);
+    }
+
+    @Test
+    public void testConvertToStreamShouldCloseGivenStreamOnClose() {
+        // Given:
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        Stream<Object> data = Stream.<Object>of("12").onClose(new Runnable() {
+            @Override
+            public void run() {
+                closed.set(true);
+            }
+        });
+        Class<?>[] parameterTypes = new Class<?>[] { Object.class };
+
+        // When:
+        underTest.convertToStream(data, false, parameterTypes, context).close();
+
+        // Then:
+        assertThat(closed.get()).isTrue();
+    }
+
+    @Test
+    public void testIsReusableShouldReturnFalseForSingleUseData() {
+        // Given:
+
+        // When:
+        boolean resultIterator = DataConverter.isReusable(singletonList("a").iterator());
+        boolean resultStream = DataConverter.isReusable(Stream.of("a"));
+
+        // Then:
+        assertThat(resultIterator).isFalse();
+        assertThat(resultStream).isFalse();
+    }
+
+    @Test
+    public void testIsReusableShouldReturnTrueForReusableData() {
+        // Given:
+        Supplier<Stream<String>> supplier = new Supplier<Stream<String>>() {
+            @Override
+            public Stream<String> get() {
+                return Stream.of("a");
+            }
+        };
+
+        // When:
+        boolean resultArray = DataConverter.isReusable(new Object[][] { { "a" } });
+        boolean resultIterable = DataConverter.isReusable(singletonList("a"));
+        boolean resultSupplier = DataConverter.isReusable(supplier);
+
+        // Then:
+        assertThat(resultArray).isTrue();
+        assertThat(resultIterable).isTrue();
+        assertThat(resultSupplier).isTrue();
+    }
 }
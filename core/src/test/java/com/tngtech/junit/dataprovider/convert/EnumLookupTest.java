@@ -0,0 +1,116 @@
+package com.tngtech.junit.dataprovider.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class EnumLookupTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testForTypeShouldThrowIllegalArgumentExceptionIfTypeIsNoEnum() {
+        // Given:
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("'java.lang.String' is not an enum type");
+
+        // When:
+        EnumLookup.forType(String.class);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testForTypeShouldReturnSameInstanceForSameType() {
+        // Given:
+
+        // When:
+        EnumLookup result1 = EnumLookup.forType(TestEnum.class);
+        EnumLookup result2 = EnumLookup.forType(TestEnum.class);
+
+        // Then:
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    public void testGetShouldReturnConstantForExactName() {
+        // Given:
+        EnumLookup underTest = EnumLookup.forType(TestEnum.class);
+
+        // When:
+        Enum<?> result = underTest.get("VAL_ONE", false);
+
+        // Then:
+        assertThat(result).isEqualTo(TestEnum.VAL_ONE);
+    }
+
+    @Test
+    public void testGetShouldReturnNullForDifferentCaseIfCaseIsNotIgnored() {
+        // Given:
+        EnumLookup underTest = EnumLookup.forType(TestEnum.class);
+
+        // When:
+        Enum<?> result = underTest.get("val_one", false);
+
+        // Then:
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testGetShouldReturnConstantForDifferentCaseIfCaseIsIgnored() {
+        // Given:
+        EnumLookup underTest = EnumLookup.forType(TestEnum.class);
+
+        // When:
+        Enum<?> result = underTest.get("vAl_OnE", true);
+
+        // Then:
+        assertThat(result).isEqualTo(TestEnum.VAL_ONE);
+    }
+
+    @Test
+    public void testGetShouldReturnNullForUnknownNameIfCaseIsIgnored() {
+        // Given:
+        EnumLookup underTest = EnumLookup.forType(TestEnum.class);
+
+        // When:
+        Enum<?> result = underTest.get("VAL_THREE", true);
+
+        // Then:
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testGetShouldReturnFirstDeclaredConstantIfMultipleOnlyDifferInCaseAndCaseIsIgnored() {
+        // Given:
+        EnumLookup underTest = EnumLookup.forType(TestEnum.class);
+
+        // When:
+        Enum<?> result = underTest.get("VAL_TWO", true);
+
+        // Then:
+        assertThat(result).isEqualTo(TestEnum.Val_Two);
+    }
+
+    @Test
+    public void testGetShouldReturnExactConstantIfMultipleOnlyDifferInCaseAndCaseIsNotIgnored() {
+        // Given:
+        EnumLookup underTest = EnumLookup.forType(TestEnum.class);
+
+        // When:
+        Enum<?> result = underTest.get("VAL_TWO", false);
+
+        // Then:
+        assertThat(result).isEqualTo(TestEnum.VAL_TWO);
+    }
+
+    // -- Test data ----------------------------------------------------------------------------------------------------
+
+    private enum TestEnum {
+        VAL_ONE, Val_Two, VAL_TWO
+    }
+}
@@ -0,0 +1,138 @@
+package com.tngtech.junit.dataprovider.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class SplitterTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testOfShouldThrowNullPointerExceptionIfRegexIsNull() {
+        // Given:
+        expectedException.expect(NullPointerException.class);
+        expectedException.expectMessage("'regex' must not be null");
+
+        // When:
+        Splitter.of(null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testOfShouldThrowPatternSyntaxExceptionIfRegexIsInvalid() {
+        // Given:
+        expectedException.expect(PatternSyntaxException.class);
+
+        // When:
+        Splitter.of("[");
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testSplitShouldReturnSingleEmptyStringForEmptyData() {
+        // Given:
+        Splitter underTest = Splitter.of(",");
+
+        // When:
+        String[] result = underTest.split("");
+
+        // Then:
+        assertThat(result).containsExactly("");
+    }
+
+    @Test
+    public void testSplitShouldKeepLeadingAndTrailingEmptyStringsForLiteral() {
+        // Given:
+        Splitter underTest = Splitter.of(",");
+
+        // When:
+        String[] result = underTest.split(",a,,b,");
+
+        // Then:
+        assertThat(result).containsExactly("", "a", "", "b", "");
+    }
+
+    @Test
+    public void testSplitShouldSplitByMultiCharacterLiteral() {
+        // Given:
+        Splitter underTest = Splitter.of("::");
+
+        // When:
+        String[] result = underTest.split("a:::b::");
+
+        // Then:
+        assertThat(result).containsExactly("a", ":b", "");
+    }
+
+    @Test
+    public void testSplitShouldSplitByEscapedMetaCharacterAsLiteral() {
+        // Given:
+        Splitter underTest = Splitter.of("\\|");
+
+        // When:
+        String[] result = underTest.split("1|2||");
+
+        // Then:
+        assertThat(result).containsExactly("1", "2", "", "");
+    }
+
+    @Test
+    public void testSplitShouldSplitByRegex() {
+        // Given:
+        Splitter underTest = Splitter.of("\\s*;\\s*");
+
+        // When:
+        String[] result = underTest.split("a ; b;c  ;");
+
+        // Then:
+        assertThat(result).containsExactly("a", "b", "c", "");
+    }
+
+    @Test
+    public void testSplitShouldTreatUnescapedMetaCharacterAsRegex() {
+        // Given:
+        Splitter underTest = Splitter.of("|");
+
+        // When:
+        String[] result = underTest.split("ab");
+
+        // Then:
+        assertThat(result).containsExactly(legacySplit("ab", "|"));
+    }
+
+    @Test
+    public void testSplitShouldReturnSameResultAsLegacySplitForVariousRegexAndData() {
+        // Given:
+        String[] regexes = { ",", "\\|", "\\.", ", ", "\\t", "\\s*,\\s*", "\\Q,\\E", "x" };
+        String[] data = { "", ",", ",,", "a", "a,b", " a , b ,", "a|b|", "a.b", "\ta\t", "xx", "a\\,b" };
+
+        for (String regex : regexes) {
+            Splitter underTest = Splitter.of(regex);
+            for (String d : data) {
+                // When:
+                String[] result = underTest.split(d);
+
+                // Then:
+                assertThat(result).as("split of '%s' by '%s'", d, regex).containsExactly(legacySplit(d, regex));
+            }
+        }
+    }
+
+    private static String[] legacySplit(String data, String regex) {
+        String[] splitData = (data + "\0").split(regex);
+
+        int lastItemIdx = splitData.length - 1;
+        splitData[lastItemIdx] = splitData[lastItemIdx].substring(0, splitData[lastItemIdx].length() - 1);
+
+        return splitData;
+    }
+}
@@ -2,6 +2,7 @@ package com.tngtech.junit.dataprovider.convert;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -9,9 +10,12 @@ import java.lang.reflect.UndeclaredThrowableException;
 import java.math.BigInteger;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.junit.Rule;
@@ -148,6 +152,45 @@ public class StringConverterTest {
         assertThat(result).containsExactly(" foo", "  bar   ", "baz    ");
     }
 
+    @Test
+    public void testConvertShouldSplitCorrectlyIfDifferentRegexesAreUsedAlternately() {
+        // Given:
+        Class<?>[] parameterTypes = new Class<?>[] { String.class, String.class };
+
+        ConverterContext context2 = mock(ConverterContext.class);
+        when(context.getSplitBy()).thenReturn(",");
+        when(context2.getSplitBy()).thenReturn("\\s*\\|\\s*");
+
+        // When:
+        Object[] result1 = underTest.convert("a,b|c", false, parameterTypes, context, 0);
+        Object[] result2 = underTest.convert("a,b | c", false, parameterTypes, context2, 0);
+        Object[] result3 = underTest.convert("d|e,f", false, parameterTypes, context, 1);
+
+        // Then:
+        assertThat(result1).containsExactly("a", "b|c");
+        assertThat(result2).containsExactly("a,b", "c");
+        assertThat(result3).containsExactly("d|e", "f");
+    }
+
+    @Test
+    public void testConvertShouldSplitCorrectlyIfMoreRegexesThanCachedAreUsed() {
+        // Given:
+        Class<?>[] parameterTypes = new Class<?>[] { String.class, String.class };
+
+        // When:
+        List<Object[]> result = new ArrayList<Object[]>();
+        for (int idx = 0; idx < 100; idx++) {
+            when(context.getSplitBy()).thenReturn("#" + idx + "#");
+            result.add(underTest.convert("a#" + idx + "#b", false, parameterTypes, context, idx));
+        }
+
+        // Then:
+        assertThat(result).hasSize(100);
+        for (Object[] each : result) {
+            assertThat(each).containsExactly("a", "b");
+        }
+    }
+
     @Test
     public void testConvertShouldTrimAndParseAllPrimitiveTypesIfSettingsTrimIsTrue() {
         // Given:
@@ -274,6 +317,63 @@ public class StringConverterTest {
         // Then: expect exception
     }
 
+    @Test
+    public void testConvertShouldUseStaticParseFactoryMethodIfNoStringConstructorExists() {
+        // Given:
+        String data = "2016-03-11";
+        Class<?>[] parameterTypes = new Class<?>[] { LocalDate.class };
+
+        // When:
+        Object[] result = underTest.convert(data, false, parameterTypes, context, 44);
+
+        // Then:
+        assertThat(result).containsExactly(LocalDate.of(2016, 3, 11));
+    }
+
+    @Test
+    public void testConvertShouldUseStaticValueOfFactoryMethodIfNoStringConstructorExists() {
+        // Given:
+        String data = "foo";
+        Class<?>[] parameterTypes = new Class<?>[] { ValueOfType.class };
+
+        // When:
+        Object[] result = underTest.convert(data, false, parameterTypes, context, 45);
+
+        // Then:
+        assertThat(result).hasSize(1);
+        assertThat(((ValueOfType) result[0]).value).isEqualTo("valueOf:foo");
+    }
+
+    @Test
+    public void testConvertShouldPreferStringConstructorOverStaticValueOfFactoryMethod() {
+        // Given:
+        String data = "bar";
+        Class<?>[] parameterTypes = new Class<?>[] { ConstructorAndValueOfType.class };
+
+        // When:
+        Object[] result = underTest.convert(data, false, parameterTypes, context, 46);
+
+        // Then:
+        assertThat(result).hasSize(1);
+        assertThat(((ConstructorAndValueOfType) result[0]).value).isEqualTo("constructor:bar");
+    }
+
+    @Test
+    public void testConvertShouldThrowIllegalArgumentExceptionForStaticFactoryMethodWhichThrowsException() {
+        // Given:
+        String data = "noDate";
+        Class<?>[] parameterTypes = new Class<?>[] { LocalDate.class };
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage(
+                "Tried to invoke 'public static java.time.LocalDate java.time.LocalDate.parse(java.lang.CharSequence)' for argument 'noDate'");
+
+        // When:
+        underTest.convert(data, false, parameterTypes, context, 47);
+
+        // Then: expect exception
+    }
+
     @Test
     public void testConvertShouldThrowIllegalArgumentExceptionForUnsupportedTargetType() {
         // Given:
@@ -434,6 +534,82 @@ public class StringConverterTest {
         assertThat(result).containsExactly(null, null, "foo");
     }
 
+    @Test
+    public void testConvertShouldConvertEveryRowCorrectlyIfParameterTypesChangeBetweenCalls() {
+        // Given:
+        String data = "1, 2";
+
+        when(context.getSplitBy()).thenReturn(",");
+        when(context.isTrimValues()).thenReturn(true);
+
+        // When:
+        Object[] result1 = underTest.convert(data, false, new Class<?>[] { int.class, long.class }, context, 0);
+        Object[] result2 = underTest.convert(data, false, new Class<?>[] { String.class, short.class }, context, 1);
+        Object[] result3 = underTest.convert(data, false, new Class<?>[] { int.class, long.class }, context, 2);
+
+        // Then:
+        assertThat(result1).containsExactly(1, 2L);
+        assertThat(result2).containsExactly("1", (short) 2);
+        assertThat(result3).containsExactly(1, 2L);
+    }
+
+    @Test
+    public void testConvertShouldConvertEveryRowCorrectlyIfGivenParameterTypesArrayIsModifiedBetweenCalls() {
+        // Given:
+        String data = "3";
+        Class<?>[] parameterTypes = new Class<?>[] { Integer.class };
+
+        // When:
+        Object[] result1 = underTest.convert(data, false, parameterTypes, context, 0);
+        parameterTypes[0] = String.class;
+        Object[] result2 = underTest.convert(data, false, parameterTypes, context, 1);
+
+        // Then:
+        assertThat(result1).containsExactly(3);
+        assertThat(result2).containsExactly("3");
+    }
+
+    @Test
+    public void testConvertShouldConvertEveryRowCorrectlyIfVarargsChangesBetweenCalls() {
+        // Given:
+        String data = "4, 5";
+
+        when(context.getSplitBy()).thenReturn(",");
+        when(context.isTrimValues()).thenReturn(true);
+
+        // When:
+        Object[] result1 = underTest.convert(data, true, new Class<?>[] { int[].class }, context, 0);
+        Object[] result2 = underTest.convert(data, false, new Class<?>[] { int.class, int.class }, context, 1);
+
+        // Then:
+        assertThat(result1).containsExactly(new int[] { 4, 5 });
+        assertThat(result2).containsExactly(4, 5);
+    }
+
+    @Test
+    public void testConvertShouldUseOverriddenConversionMethodsForEveryValue() {
+        // Given:
+        String data = "1, 2";
+
+        when(context.getSplitBy()).thenReturn(",");
+        when(context.isTrimValues()).thenReturn(true);
+
+        StringConverter underTest = new StringConverter() {
+            @Override
+            protected Object convertToLong(String str) {
+                return Long.valueOf(str) * 10;
+            }
+        };
+
+        // When:
+        Object[] result1 = underTest.convert(data, false, new Class<?>[] { int.class, long.class }, context, 0);
+        Object[] result2 = underTest.convert(data, true, new Class<?>[] { Long[].class }, context, 1);
+
+        // Then:
+        assertThat(result1).containsExactly(1, 20L);
+        assertThat(result2).containsExactly((Object) new Long[] { 10L, 20L });
+    }
+
     @Test
     public void testConvertShouldCallCustomConvertAndNotReturnValueIfObjectNoConversion() {
         // Given:
@@ -636,6 +812,34 @@ public class StringConverterTest {
         VAL1, VAL2, VAL3
     }
 
+    public static class ValueOfType {
+        final String value;
+
+        private ValueOfType(String value) {
+            this.value = value;
+        }
+
+        public static ValueOfType valueOf(String value) {
+            return new ValueOfType("valueOf:" + value);
+        }
+    }
+
+    public static class ConstructorAndValueOfType {
+        final String value;
+
+        public ConstructorAndValueOfType(String value) {
+            this(value, "constructor:");
+        }
+
+        private ConstructorAndValueOfType(String value, String prefix) {
+            this.value = prefix + value;
+        }
+
+        public static ConstructorAndValueOfType valueOf(String value) {
+            return new ConstructorAndValueOfType(value, "valueOf:");
+        }
+    }
+
     // -- Helper methods -----------------------------------------------------------------------------------------------
 
     private Date date(int year, int month, int day) {
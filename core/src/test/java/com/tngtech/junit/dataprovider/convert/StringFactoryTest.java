@@ -0,0 +1,92 @@
+package com.tngtech.junit.dataprovider.convert;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+
+import org.hamcrest.CoreMatchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class StringFactoryTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testForTypeShouldReturnSameInstanceForSameType() {
+        // Given:
+
+        // When:
+        StringFactory result1 = StringFactory.forType(BigInteger.class);
+        StringFactory result2 = StringFactory.forType(BigInteger.class);
+
+        // Then:
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    public void testCreateShouldReturnNullIfTypeHasNeitherStringConstructorNorFactoryMethod() {
+        // Given:
+        StringFactory underTest = StringFactory.forType(Object.class);
+
+        // When:
+        Object result = underTest.create("foo");
+
+        // Then:
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testCreateShouldInvokeStringConstructor() {
+        // Given:
+        StringFactory underTest = StringFactory.forType(BigInteger.class);
+
+        // When:
+        Object result = underTest.create("42");
+
+        // Then:
+        assertThat(result).isEqualTo(BigInteger.valueOf(42));
+    }
+
+    @Test
+    public void testCreateShouldNotUseNonStaticOrOtherTypeReturningFactoryMethod() {
+        // Given:
+        StringFactory underTest = StringFactory.forType(NonMatchingFactoryMethods.class);
+
+        // When:
+        Object result = underTest.create("foo");
+
+        // Then:
+        assertThat(result).isNull();
+    }
+
+    @Test
+    public void testCreateShouldWrapExceptionOfConstructorInInvocationTargetException() {
+        // Given:
+        StringFactory underTest = StringFactory.forType(BigInteger.class);
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectCause(CoreMatchers.<Throwable>instanceOf(InvocationTargetException.class));
+
+        // When:
+        underTest.create("noInt");
+
+        // Then: expect exception
+    }
+
+    // -- Test data ----------------------------------------------------------------------------------------------------
+
+    public static class NonMatchingFactoryMethods {
+        public NonMatchingFactoryMethods valueOf(String value) {
+            return new NonMatchingFactoryMethods();
+        }
+
+        public static Object parse(CharSequence value) {
+            return new NonMatchingFactoryMethods();
+        }
+    }
+}
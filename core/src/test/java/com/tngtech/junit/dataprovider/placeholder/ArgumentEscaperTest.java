@@ -0,0 +1,126 @@
+package com.tngtech.junit.dataprovider.placeholder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ArgumentEscaperTest {
+
+    @Test
+    public void testEscapeShouldReturnSameInstanceIfNothingHasToBeEscaped() {
+        // Given:
+        String input = "Printable ASCII and \u00e4\u00f6\u00fc \ud83d\ude00";
+
+        // When:
+        String result = ArgumentEscaper.escape(input);
+
+        // Then:
+        assertThat(result).isSameAs(input);
+    }
+
+    @Test
+    public void testEscapeShouldReplaceNullTerminatorCarriageReturnAndLineFeed() {
+        // Given:
+
+        // When:
+        String result = ArgumentEscaper.escape("1\0002\r\n3");
+
+        // Then:
+        assertThat(result).isEqualTo("1\\02\\r\\n3");
+    }
+
+    @Test
+    public void testEscapeShouldReplaceNonPrintableCharacters() {
+        // Given:
+
+        // When:
+        String result = ArgumentEscaper.escape("\t1\u007f2\u200b3\ue000\ud83d");
+
+        // Then:
+        assertThat(result).isEqualTo("<np>1<np>2<np>3<np><np>");
+    }
+
+    @Test
+    public void testEscapeShouldKeepSurrogatePairs() {
+        // Given:
+
+        // When:
+        String result = ArgumentEscaper.escape("\n\ud83d\ude00\n");
+
+        // Then:
+        assertThat(result).isEqualTo("\\n\ud83d\ude00\\n");
+    }
+
+    @Test
+    public void testAppendEscapedShouldAppendEscapedCharSequenceToGivenStringBuilder() {
+        // Given:
+        StringBuilder result = new StringBuilder("[");
+
+        // When:
+        ArgumentEscaper.appendEscaped(new StringBuilder("1\n\ud83d\ude00\u200b2"), result);
+
+        // Then:
+        assertThat(result.toString()).isEqualTo("[1\\n\ud83d\ude00<np>2");
+    }
+
+    @Test
+    public void testEscapeShouldReturnSameAsFormerRegexBasedImplementationForRandomStrings() {
+        // Given:
+        char[] specialChars = new char[] { '\0', '\r', '\n', '\t', '\u007f', '\u0080', '\u00e4', '\u200b', '\ud83d',
+                '\ude00', '\ue000', '\uffff', '\u0378', '\\', '%' };
+        Random random = new Random(42L);
+
+        for (int idx = 0; idx < 10000; idx++) {
+            char[] chars = new char[random.nextInt(10)];
+            for (int charIdx = 0; charIdx < chars.length; charIdx++) {
+                switch (random.nextInt(3)) {
+                    case 0:
+                        chars[charIdx] = (char) (' ' + random.nextInt(95));
+                        break;
+                    case 1:
+                        chars[charIdx] = specialChars[random.nextInt(specialChars.length)];
+                        break;
+                    default:
+                        chars[charIdx] = (char) random.nextInt(Character.MAX_VALUE + 1);
+                        break;
+                }
+            }
+            String input = new String(chars);
+
+            // When:
+            String result = ArgumentEscaper.escape(input);
+
+            // Then:
+            assertThat(result).isEqualTo(formerEscape(input));
+        }
+    }
+
+    // -- helper methods -----------------------------------------------------------------------------------------------
+
+    private static String formerEscape(String input) {
+        String replaced = input.replaceAll("\0", "\\\\0").replaceAll("\r", "\\\\r").replaceAll("\n", "\\\\n");
+
+        StringBuilder result = new StringBuilder();
+        for (int offset = 0; offset < replaced.length();) {
+            int codePoint = replaced.codePointAt(offset);
+            offset += Character.charCount(codePoint);
+
+            switch (Character.getType(codePoint)) {
+                case Character.CONTROL:
+                case Character.FORMAT:
+                case Character.PRIVATE_USE:
+                case Character.SURROGATE:
+                case Character.UNASSIGNED:
+                    result.append(AbstractArgumentPlaceholder.STRING_NON_PRINTABLE);
+                    break;
+
+                default:
+                    result.append(Character.toChars(codePoint));
+                    break;
+            }
+        }
+        return result.toString();
+    }
+}
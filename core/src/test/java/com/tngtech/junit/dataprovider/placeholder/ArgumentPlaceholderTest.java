@@ -7,9 +7,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
@@ -671,6 +674,94 @@ public class ArgumentPlaceholderTest {
         assertThat(result).isEqualTo(now.toString() + ", 3.5, 1|2|3, src/main/java/com/tngtech");
     }
 
+    @Test
+    public void testProcessShouldCutArgumentsExceedingMaxArgumentLength() {
+        // Given:
+        final List<Object> arguments = list("short", "a very long text", 123456789);
+
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, arguments, 8);
+
+        // When:
+        String result = underTest.process(data, "%a[0..-1]");
+
+        // Then:
+        assertThat(result).isEqualTo("short, a very l..., 12345678...");
+    }
+
+    @Test
+    public void testFormatWithMaxLengthShouldReturnSameAsFormatIfNotExceeded() {
+        // Given:
+        Object[] argument = new Object[] { "a\nb", null, new int[] { 1, 2 }, Arrays.asList("c", "") };
+
+        // When:
+        String result = underTest.format(argument, 100);
+
+        // Then:
+        assertThat(result).isEqualTo(underTest.format(argument)).isEqualTo("[a\\nb, <null>, [1, 2], [c, ]]");
+    }
+
+    @Test
+    public void testFormatWithMaxLengthShouldCutHugePrimitiveArray() {
+        // Given:
+        byte[] argument = new byte[10000000];
+
+        // When:
+        String result = underTest.format(argument, 10);
+
+        // Then:
+        assertThat(result).isEqualTo("[0, 0, 0, ...");
+    }
+
+    @Test
+    public void testFormatWithMaxLengthShouldCutNestedObjectArray() {
+        // Given:
+        Object[] argument = new Object[] { "abc", new Object[] { "defghijklmnop", 1 }, 2 };
+
+        // When:
+        String result = underTest.format(argument, 12);
+
+        // Then:
+        assertThat(result).isEqualTo("[abc, [defgh...");
+    }
+
+    @Test
+    public void testFormatWithMaxLengthShouldCutHugeCollectionAndMapWithoutCallingToStringOfElements() {
+        // Given:
+        List<Object> list = new ArrayList<Object>();
+        for (int idx = 0; idx < 1000; idx++) {
+            list.add(idx);
+        }
+        list.add(new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("Must not be formatted");
+            }
+        });
+        Map<String, Object> map = new LinkedHashMap<String, Object>();
+        map.put("key\n", list);
+
+        // When:
+        String result = underTest.format(map, 16);
+
+        // Then:
+        assertThat(result).isEqualTo("{key\\n=[0, 1, 2,...");
+    }
+
+    @Test
+    public void testFormatWithMaxLengthShouldCutLongStringAfterEscaping() {
+        // Given:
+        StringBuilder argument = new StringBuilder();
+        for (int idx = 0; idx < 1000; idx++) {
+            argument.append("\r\n");
+        }
+
+        // When:
+        String result = underTest.format(argument.toString(), 5);
+
+        // Then:
+        assertThat(result).isEqualTo("\\r\\n\\...");
+    }
+
     // -- helper methods -----------------------------------------------------------------------------------------------
 
     private List<Object> list(Object first, Object... remaining) {
@@ -0,0 +1,132 @@
+package com.tngtech.junit.dataprovider.placeholder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LengthLimitsTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @After
+    public void tearDown() {
+        System.clearProperty(LengthLimits.PROPERTY_MAX_NAME_LENGTH);
+        System.clearProperty(LengthLimits.PROPERTY_MAX_ARGUMENT_LENGTH);
+    }
+
+    @Test
+    public void testMaxNameLengthShouldReturnUnlimitedIfNeitherConfiguredNorSystemPropertyIsSet() {
+        // Given:
+
+        // When:
+        int result = LengthLimits.maxNameLength(0);
+
+        // Then:
+        assertThat(result).isEqualTo(LengthLimits.UNLIMITED);
+    }
+
+    @Test
+    public void testMaxNameLengthShouldReturnSystemPropertyIfNotConfigured() {
+        // Given:
+        System.setProperty(LengthLimits.PROPERTY_MAX_NAME_LENGTH, " 100 ");
+
+        // When:
+        int result = LengthLimits.maxNameLength(-1);
+
+        // Then:
+        assertThat(result).isEqualTo(100);
+    }
+
+    @Test
+    public void testMaxNameLengthShouldPreferConfiguredValueOverSystemProperty() {
+        // Given:
+        System.setProperty(LengthLimits.PROPERTY_MAX_NAME_LENGTH, "100");
+
+        // When:
+        int result = LengthLimits.maxNameLength(20);
+
+        // Then:
+        assertThat(result).isEqualTo(20);
+    }
+
+    @Test
+    public void testMaxArgumentLengthShouldReturnSystemPropertyIfNotConfigured() {
+        // Given:
+        System.setProperty(LengthLimits.PROPERTY_MAX_ARGUMENT_LENGTH, "30");
+
+        // When:
+        int result = LengthLimits.maxArgumentLength(0);
+
+        // Then:
+        assertThat(result).isEqualTo(30);
+    }
+
+    @Test
+    public void testMaxArgumentLengthShouldThrowIllegalArgumentExceptionIfSystemPropertyIsNoNumber() {
+        // Given:
+        System.setProperty(LengthLimits.PROPERTY_MAX_ARGUMENT_LENGTH, "long");
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage(
+                "System property 'junit.dataprovider.maxArgumentLength' must be a positive number but was: long");
+
+        // When:
+        LengthLimits.maxArgumentLength(0);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testMaxArgumentLengthShouldThrowIllegalArgumentExceptionIfSystemPropertyIsNotPositive() {
+        // Given:
+        System.setProperty(LengthLimits.PROPERTY_MAX_ARGUMENT_LENGTH, "0");
+
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage(
+                "System property 'junit.dataprovider.maxArgumentLength' must be a positive number but was: 0");
+
+        // When:
+        LengthLimits.maxArgumentLength(0);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testElideShouldReturnSameInstanceIfValueDoesNotExceedMaxLength() {
+        // Given:
+        String value = "12345";
+
+        // When:
+        String result = LengthLimits.elide(value, 5);
+
+        // Then:
+        assertThat(result).isSameAs(value);
+    }
+
+    @Test
+    public void testElideShouldCutValueAndAppendElisionMarkerIfValueExceedsMaxLength() {
+        // Given:
+
+        // When:
+        String result = LengthLimits.elide("123456", 5);
+
+        // Then:
+        assertThat(result).isEqualTo("12345...");
+    }
+
+    @Test
+    public void testElideShouldNotSplitSurrogatePair() {
+        // Given:
+
+        // When:
+        String result = LengthLimits.elide("1234\ud83d\ude00", 5);
+
+        // Then:
+        assertThat(result).isEqualTo("1234...");
+    }
+}
@@ -0,0 +1,225 @@
+package com.tngtech.junit.dataprovider.placeholder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.tngtech.junit.dataprovider.testutils.Methods;
+
+public class PlaceholderTemplateTest {
+
+    private final List<BasePlaceholder> placeholders = Arrays.<BasePlaceholder>asList(new CanonicalClassNamePlaceholder(),
+            new CompleteMethodSignaturePlaceholder(), new IndexPlaceholder(), new SimpleClassNamePlaceholder(),
+            new SimpleMethodNamePlaceholder(), new ArgumentPlaceholder());
+
+    @Test(expected = NullPointerException.class)
+    public void testOfShouldThrowNullPointerExceptionIfFormatIsNull() {
+        // Given:
+
+        // When:
+        PlaceholderTemplate.of(null, placeholders);
+
+        // Then: expect exception
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testOfShouldThrowNullPointerExceptionIfPlaceholdersIsNull() {
+        // Given:
+
+        // When:
+        PlaceholderTemplate.of("%m", null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testOfShouldReturnSameInstanceForSameFormatAndPlaceholders() {
+        // Given:
+
+        // When:
+        PlaceholderTemplate result1 = PlaceholderTemplate.of("%m[%i: %p[0..-1]]", placeholders);
+        PlaceholderTemplate result2 = PlaceholderTemplate.of("%m[%i: %p[0..-1]]", placeholders);
+
+        // Then:
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    public void testOfShouldReturnWorkingTemplatesIfMoreFormatsThanCachedAreUsed() {
+        // Given:
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 7, Arrays.<Object>asList("test", 42));
+
+        // When:
+        List<String> result = new ArrayList<String>();
+        for (int idx = 0; idx < 1000; idx++) {
+            result.add(PlaceholderTemplate.of("%i-" + idx, placeholders).render(data));
+        }
+
+        // Then:
+        assertThat(result).hasSize(1000).startsWith("7-0", "7-1").endsWith("7-998", "7-999");
+    }
+
+    @Test
+    public void testRenderShouldReturnSameResultAsProcessingAllPlaceholdersOneAfterAnother() {
+        // Given:
+        final String format = "%c.%m[%i: %p[0..-1]] (%cc, %cm)";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 7, Arrays.<Object>asList("test", 42));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data);
+
+        // Then:
+        assertThat(underTest.isCompiled()).isTrue();
+        assertThat(result).isEqualTo(processOneAfterAnother(format, placeholders, data));
+    }
+
+    @Test
+    public void testRenderShouldNotCompileFormatIfAnyPlaceholderIsNotCompilable() {
+        // Given:
+        List<BasePlaceholder> placeholders = new ArrayList<BasePlaceholder>(this.placeholders);
+        placeholders.add(new BasePlaceholder("%x") {
+            @Override
+            protected String getReplacementFor(String placeholder, ReplacementData data) {
+                return "y";
+            }
+        });
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, Collections.<Object>singletonList("x"));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of("%m %x %p[0]", placeholders);
+
+        // When:
+        String result = underTest.render(data);
+
+        // Then:
+        assertThat(underTest.isCompiled()).isFalse();
+        assertThat(result).isEqualTo("anyMethod y x");
+    }
+
+    @Test
+    public void testRenderShouldNotCompileFormatIfItContainsPercentSignNotBeingPartOfAnyPlaceholder() {
+        // Given:
+        final String format = "%m 100%";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, Collections.<Object>singletonList("x"));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data);
+
+        // Then:
+        assertThat(underTest.isCompiled()).isFalse();
+        assertThat(result).isEqualTo("anyMethod 100%");
+    }
+
+    @Test
+    public void testRenderShouldNotCompileFormatIfPlaceholderIsDirectlyFollowedByPlaceholderProcessedBefore() {
+        // Given:
+        List<BasePlaceholder> placeholders = Arrays.<BasePlaceholder>asList(new ArgumentPlaceholder(),
+                new SimpleClassNamePlaceholder());
+        final String format = "%c%p[0]";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, Collections.<Object>singletonList("c"));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data);
+
+        // Then:
+        assertThat(underTest.isCompiled()).isFalse();
+        assertThat(result).isEqualTo(processOneAfterAnother(format, placeholders, data));
+    }
+
+    @Test
+    public void testRenderShouldReturnSameResultAsProcessingAllPlaceholdersOneAfterAnotherIfReplacementContainsPercentSign() {
+        // Given:
+        List<BasePlaceholder> placeholders = Arrays.<BasePlaceholder>asList(new ArgumentPlaceholder(),
+                new SimpleMethodNamePlaceholder());
+        final String format = "%p[0]: %m";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, Collections.<Object>singletonList("%m"));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data);
+
+        // Then:
+        assertThat(underTest.isCompiled()).isTrue();
+        assertThat(result).isEqualTo("anyMethod: anyMethod");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRenderShouldThrowIllegalArgumentExceptionIfMaxLengthIsNotPositive() {
+        // Given:
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, Collections.<Object>singletonList(1));
+
+        // When:
+        PlaceholderTemplate.of("%m", placeholders).render(data, 0);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testRenderShouldReturnSameResultAsRenderIfMaxLengthIsNotExceeded() {
+        // Given:
+        final String format = "%c.%m[%i: %p[0..-1]]";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 7, Arrays.<Object>asList("test", 42));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data, 100);
+
+        // Then:
+        assertThat(result).isEqualTo(underTest.render(data));
+    }
+
+    @Test
+    public void testRenderShouldCutResultAfterMaxLengthWithoutFormattingArgumentsCompletely() {
+        // Given:
+        final String format = "%m[%i: %p[0..-1]]";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 7,
+                Arrays.<Object>asList(new long[10000000], Collections.nCopies(10000000, "text")));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data, 20);
+
+        // Then:
+        assertThat(result).isEqualTo("anyMethod[7: [0, 0, ...");
+    }
+
+    @Test
+    public void testRenderShouldCutResultAfterMaxLengthIfFormatIsNotCompiled() {
+        // Given:
+        final String format = "100% %m";
+        ReplacementData data = ReplacementData.of(Methods.anyMethod(), 0, Collections.<Object>singletonList(1));
+
+        PlaceholderTemplate underTest = PlaceholderTemplate.of(format, placeholders);
+
+        // When:
+        String result = underTest.render(data, 8);
+
+        // Then:
+        assertThat(underTest.isCompiled()).isFalse();
+        assertThat(result).isEqualTo("100% any...");
+    }
+
+    // -- helper methods -----------------------------------------------------------------------------------------------
+
+    private static String processOneAfterAnother(String format, List<BasePlaceholder> placeholders,
+            ReplacementData data) {
+        String result = format;
+        for (BasePlaceholder placeholder : placeholders) {
+            result = placeholder.process(data, result);
+        }
+        return result;
+    }
+}
@@ -60,6 +60,45 @@ public class ReplacementDataTest {
         assertThat(result.getArguments()).isNotSameAs(arguments).isEqualTo(arguments);
     }
 
+    @Test
+    public void testOfShouldThrowIllegalArgumentExceptionIfMaxArgumentLengthIsNotPositive() {
+        // Given:
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("'maxArgumentLength' must be positive but was 0");
+
+        // When:
+        ReplacementData.of(Methods.anyMethod(), 1, new ArrayList<Object>(), 0);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testOfShouldCreateReplacementDataWithUnlimitedMaxArgumentLengthByDefault() {
+        // Given:
+
+        // When:
+        ReplacementData result = ReplacementData.of(Methods.anyMethod(), 1, new ArrayList<Object>());
+
+        // Then:
+        assertThat(result.getMaxArgumentLength()).isEqualTo(LengthLimits.UNLIMITED);
+    }
+
+    @Test
+    public void testWithMaxArgumentLengthShouldReturnCopyWithGivenMaxArgumentLength() {
+        // Given:
+        ReplacementData underTest = ReplacementData.of(Methods.anyMethod(), 11, Arrays.<Object>asList("1", 2, 3L));
+
+        // When:
+        ReplacementData result = underTest.withMaxArgumentLength(5);
+
+        // Then:
+        assertThat(result.getTestMethod()).isEqualTo(underTest.getTestMethod());
+        assertThat(result.getTestIndex()).isEqualTo(underTest.getTestIndex());
+        assertThat(result.getArguments()).isEqualTo(underTest.getArguments());
+        assertThat(result.getMaxArgumentLength()).isEqualTo(5);
+        assertThat(result).isNotEqualTo(underTest);
+    }
+
     @Test
     public void testGetArgumentsShouldReturnUnmodifiableListToKeepReplacementDataImmutable() {
         // Given:
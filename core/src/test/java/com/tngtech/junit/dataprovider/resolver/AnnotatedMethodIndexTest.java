@@ -0,0 +1,115 @@
+package com.tngtech.junit.dataprovider.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.Test;
+
+public class AnnotatedMethodIndexTest {
+
+    @Test
+    public void testOfShouldReturnSameInstanceForSameLocationAndAnnotationClass() {
+        // Given:
+
+        // When:
+        AnnotatedMethodIndex result1 = AnnotatedMethodIndex.of(Child.class, TestAnnotation.class);
+        AnnotatedMethodIndex result2 = AnnotatedMethodIndex.of(Child.class, TestAnnotation.class);
+
+        // Then:
+        assertThat(result1).isSameAs(result2);
+    }
+
+    @Test
+    public void testOfShouldReturnDifferentInstancesForDifferentLocations() {
+        // Given:
+
+        // When:
+        AnnotatedMethodIndex result1 = AnnotatedMethodIndex.of(Child.class, TestAnnotation.class);
+        AnnotatedMethodIndex result2 = AnnotatedMethodIndex.of(Parent.class, TestAnnotation.class);
+
+        // Then:
+        assertThat(result1).isNotSameAs(result2);
+    }
+
+    @Test
+    public void testGetMethodsShouldReturnAllNotShadowedAnnotatedMethodsOfClassHierarchy() {
+        // Given:
+        AnnotatedMethodIndex underTest = AnnotatedMethodIndex.of(Child.class, TestAnnotation.class);
+
+        // When:
+        List<Method> result = underTest.getMethods();
+
+        // Then:
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).getDeclaringClass()).isEqualTo(Child.class);
+        assertThat(result.get(1).getDeclaringClass()).isEqualTo(Child.class);
+        assertThat(result.get(2).getDeclaringClass()).isEqualTo(Parent.class);
+    }
+
+    @Test
+    public void testGetMethodsByNameShouldReturnAllNotShadowedAnnotatedMethodsWithName() throws Exception {
+        // Given:
+        AnnotatedMethodIndex underTest = AnnotatedMethodIndex.of(Child.class, TestAnnotation.class);
+
+        // When:
+        List<Method> result = underTest.getMethods("overloaded");
+
+        // Then:
+        assertThat(result).containsExactly(Child.class.getDeclaredMethod("overloaded", String.class),
+                Parent.class.getDeclaredMethod("overloaded", Integer.class));
+    }
+
+    @Test
+    public void testGetMethodsByNameShouldReturnEmptyListForUnknownName() {
+        // Given:
+        AnnotatedMethodIndex underTest = AnnotatedMethodIndex.of(Child.class, TestAnnotation.class);
+
+        // When:
+        List<Method> result = underTest.getMethods("notAnnotated");
+
+        // Then:
+        assertThat(result).isEmpty();
+    }
+
+    // -- test data ----------------------------------------------------------------------------------------------------
+
+    @Retention(RetentionPolicy.RUNTIME)
+    private @interface TestAnnotation {
+        // annotation exclusively used for test
+    }
+
+    @SuppressWarnings("unused")
+    private static class Parent {
+        @TestAnnotation
+        void shadowed() {
+            // method used in tests via reflection
+        }
+
+        @TestAnnotation
+        void overloaded(Integer i) {
+            // method used in tests via reflection
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class Child extends Parent {
+        @Override
+        @TestAnnotation
+        void shadowed() {
+            // method used in tests via reflection
+        }
+
+        @TestAnnotation
+        void overloaded(String s) {
+            // method used in tests via reflection
+        }
+
+        void notAnnotated() {
+            // method used in tests via reflection
+        }
+    }
+}
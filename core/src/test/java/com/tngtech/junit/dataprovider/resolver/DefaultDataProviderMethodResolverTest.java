@@ -14,6 +14,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.assertj.core.api.Condition;
@@ -111,6 +112,45 @@ public class DefaultDataProviderMethodResolverTest {
         assertThat(result).containsOnly(method2, method3);
     }
 
+    @Test
+    public void testResolveShouldReturnExplicitelySpecifiedDataProviderMethodsOfAllLocationsIfNotSpied() {
+        // Given:
+        DefaultDataProviderMethodResolver resolver = new DefaultDataProviderMethodResolver();
+
+        when(context.getLocations()).thenReturn(Arrays.<Class<?>>asList(ShadowingTestChild.class, ShadowingTestParent.class));
+        doReturn(TestAnnotation.class).when(context).getDataProviderAnnotationClass();
+        when(context.useDataProviderNameConvention()).thenReturn(false);
+        when(context.getDataProviderName()).thenReturn("notShadowedDueToParameterLength");
+
+        // When:
+        List<Method> result = resolver.resolve(context);
+
+        // Then:
+        assertThat(result).hasSize(3).are(name("notShadowedDueToParameterLength"));
+        assertThat(result.get(0).getDeclaringClass()).isEqualTo(ShadowingTestChild.class);
+        assertThat(result.get(1).getDeclaringClass()).isEqualTo(ShadowingTestParent.class);
+        assertThat(result.get(2).getDeclaringClass()).isEqualTo(ShadowingTestParent.class);
+    }
+
+    @Test
+    public void testResolveShouldReturnConventionMatchingDataProviderMethodsIfNotSpied() throws Exception {
+        // Given:
+        DefaultDataProviderMethodResolver resolver = new DefaultDataProviderMethodResolver();
+
+        when(context.getLocations()).thenReturn(Collections.<Class<?>>singletonList(NameConventionTestClass.class));
+        doReturn(TestAnnotation.class).when(context).getDataProviderAnnotationClass();
+        when(context.useDataProviderNameConvention()).thenReturn(true);
+        when(context.getTestMethod()).thenReturn(NameConventionTestClass.class.getDeclaredMethod("testFoo"));
+
+        // When:
+        List<Method> result = resolver.resolve(context);
+
+        // Then:
+        assertThat(result).hasSize(2)
+                .contains(NameConventionTestClass.class.getDeclaredMethod("dataProviderFoo"))
+                .contains(NameConventionTestClass.class.getDeclaredMethod("dataTestFoo"));
+    }
+
     @Test
     public void testFindAnnotatedMethodsShouldNotShadowedMethodsHavingAnnotation() {
         // Given:
@@ -222,6 +262,28 @@ public class DefaultDataProviderMethodResolverTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    public void testGetNameConventionNamesShouldReturnAllNamesForTestMethodNameStartingWithTest() {
+        // Given:
+
+        // When:
+        Set<String> result = DefaultDataProviderMethodResolver.getNameConventionNames("testFoo");
+
+        // Then:
+        assertThat(result).containsExactly("testFoo", "dataProviderFoo", "dataFoo", "dataProviderTestFoo", "dataTestFoo");
+    }
+
+    @Test
+    public void testGetNameConventionNamesShouldReturnAllNamesForTestMethodNameNotStartingWithTest() {
+        // Given:
+
+        // When:
+        Set<String> result = DefaultDataProviderMethodResolver.getNameConventionNames("shouldFoo");
+
+        // Then:
+        assertThat(result).containsExactly("shouldFoo", "dataProviderShouldFoo", "dataShouldFoo");
+    }
+
     // -- test data and helper methods ---------------------------------------------------------------------------------
 
     @Retention(RetentionPolicy.RUNTIME)
@@ -285,6 +347,32 @@ public class DefaultDataProviderMethodResolverTest {
         }
     }
 
+    @SuppressWarnings("unused")
+    private static class NameConventionTestClass {
+        void testFoo() {
+            // method used in tests via reflection
+        }
+
+        @TestAnnotation
+        void dataProviderFoo() {
+            // method used in tests via reflection
+        }
+
+        @TestAnnotation
+        void dataTestFoo() {
+            // method used in tests via reflection
+        }
+
+        @TestAnnotation
+        void dataProviderBar() {
+            // method used in tests via reflection
+        }
+
+        void dataFoo() {
+            // method used in tests via reflection
+        }
+    }
+
     private Condition<Method> name(final String methodName) {
         return new Condition<Method>() {
             @Override
@@ -0,0 +1,128 @@
+package com.tngtech.junit.dataprovider.resolver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ResolverRegistryTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testGetInstanceShouldThrowNullPointerExceptionIfResolverClassIsNull() {
+        // Given:
+        expectedException.expect(NullPointerException.class);
+        expectedException.expectMessage("'resolverClass' must not be null");
+
+        // When:
+        ResolverRegistry.getInstance(null);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testGetInstanceShouldReturnSameInstanceForShareableResolver() {
+        // Given:
+
+        // When:
+        ShareableResolver result1 = ResolverRegistry.getInstance(ShareableResolver.class);
+        ShareableResolver result2 = ResolverRegistry.getInstance(ShareableResolver.class);
+
+        // Then:
+        assertThat(result1).isNotNull().isSameAs(result2);
+    }
+
+    @Test
+    public void testGetInstanceShouldReturnSameInstanceForDefaultDataProviderMethodResolver() {
+        // Given:
+
+        // When:
+        DefaultDataProviderMethodResolver result1 = ResolverRegistry.getInstance(DefaultDataProviderMethodResolver.class);
+        DefaultDataProviderMethodResolver result2 = ResolverRegistry.getInstance(DefaultDataProviderMethodResolver.class);
+
+        // Then:
+        assertThat(result1).isNotNull().isSameAs(result2);
+    }
+
+    @Test
+    public void testGetInstanceShouldReturnNewInstanceForNotShareableResolverEvenIfDefaultConstructorIsPrivate() {
+        // Given:
+
+        // When:
+        StatefulResolver result1 = ResolverRegistry.getInstance(StatefulResolver.class);
+        StatefulResolver result2 = ResolverRegistry.getInstance(StatefulResolver.class);
+
+        // Then:
+        assertThat(result1).isNotNull();
+        assertThat(result2).isNotNull().isNotSameAs(result1);
+    }
+
+    @Test
+    public void testGetInstanceShouldReturnNewInstanceForSubclassOfShareableResolver() {
+        // Given:
+
+        // When:
+        ShareableResolverSubclass result1 = ResolverRegistry.getInstance(ShareableResolverSubclass.class);
+        ShareableResolverSubclass result2 = ResolverRegistry.getInstance(ShareableResolverSubclass.class);
+
+        // Then:
+        assertThat(result2).isNotSameAs(result1);
+    }
+
+    @Test
+    public void testGetInstanceShouldThrowIllegalArgumentExceptionIfDefaultConstructorOfShareableResolverThrowsException() {
+        // Given:
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("default constructor of ");
+        expectedException.expectMessage("has thrown an exception: failed");
+
+        // When:
+        ResolverRegistry.getInstance(ShareableExceptionInDefaultConstructor.class);
+
+        // Then: expect exception
+    }
+
+    // -- helper classes to test with ----------------------------------------------------------------------------------
+
+    @Shareable
+    private static class ShareableResolver implements DataProviderMethodResolver {
+        @Override
+        public List<Method> resolve(DataProviderResolverContext context) {
+            return null;
+        }
+    }
+
+    private static class ShareableResolverSubclass extends ShareableResolver {
+        // not shareable as annotation is not inherited
+    }
+
+    private static class StatefulResolver implements DataProviderMethodResolver {
+        private StatefulResolver() {
+        }
+
+        @Override
+        public List<Method> resolve(DataProviderResolverContext context) {
+            return null;
+        }
+    }
+
+    @Shareable
+    private static class ShareableExceptionInDefaultConstructor implements DataProviderMethodResolver {
+        @SuppressWarnings("unused")
+        public ShareableExceptionInDefaultConstructor() {
+            throw new IllegalStateException("failed");
+        }
+
+        @Override
+        public List<Method> resolve(DataProviderResolverContext context) {
+            return null;
+        }
+    }
+}
@@ -16,12 +16,17 @@
 package com.tngtech.junit.dataprovider;
 
 import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+import static java.util.Arrays.asList;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.support.AnnotationConsumer;
@@ -37,6 +42,13 @@ import com.tngtech.junit.dataprovider.convert.DataConverter;
 abstract class AbstractDataProviderArgumentProvider<SOURCE_ANNOTATION extends Annotation>
         implements ArgumentsProvider, AnnotationConsumer<SOURCE_ANNOTATION> {
 
+    /**
+     * Namespace of the root {@link Store} in which the {@link ConverterContext}s are cached per argument provider class
+     * and annotation.
+     */
+    static final Namespace NAMESPACE_CONTEXT_CACHE = Namespace.create(AbstractDataProviderArgumentProvider.class,
+            "contextCache");
+
     /**
      * The {@link DataConverter} to be used to convert from supported return types of any dataprovider to {@link List}
      * {@code <}{@link Object}{@code []>} such that data can be further handled. Defaults to {@link DataConverter}.
@@ -70,13 +82,32 @@ abstract class AbstractDataProviderArgumentProvider<SOURCE_ANNOTATION extends An
     @Override
     public abstract void accept(SOURCE_ANNOTATION sourceAnnotation);
 
+    /**
+     * Returns the {@link ConverterContext} for the given annotation. It is created using the given {@code factory} only
+     * if it has not yet been created by the same argument provider class for an equal annotation. Afterwards, it is
+     * cached in the root {@link Store} such that converters are not instantiated again for every dataprovider method.
+     *
+     * @param <A> type of the annotation determining the converter context
+     * @param extensionContext the extension context for the dataprovider test about to be invoked; never {@code null}
+     * @param annotation which determines the converter context; never {@code null}
+     * @param factory to create the converter context if not yet cached; never {@code null}
+     * @return the cached or newly created converter context; never {@code null}
+     */
+    <A extends Annotation> ConverterContext getCachedConverterContext(ExtensionContext extensionContext, A annotation,
+            Function<A, ConverterContext> factory) {
+        Store store = extensionContext.getRoot().getStore(NAMESPACE_CONTEXT_CACHE);
+        List<Object> key = asList(getClass(), annotation);
+
+        return store.getOrComputeIfAbsent(key, k -> factory.apply(annotation), ConverterContext.class);
+    }
+
     /**
      * Converts the given data for the given test method and converter context.
      *
      * @param testMethod the original test method for which the data is converted; never {@code null}
      * @param data the data to be converted; never {@code null}
      * @param context the converter context to be used to do the data conversion; never {@code null}
-     * @return a {@link Stream} of properly converted arguments; never {@code null}
+     * @return a lazily evaluated {@link Stream} of properly converted arguments; never {@code null}
      * @throws NullPointerException if and only if one of the given arguments is {@code null}
      */
     protected Stream<? extends Arguments> convertData(Method testMethod, Object data, ConverterContext context) {
@@ -84,6 +115,7 @@ abstract class AbstractDataProviderArgumentProvider<SOURCE_ANNOTATION extends An
         checkNotNull(data, "'data' must not be null");
         checkNotNull(context, "'context' must not be null");
 
-        return dataConverter.convert(data, testMethod.isVarArgs(), testMethod.getParameterTypes(), context).stream().map(Arguments::of);
+        return dataConverter.convertToStream(data, testMethod.isVarArgs(), testMethod.getParameterTypes(), context)
+                .map(Arguments::of);
     }
 }
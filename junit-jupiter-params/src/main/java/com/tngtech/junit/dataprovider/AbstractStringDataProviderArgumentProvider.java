@@ -49,7 +49,8 @@ public abstract class AbstractStringDataProviderArgumentProvider<SOURCE_ANNOTATI
     @Override
     public Stream<? extends Arguments> provideArguments(ParameterDeclarations declarations, ExtensionContext extensionContext) {
         Method testMethod = extensionContext.getRequiredTestMethod();
-        return convertData(testMethod, getData(sourceAnnotation), getConverterContext(sourceAnnotation));
+        return convertData(testMethod, getData(sourceAnnotation),
+                getCachedConverterContext(extensionContext, sourceAnnotation, this::getConverterContext));
     }
 
     /**
@@ -59,6 +60,8 @@ public abstract class AbstractStringDataProviderArgumentProvider<SOURCE_ANNOTATI
     protected abstract Object getData(SOURCE_ANNOTATION annotation);
 
     /**
+     * Note: The returned context is cached per argument provider class and equal annotation.
+     *
      * @param annotation on the test method which is providing the converter context; never {@code null}
      * @return the converter context used to convert the data to be used with the annotated test method; never
      *         {@code null}
@@ -72,7 +72,8 @@ public abstract class AbstractUseDataProviderArgumentProvider<SOURCE_ANNOTATION
             boolean cacheDataProviderResult = cacheDataProviderResult(dataProviderAnnotation);
 
             Object data = invokeDataProviderMethodToRetrieveData(dpm, cacheDataProviderResult, context);
-            return convertData(testMethod, data, getConverterContext(dataProviderAnnotation));
+            return convertData(testMethod, data,
+                    getCachedConverterContext(context, dataProviderAnnotation, this::getConverterContext));
         });
     }
 
@@ -85,6 +86,8 @@ public abstract class AbstractUseDataProviderArgumentProvider<SOURCE_ANNOTATION
             SOURCE_ANNOTATION testAnnotation);
 
     /**
+     * Note: The returned context is cached per argument provider class and equal annotation.
+     *
      * @param dataProvider on the test method which is providing the converter context; never {@code null}
      * @return the converter context used to convert the data to be used with the annotated test method; never
      *         {@code null}
@@ -125,7 +128,8 @@ public abstract class AbstractUseDataProviderArgumentProvider<SOURCE_ANNOTATION
      *
      * @param dataProviderMethod the dataprovider method that gives the parameters; never {@code null}
      * @param cacheDataProviderResult determines if the dataprovider result should be cached using
-     *            {@code dataProviderMethod} as key
+     *            {@code dataProviderMethod} as key; single-use results (see {@link DataConverter#isReusable(Object)})
+     *            are never cached
      * @param context the execution context to use to create a {@link TestInfo} if required; never {@code null}
      *
      * @return a list of methods, each method bound to a parameter combination returned by the dataprovider
@@ -144,7 +148,7 @@ public abstract class AbstractUseDataProviderArgumentProvider<SOURCE_ANNOTATION
         }
         try {
             Object data = context.getExecutableInvoker().invoke(dataProviderMethod, context.getTestInstance().orElse(null));
-            if (cacheDataProviderResult) {
+            if (cacheDataProviderResult && DataConverter.isReusable(data)) {
                 store.put(dataProviderMethod, data);
             }
             return data;
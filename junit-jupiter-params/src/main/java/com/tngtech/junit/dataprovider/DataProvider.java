@@ -34,8 +34,10 @@ import com.tngtech.junit.dataprovider.convert.StringConverter;
  * attribute.
  * <ul>
  * <li><i>Use it on a separate method:</i> The name of the dataprovider is the the name of the method. The method must be static and return
- * an {@link Object}{@code [][]}, an {@link Iterable}{@code <Iterable<?>>}, an {@link Iterable}{@code <?>}, or a {@link String}{@code []}.
- * Whereby {@link Iterable} can be replaced with any vaild subtype as well as arbitrary inner types are also supported. The test method will
+ * an {@link Object}{@code [][]}, an {@link Iterable}{@code <Iterable<?>>}, an {@link Iterable}{@code <?>}, a {@link String}{@code []},
+ * an {@link java.util.Iterator}{@code <?>}, a {@link java.util.stream.Stream}{@code <?>}, or a {@link java.util.function.Supplier} of
+ * one of them. Whereby {@link Iterable}, {@link java.util.Iterator}, and {@link java.util.stream.Stream} can be replaced with any vaild
+ * subtype as well as arbitrary inner types are also supported. The test method will
  * be called with each "row" of this two-dimensional array. The test method must be annotated with {@code @}{@link UseDataProvider}. This
  * annotation behaves pretty much the same as the {@code @DataProvider} annotation from <a href="http://testng.org/">TestNG</a>.
  * <li>
@@ -123,6 +125,11 @@ public @interface DataProvider {
      * @return {@code true} if and only if the result of this dataprovider should be cached. Otherwise it will be
      *         evaluated for every usage. This could be necessary if it contains dynamic results, e.g. depending on a
      *         provided parameter. Default is {@code true}.
+     *         <p>
+     *         Note: Single-use results, i.e. {@link java.util.Iterator} and {@link java.util.stream.Stream}, are never
+     *         cached and the dataprovider is invoked again for every usage instead. Return a
+     *         {@link java.util.function.Supplier} (e.g. {@code Supplier<Stream<?>>}) to have the dataprovider result
+     *         cached and still get fresh data for every usage.
      */
     boolean cache() default true;
 
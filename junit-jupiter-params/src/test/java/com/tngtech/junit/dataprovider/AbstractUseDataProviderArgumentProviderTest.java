@@ -1,12 +1,17 @@
 package com.tngtech.junit.dataprovider;
 
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -86,4 +91,40 @@ public class AbstractUseDataProviderArgumentProviderTest {
         // Then:
         assertThat(result).hasMessageMatching("Exception while invoking dataprovider method '.*': .*");
     }
+
+    @Test
+    void testGetCachedConverterContextShouldCreateAndStoreConverterContextIfNotYetCached() {
+        // Given:
+        List<Object> key = asList(underTest.getClass(), dataProviderAnnotation);
+
+        when(extensionContext.getRoot()).thenReturn(extensionContext);
+        when(extensionContext.getStore(any(Namespace.class))).thenReturn(store);
+        when(store.getOrComputeIfAbsent(eq(key), any(), eq(ConverterContext.class)))
+                .thenAnswer(invocation -> invocation.<Function<Object, Object>>getArgument(1).apply(key));
+
+        // When:
+        ConverterContext result = underTest.getCachedConverterContext(extensionContext, dataProviderAnnotation,
+                underTest::getConverterContext);
+
+        // Then:
+        assertThat(result).isSameAs(converterContext);
+        verify(extensionContext).getStore(AbstractDataProviderArgumentProvider.NAMESPACE_CONTEXT_CACHE);
+    }
+
+    @Test
+    void testGetCachedConverterContextShouldReturnCachedConverterContextWithoutCallingFactory() {
+        // Given:
+        when(extensionContext.getRoot()).thenReturn(extensionContext);
+        when(extensionContext.getStore(any(Namespace.class))).thenReturn(store);
+        when(store.getOrComputeIfAbsent(eq(asList(underTest.getClass(), dataProviderAnnotation)), any(),
+                eq(ConverterContext.class))).thenReturn(converterContext);
+
+        // When:
+        ConverterContext result = underTest.getCachedConverterContext(extensionContext, dataProviderAnnotation, a -> {
+            throw new AssertionError("factory must not be called");
+        });
+
+        // Then:
+        assertThat(result).isSameAs(converterContext);
+    }
 }
@@ -16,16 +16,20 @@
 package com.tngtech.junit.dataprovider;
 
 import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+import static java.util.Arrays.asList;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
 import org.junit.platform.commons.support.AnnotationSupport;
@@ -51,6 +55,13 @@ import com.tngtech.junit.dataprovider.placeholder.SimpleMethodNamePlaceholder;
 abstract class AbstractDataProviderInvocationContextProvider<TEST_ANNOTATION extends Annotation>
         implements TestTemplateInvocationContextProvider {
 
+    /**
+     * Namespace of the root {@link Store} in which the {@link ConverterContext}s and {@link DisplayNameContext}s are
+     * cached per invocation context provider class and annotation.
+     */
+    static final Namespace NAMESPACE_CONTEXT_CACHE = Namespace
+            .create(AbstractDataProviderInvocationContextProvider.class, "contextCache");
+
     /**
      * The {@link DataConverter} to be used to convert from supported return types of any dataprovider to {@link List}
      * {@code <}{@link Object}{@code []>} such that data can be further handled. Defaults to {@link DataConverter}.
@@ -114,14 +125,36 @@ abstract class AbstractDataProviderInvocationContextProvider<TEST_ANNOTATION ext
         return result;
     }
 
+    /**
+     * Returns the context of the given type for the given annotation. It is created using the given {@code factory}
+     * only if it has not yet been created by the same invocation context provider class for an equal annotation.
+     * Afterwards, it is cached in the root {@link Store} such that converters and placeholders are not instantiated
+     * again for every dataprovider method and test invocation.
+     *
+     * @param <A> type of the annotation determining the context
+     * @param <T> type of the requested context
+     * @param extensionContext the extension context for the dataprovider test about to be invoked; never {@code null}
+     * @param annotation which determines the context; never {@code null}
+     * @param contextType type of the requested context; never {@code null}
+     * @param factory to create the context if not yet cached; never {@code null}
+     * @return the cached or newly created context; never {@code null}
+     */
+    <A extends Annotation, T> T getCachedContext(ExtensionContext extensionContext, A annotation,
+            Class<T> contextType, Function<A, T> factory) {
+        Store store = extensionContext.getRoot().getStore(NAMESPACE_CONTEXT_CACHE);
+        List<Object> key = asList(getClass(), contextType, annotation);
+
+        return store.getOrComputeIfAbsent(key, k -> factory.apply(annotation), contextType);
+    }
+
     /**
      * Converts the given data for the given test method and converter context.
      *
      * @param testMethod the original test method for which the data is converted; never {@code null}
      * @param data the data to be converted; never {@code null}
      * @param context the converter context to be used to do the data conversion; never {@code null}
-     * @return a {@link Stream} of properly converted argument lists (= {@link List} of {@link Object}); never
-     *         {@code null}
+     * @return a lazily evaluated {@link Stream} of properly converted argument lists (= {@link List} of
+     *         {@link Object}); never {@code null}
      * @throws NullPointerException if and only if one of the given arguments is {@code null}
      */
     protected Stream<List<Object>> convertData(Method testMethod, Object data, ConverterContext context) {
@@ -129,6 +162,7 @@ abstract class AbstractDataProviderInvocationContextProvider<TEST_ANNOTATION ext
         checkNotNull(data, "'data' must not be null");
         checkNotNull(context, "'context' must not be null");
 
-        return dataConverter.convert(data, testMethod.isVarArgs(), testMethod.getParameterTypes(), context).stream().map(Arrays::asList);
+        return dataConverter.convertToStream(data, testMethod.isVarArgs(), testMethod.getParameterTypes(), context)
+                .map(Arrays::asList);
     }
 }
@@ -18,6 +18,7 @@ package com.tngtech.junit.dataprovider;
 import org.junit.platform.commons.support.ReflectionSupport;
 
 import com.tngtech.junit.dataprovider.convert.ConverterContext;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
 
 /**
  * Default implementation for using a dataprovider that provides the data directly within itself.
@@ -43,6 +44,8 @@ public class DataProviderExtension extends DataProviderInvocationContextProvider
 
     @Override
     protected DisplayNameContext getDisplayNameContext(DataProvider dataProvider) {
-        return new DisplayNameContext(dataProvider.formatter(), dataProvider.format(), getDefaultPlaceholders());
+        return new DisplayNameContext(dataProvider.formatter(), dataProvider.format(), getDefaultPlaceholders(),
+                LengthLimits.maxNameLength(dataProvider.maxNameLength()),
+                LengthLimits.maxArgumentLength(dataProvider.maxArgumentLength()));
     }
 }
@@ -50,8 +50,15 @@ public abstract class DataProviderInvocationContextProvider<TEST_ANNOTATION exte
     protected Stream<TestTemplateInvocationContext> provideInvocationContexts(ExtensionContext extensionContext,
             TEST_ANNOTATION testAnnotation) {
         Method testMethod = extensionContext.getRequiredTestMethod();
-        return convertData(testMethod, getData(testAnnotation), getConverterContext(testAnnotation))
-                .map(d -> new DataProviderInvocationContext(testMethod, d, getDisplayNameContext(testAnnotation)));
+        ConverterContext converterContext = getCachedContext(extensionContext, testAnnotation, ConverterContext.class,
+                this::getConverterContext);
+        DisplayNameContext displayNameContext = getCachedContext(extensionContext, testAnnotation,
+                DisplayNameContext.class, this::getDisplayNameContext);
+
+        TestNameFormatterCache formatterCache = new TestNameFormatterCache();
+
+        return convertData(testMethod, getData(testAnnotation), converterContext)
+                .map(d -> new DataProviderInvocationContext(testMethod, d, displayNameContext, formatterCache));
     }
 
     /**
@@ -61,6 +68,8 @@ public abstract class DataProviderInvocationContextProvider<TEST_ANNOTATION exte
     protected abstract Object getData(TEST_ANNOTATION annotation);
 
     /**
+     * Note: The returned context is cached per invocation context provider class and equal annotation.
+     *
      * @param annotation on the test method which is providing the converter context; never {@code null}
      * @return the converter context used to convert the data to be used with the annotated test method; never
      *         {@code null}
@@ -68,6 +77,8 @@ public abstract class DataProviderInvocationContextProvider<TEST_ANNOTATION exte
     protected abstract ConverterContext getConverterContext(TEST_ANNOTATION annotation);
 
     /**
+     * Note: The returned context is cached per invocation context provider class and equal annotation.
+     *
      * @param annotation on the test method which is used to determine the display name context; never {@code null}
      * @return the display name context used to create the display name of the test method; never {@code null}
      *
@@ -15,6 +15,7 @@
  */
 package com.tngtech.junit.dataprovider;
 
+import static com.tngtech.junit.dataprovider.Preconditions.checkArgument;
 import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
 import static java.util.Collections.unmodifiableList;
 
@@ -23,12 +24,15 @@ import java.util.List;
 
 import com.tngtech.junit.dataprovider.format.DataProviderTestNameFormatter;
 import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
 
 public class DisplayNameContext {
 
     private final Class<? extends DataProviderTestNameFormatter> formatter;
     private final String format;
     private final List<? extends BasePlaceholder> placeholders;
+    private final int maxNameLength;
+    private final int maxArgumentLength;
 
     public DisplayNameContext(String format, List<? extends BasePlaceholder> placeholders) {
         this(null, format, placeholders);
@@ -36,9 +40,29 @@ public class DisplayNameContext {
 
     public DisplayNameContext(Class<? extends DataProviderTestNameFormatter> formatter, String format,
             List<? extends BasePlaceholder> placeholders) {
+        this(formatter, format, placeholders, LengthLimits.maxNameLength(0), LengthLimits.maxArgumentLength(0));
+    }
+
+    /**
+     * @param formatter used to create the display name; may be {@code null}
+     * @param format used by the formatter
+     * @param placeholders used by the formatter
+     * @param maxNameLength maximum length of the display name or {@link LengthLimits#UNLIMITED}
+     * @param maxArgumentLength maximum length of each formatted argument or {@link LengthLimits#UNLIMITED}
+     * @throws NullPointerException if and only if given {@code format} or {@code placeholders} is {@code null}
+     * @throws IllegalArgumentException if and only if given {@code maxNameLength} or {@code maxArgumentLength} is not
+     *             positive
+     */
+    public DisplayNameContext(Class<? extends DataProviderTestNameFormatter> formatter, String format,
+            List<? extends BasePlaceholder> placeholders, int maxNameLength, int maxArgumentLength) {
+        checkArgument(maxNameLength > 0, "'maxNameLength' must be positive but was %d", maxNameLength);
+        checkArgument(maxArgumentLength > 0, "'maxArgumentLength' must be positive but was %d", maxArgumentLength);
+
         this.formatter = formatter;
         this.format = checkNotNull(format, "'format' must not be null");
         this.placeholders = new ArrayList<>(checkNotNull(placeholders, "'placeholders' must not be null"));
+        this.maxNameLength = maxNameLength;
+        this.maxArgumentLength = maxArgumentLength;
     }
 
     public Class<? extends DataProviderTestNameFormatter> getFormatter() {
@@ -52,4 +76,12 @@ public class DisplayNameContext {
     public List<? extends BasePlaceholder> getPlaceholders() {
         return unmodifiableList(placeholders);
     }
+
+    public int getMaxNameLength() {
+        return maxNameLength;
+    }
+
+    public int getMaxArgumentLength() {
+        return maxArgumentLength;
+    }
 }
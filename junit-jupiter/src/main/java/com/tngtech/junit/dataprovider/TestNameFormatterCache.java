@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.junit.dataprovider;
+
+import static com.tngtech.junit.dataprovider.Preconditions.checkNotNull;
+import static java.util.Arrays.asList;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.platform.commons.util.ReflectionUtils;
+
+import com.tngtech.junit.dataprovider.format.DataProviderPlaceholderFormatter;
+import com.tngtech.junit.dataprovider.format.DataProviderTestNameFormatter;
+import com.tngtech.junit.dataprovider.format.ThreadSafe;
+import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+
+/**
+ * Cache of {@link DataProviderTestNameFormatter} instances shared by all {@link DataProviderInvocationContext}s of a
+ * single test template such that formatters are not instantiated again for every invocation.
+ * <p>
+ * The {@link DataProviderPlaceholderFormatter} is always cached. Custom formatters are only cached if they are
+ * annotated with {@link ThreadSafe} and are instantiated for every invocation otherwise.
+ */
+class TestNameFormatterCache {
+
+    private final ConcurrentMap<List<Object>, DataProviderTestNameFormatter> formatters = new ConcurrentHashMap<>();
+
+    /**
+     * @param displayNameContext which determines the formatter; never {@code null}
+     * @return the formatter to be used to create the display name for the given {@code displayNameContext}; never
+     *         {@code null}
+     * @throws NullPointerException if and only if given {@code displayNameContext} is {@code null}
+     */
+    DataProviderTestNameFormatter getFormatter(DisplayNameContext displayNameContext) {
+        checkNotNull(displayNameContext, "'displayNameContext' must not be null");
+
+        Class<? extends DataProviderTestNameFormatter> formatter = displayNameContext.getFormatter();
+        if (formatter == null || DataProviderPlaceholderFormatter.class.equals(formatter)) {
+            String format = displayNameContext.getFormat();
+            List<? extends BasePlaceholder> placeholders = displayNameContext.getPlaceholders();
+            int maxNameLength = displayNameContext.getMaxNameLength();
+            int maxArgumentLength = displayNameContext.getMaxArgumentLength();
+
+            return formatters.computeIfAbsent(
+                    asList(DataProviderPlaceholderFormatter.class, format, placeholders, maxNameLength,
+                            maxArgumentLength),
+                    key -> new DataProviderPlaceholderFormatter(format, placeholders, maxNameLength,
+                            maxArgumentLength));
+        }
+        if (!formatter.isAnnotationPresent(ThreadSafe.class)) {
+            return ReflectionUtils.newInstance(formatter);
+        }
+        return formatters.computeIfAbsent(asList(formatter, displayNameContext.getFormat()),
+                key -> ReflectionUtils.newInstance(formatter));
+    }
+}
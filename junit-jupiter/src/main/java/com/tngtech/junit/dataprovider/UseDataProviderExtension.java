@@ -22,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.platform.commons.support.ReflectionSupport;
 
 import com.tngtech.junit.dataprovider.convert.ConverterContext;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
 import com.tngtech.junit.dataprovider.resolver.DataProviderResolverContext;
 
 /**
@@ -57,6 +58,8 @@ public class UseDataProviderExtension extends UseDataProviderInvocationContextPr
 
     @Override
     protected DisplayNameContext getDisplayNameContext(DataProvider dataProvider) {
-        return new DisplayNameContext(dataProvider.formatter(), dataProvider.format(), getDefaultPlaceholders());
+        return new DisplayNameContext(dataProvider.formatter(), dataProvider.format(), getDefaultPlaceholders(),
+                LengthLimits.maxNameLength(dataProvider.maxNameLength()),
+                LengthLimits.maxArgumentLength(dataProvider.maxArgumentLength()));
     }
 }
@@ -76,15 +76,21 @@ public abstract class UseDataProviderInvocationContextProvider<TEST_ANNOTATION e
                 String.format("Could not find a dataprovider for test '%s' using resolvers '%s'.", testMethod,
                         dataProviderResolverContext.getResolverClasses()));
 
+        TestNameFormatterCache formatterCache = new TestNameFormatterCache();
         return dataProviderMethods.stream().flatMap(dpm -> {
             DATAPROVIDER_ANNOTATION dataProviderAnnotation = dpm.getAnnotation(dataProviderAnnotationClass);
             boolean cacheDataProviderResult = cacheDataProviderResult(dataProviderAnnotation);
 
             Object data = invokeDataProviderMethodToRetrieveData(dpm, cacheDataProviderResult, context);
 
-            return convertData(testMethod, data, getConverterContext(dataProviderAnnotation))
+            ConverterContext converterContext = getCachedContext(context, dataProviderAnnotation,
+                    ConverterContext.class, this::getConverterContext);
+            DisplayNameContext displayNameContext = getCachedContext(context, dataProviderAnnotation,
+                    DisplayNameContext.class, this::getDisplayNameContext);
+
+            return convertData(testMethod, data, converterContext)
                     .map(d -> (TestTemplateInvocationContext) new DataProviderInvocationContext(testMethod, d,
-                            getDisplayNameContext(dataProviderAnnotation)));
+                            displayNameContext, formatterCache));
         });
     }
 
@@ -97,6 +103,8 @@ public abstract class UseDataProviderInvocationContextProvider<TEST_ANNOTATION e
             TEST_ANNOTATION testAnnotation);
 
     /**
+     * Note: The returned context is cached per invocation context provider class and equal annotation.
+     *
      * @param dataProviderAnnotation on the test method which is providing the converter context; never {@code null}
      * @return the converter context used to convert the data to be used with the annotated test method; never
      *         {@code null}
@@ -115,6 +123,8 @@ public abstract class UseDataProviderInvocationContextProvider<TEST_ANNOTATION e
     }
 
     /**
+     * Note: The returned context is cached per invocation context provider class and equal annotation.
+     *
      * @param dataProviderAnnotation on the test method which is used to determine the display name context; never
      *            {@code null}
      * @return the display name context used to create the display name of the test method; never {@code null}
@@ -146,7 +156,8 @@ public abstract class UseDataProviderInvocationContextProvider<TEST_ANNOTATION e
      *
      * @param dataProviderMethod the dataprovider method that gives the parameters; never {@code null}
      * @param cacheDataProviderResult determines if the dataprovider result should be cached using
-     *            {@code dataProviderMethod} as key
+     *            {@code dataProviderMethod} as key; single-use results (see {@link DataConverter#isReusable(Object)})
+     *            are never cached
      * @param context the execution context to use to create a {@link TestInfo} if required; never {@code null}
      *
      * @return a list of methods, each method bound to a parameter combination returned by the dataprovider
@@ -165,7 +176,7 @@ public abstract class UseDataProviderInvocationContextProvider<TEST_ANNOTATION e
         }
         try {
             Object data = context.getExecutableInvoker().invoke(dataProviderMethod, context.getTestInstance().orElse(null));
-            if (cacheDataProviderResult) {
+            if (cacheDataProviderResult && DataConverter.isReusable(data)) {
                 store.put(dataProviderMethod, data);
             }
             return data;
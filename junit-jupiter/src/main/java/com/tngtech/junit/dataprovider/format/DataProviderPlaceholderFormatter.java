@@ -19,26 +19,37 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
+import com.tngtech.junit.dataprovider.placeholder.PlaceholderTemplate;
 import com.tngtech.junit.dataprovider.placeholder.ReplacementData;
 
+@ThreadSafe
 public class DataProviderPlaceholderFormatter implements DataProviderTestNameFormatter {
 
-    private final String format;
-    private final List<? extends BasePlaceholder> placeholders;
+    private final PlaceholderTemplate template;
+    private final int maxNameLength;
+    private final int maxArgumentLength;
 
     public DataProviderPlaceholderFormatter(String format, List<? extends BasePlaceholder> placeholders) {
-        this.format = format;
-        this.placeholders = placeholders;
+        this(format, placeholders, LengthLimits.UNLIMITED, LengthLimits.UNLIMITED);
+    }
+
+    /**
+     * @param format to be rendered using the given {@code placeholders}
+     * @param placeholders used to render the given {@code format}
+     * @param maxNameLength maximum length of the formatted name or {@link LengthLimits#UNLIMITED}
+     * @param maxArgumentLength maximum length of each formatted argument or {@link LengthLimits#UNLIMITED}
+     */
+    public DataProviderPlaceholderFormatter(String format, List<? extends BasePlaceholder> placeholders,
+            int maxNameLength, int maxArgumentLength) {
+        this.template = PlaceholderTemplate.of(format, placeholders);
+        this.maxNameLength = maxNameLength;
+        this.maxArgumentLength = maxArgumentLength;
     }
 
     @Override
     public String format(Method testMethod, int invocationIndex, List<Object> arguments) {
-        ReplacementData data = ReplacementData.of(testMethod, invocationIndex, arguments);
-
-        String result = format;
-        for (BasePlaceholder placeHolder : placeholders) {
-            result = placeHolder.process(data, result);
-        }
-        return result;
+        ReplacementData data = ReplacementData.of(testMethod, invocationIndex, arguments, maxArgumentLength);
+        return template.render(data, maxNameLength);
     }
 }
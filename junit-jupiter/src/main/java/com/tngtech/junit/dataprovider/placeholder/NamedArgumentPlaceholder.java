@@ -19,6 +19,8 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Logger;
 
 /**
@@ -32,6 +34,18 @@ public class NamedArgumentPlaceholder extends AbstractArgumentPlaceholder {
 
     private static final Logger logger = Logger.getLogger(NamedArgumentPlaceholder.class.getName());
 
+    /**
+     * {@link Parameter}s of already formatted test methods grouped by their declaring class such that
+     * {@link Method#getParameters()} is called and a warning about missing parameter names is logged only once per
+     * method.
+     */
+    private static final ClassValue<ConcurrentMap<Method, Parameter[]>> PARAMETERS = new ClassValue<ConcurrentMap<Method, Parameter[]>>() {
+        @Override
+        protected ConcurrentMap<Method, Parameter[]> computeValue(Class<?> declaringClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     public NamedArgumentPlaceholder() {
         super("%na\\[(-?[0-9]+|-?[0-9]+\\.\\.-?[0-9]+)\\]");
     }
@@ -39,8 +53,12 @@ public class NamedArgumentPlaceholder extends AbstractArgumentPlaceholder {
     @Override
     protected String getReplacementFor(String placeholder, ReplacementData data) {
         FromAndTo fromAndTo = calcFromAndToForSubscriptAndArguments(placeholder, 4, data.getArguments().size());
-        return formatAll(getSubArrayOfMethodParameters(data.getTestMethod(), fromAndTo),
-                data.getArguments().subList(fromAndTo.from, fromAndTo.to));
+        Parameter[] parameters = getSubArrayOfMethodParameters(data.getTestMethod(), fromAndTo);
+        List<Object> arguments = data.getArguments().subList(fromAndTo.from, fromAndTo.to);
+        if (data.getMaxArgumentLength() == LengthLimits.UNLIMITED) {
+            return formatAll(parameters, arguments);
+        }
+        return formatAll(parameters, arguments, data.getMaxArgumentLength());
     }
 
     /**
@@ -52,12 +70,25 @@ public class NamedArgumentPlaceholder extends AbstractArgumentPlaceholder {
      * @return the formatted {@link String} of the given {@link Parameter}{@code []} and {@link List}{@code <Object>}
      */
     protected String formatAll(Parameter[] parameters, List<Object> arguments) {
+        return formatAll(parameters, arguments, LengthLimits.UNLIMITED);
+    }
+
+    /**
+     * Same as {@link #formatAll(Parameter[], List)} but each argument is cut after the given
+     * {@code maxArgumentLength} (see {@link #format(Object, int)}).
+     *
+     * @param parameters used to for formatting
+     * @param arguments to be formatted
+     * @param maxArgumentLength maximum length of each formatted argument or {@link LengthLimits#UNLIMITED}
+     * @return the formatted {@link String} of the given {@link Parameter}{@code []} and {@link List}{@code <Object>}
+     */
+    protected String formatAll(Parameter[] parameters, List<Object> arguments, int maxArgumentLength) {
         StringBuilder stringBuilder = new StringBuilder();
         for (int idx = 0; idx < arguments.size(); idx++) {
             String parameterName = (parameters.length > idx) ? parameters[idx].getName() : "?";
             Object argument = arguments.get(idx);
 
-            stringBuilder.append(parameterName).append("=").append(format(argument));
+            stringBuilder.append(parameterName).append("=").append(format(argument, maxArgumentLength));
             if (idx < arguments.size() - 1) {
                 stringBuilder.append(", ");
             }
@@ -66,6 +97,12 @@ public class NamedArgumentPlaceholder extends AbstractArgumentPlaceholder {
     }
 
     private Parameter[] getSubArrayOfMethodParameters(Method testMethod, FromAndTo fromAndTo) {
+        Parameter[] parameters = PARAMETERS.get(testMethod.getDeclaringClass()).computeIfAbsent(testMethod,
+                NamedArgumentPlaceholder::loadParameters);
+        return Arrays.copyOfRange(parameters, fromAndTo.from, fromAndTo.to);
+    }
+
+    private static Parameter[] loadParameters(Method testMethod) {
         Parameter[] parameters = testMethod.getParameters();
         if (parameters.length > 0 && !parameters[0].isNamePresent()) {
             logger.warning(String.format("Parameter names on method '%s' are not available"
@@ -73,6 +110,6 @@ public class NamedArgumentPlaceholder extends AbstractArgumentPlaceholder {
                     + ". See also https://docs.oracle.com/javase/tutorial/reflect/member/methodparameterreflection.html",
                     testMethod));
         }
-        return Arrays.copyOfRange(parameters, fromAndTo.from, fromAndTo.to);
+        return parameters;
     }
 }
@@ -2,16 +2,26 @@ package com.tngtech.junit.dataprovider;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionConfigurationException;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -30,6 +40,8 @@ class AbstractDataProviderInvocationContextProviderTest {
     private DataConverter dataConverter;
     @Mock
     private ExtensionContext extensionContext;
+    @Mock
+    private Store store;
 
     private Method testMethod;
 
@@ -59,4 +71,50 @@ class AbstractDataProviderInvocationContextProviderTest {
         // Then:
         assertThat(result).hasMessageMatching("Could not find annotation '.*' on test method '.*'\\.");
     }
+
+    @Test
+    void testGetCachedContextShouldCreateAndStoreContextIfNotYetCached() {
+        // Given:
+        DisplayNameContext displayNameContext = new DisplayNameContext("%m", Collections.emptyList());
+        AtomicInteger factoryCalls = new AtomicInteger();
+
+        List<Object> key = asList(underTest.getClass(), DisplayNameContext.class, testAnnotation);
+
+        when(extensionContext.getRoot()).thenReturn(extensionContext);
+        when(extensionContext.getStore(any(Namespace.class))).thenReturn(store);
+        when(store.getOrComputeIfAbsent(eq(key), any(), eq(DisplayNameContext.class)))
+                .thenAnswer(invocation -> invocation.<Function<Object, Object>>getArgument(1).apply(key));
+
+        // When:
+        DisplayNameContext result = underTest.getCachedContext(extensionContext, testAnnotation,
+                DisplayNameContext.class, a -> {
+                    factoryCalls.incrementAndGet();
+                    return displayNameContext;
+                });
+
+        // Then:
+        assertThat(result).isSameAs(displayNameContext);
+        assertThat(factoryCalls.get()).isEqualTo(1);
+        verify(extensionContext).getStore(AbstractDataProviderInvocationContextProvider.NAMESPACE_CONTEXT_CACHE);
+    }
+
+    @Test
+    void testGetCachedContextShouldReturnCachedContextWithoutCallingFactory() {
+        // Given:
+        DisplayNameContext displayNameContext = new DisplayNameContext("%m", Collections.emptyList());
+
+        when(extensionContext.getRoot()).thenReturn(extensionContext);
+        when(extensionContext.getStore(any(Namespace.class))).thenReturn(store);
+        when(store.getOrComputeIfAbsent(eq(asList(underTest.getClass(), DisplayNameContext.class, testAnnotation)),
+                any(), eq(DisplayNameContext.class))).thenReturn(displayNameContext);
+
+        // When:
+        DisplayNameContext result = underTest.getCachedContext(extensionContext, testAnnotation,
+                DisplayNameContext.class, a -> {
+                    throw new AssertionError("factory must not be called");
+                });
+
+        // Then:
+        assertThat(result).isSameAs(displayNameContext);
+    }
 }
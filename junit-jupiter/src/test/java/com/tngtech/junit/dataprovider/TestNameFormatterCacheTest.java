@@ -0,0 +1,110 @@
+package com.tngtech.junit.dataprovider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tngtech.junit.dataprovider.format.DataProviderPlaceholderFormatter;
+import com.tngtech.junit.dataprovider.format.DataProviderTestNameFormatter;
+import com.tngtech.junit.dataprovider.format.ThreadSafe;
+import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
+import com.tngtech.junit.dataprovider.placeholder.SimpleMethodNamePlaceholder;
+
+class TestNameFormatterCacheTest {
+
+    private final TestNameFormatterCache underTest = new TestNameFormatterCache();
+
+    private final List<BasePlaceholder> placeholders = Collections.singletonList(new SimpleMethodNamePlaceholder());
+
+    @Test
+    void testGetFormatterShouldReturnSamePlaceholderFormatterForSameFormatAndPlaceholders() {
+        // Given:
+        DisplayNameContext displayNameContext = new DisplayNameContext("%m", placeholders);
+
+        // When:
+        DataProviderTestNameFormatter result1 = underTest.getFormatter(displayNameContext);
+        DataProviderTestNameFormatter result2 = underTest.getFormatter(displayNameContext);
+
+        // Then:
+        assertThat(result1).isInstanceOf(DataProviderPlaceholderFormatter.class).isSameAs(result2);
+    }
+
+    @Test
+    void testGetFormatterShouldReturnDifferentPlaceholderFormattersForDifferentFormats() {
+        // Given:
+        DisplayNameContext displayNameContext1 = new DisplayNameContext(DataProviderPlaceholderFormatter.class, "%m",
+                placeholders);
+        DisplayNameContext displayNameContext2 = new DisplayNameContext(DataProviderPlaceholderFormatter.class, "%m!",
+                placeholders);
+
+        // When:
+        DataProviderTestNameFormatter result1 = underTest.getFormatter(displayNameContext1);
+        DataProviderTestNameFormatter result2 = underTest.getFormatter(displayNameContext2);
+
+        // Then:
+        assertThat(result1).isNotSameAs(result2);
+        assertThat(result2.format(getClass().getDeclaredMethods()[0], 0, Collections.emptyList())).endsWith("!");
+    }
+
+    @Test
+    void testGetFormatterShouldReturnDifferentPlaceholderFormattersForDifferentLengthLimits() {
+        // Given:
+        DisplayNameContext displayNameContext1 = new DisplayNameContext(DataProviderPlaceholderFormatter.class, "%m",
+                placeholders, LengthLimits.UNLIMITED, LengthLimits.UNLIMITED);
+        DisplayNameContext displayNameContext2 = new DisplayNameContext(DataProviderPlaceholderFormatter.class, "%m",
+                placeholders, 4, LengthLimits.UNLIMITED);
+
+        // When:
+        DataProviderTestNameFormatter result1 = underTest.getFormatter(displayNameContext1);
+        DataProviderTestNameFormatter result2 = underTest.getFormatter(displayNameContext2);
+
+        // Then:
+        assertThat(result1).isNotSameAs(result2);
+        assertThat(result2.format(getClass().getDeclaredMethods()[0], 0, Collections.emptyList())).hasSize(7)
+                .endsWith(LengthLimits.ELISION_MARKER);
+    }
+
+    @Test
+    void testGetFormatterShouldReturnNewInstanceForCustomFormatterNotBeingThreadSafe() {
+        // Given:
+        DisplayNameContext displayNameContext = new DisplayNameContext(CustomFormatter.class, "%m", placeholders);
+
+        // When:
+        DataProviderTestNameFormatter result1 = underTest.getFormatter(displayNameContext);
+        DataProviderTestNameFormatter result2 = underTest.getFormatter(displayNameContext);
+
+        // Then:
+        assertThat(result1).isInstanceOf(CustomFormatter.class);
+        assertThat(result2).isInstanceOf(CustomFormatter.class).isNotSameAs(result1);
+    }
+
+    @Test
+    void testGetFormatterShouldReturnSameInstanceForThreadSafeCustomFormatter() {
+        // Given:
+        DisplayNameContext displayNameContext = new DisplayNameContext(ThreadSafeCustomFormatter.class, "%m",
+                placeholders);
+
+        // When:
+        DataProviderTestNameFormatter result1 = underTest.getFormatter(displayNameContext);
+        DataProviderTestNameFormatter result2 = underTest.getFormatter(displayNameContext);
+
+        // Then:
+        assertThat(result1).isInstanceOf(ThreadSafeCustomFormatter.class).isSameAs(result2);
+    }
+
+    static class CustomFormatter implements DataProviderTestNameFormatter {
+        @Override
+        public String format(Method testMethod, int invocationIndex, List<Object> arguments) {
+            return "custom";
+        }
+    }
+
+    @ThreadSafe
+    static class ThreadSafeCustomFormatter extends CustomFormatter {
+    }
+}
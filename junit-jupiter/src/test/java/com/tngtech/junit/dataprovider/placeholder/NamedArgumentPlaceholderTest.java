@@ -70,6 +70,40 @@ class NamedArgumentPlaceholderTest {
         assertThat(result).isEqualTo("l2=2");
     }
 
+    @Test
+    void testProcessShouldElideArgumentsLongerThanMaxArgumentLength() {
+        // Given:
+        final List<Object> arguments = list('a', 1, 2l, 3.3, "four", 'f', 6, 7l, 8.8, 9.99f);
+
+        ReplacementData data = ReplacementData.of(tenParamMethod, 0, arguments, 3);
+
+        // When:
+        String result = underTest.process(data, "%na[3..4]");
+
+        // Then:
+        assertThat(result).isEqualTo("d3=3.3, s4=fou...");
+    }
+
+    @Test
+    void testProcessShouldLogMissingParameterNamesOnlyOncePerMethod() throws Exception {
+        // Given:
+        // JDK classes are compiled without '-parameters'
+        Method method = String.class.getMethod("regionMatches", boolean.class, int.class, String.class, int.class,
+                int.class);
+        final List<Object> arguments = list(true, 0, "other", 1, 2);
+
+        ReplacementData data = ReplacementData.of(method, 0, arguments);
+
+        // When:
+        String result1 = underTest.process(data, "%na[0..1]");
+        String result2 = new NamedArgumentPlaceholder().process(data, "%na[0..1]");
+
+        // Then:
+        assertThat(result1).isEqualTo("arg0=true, arg1=0");
+        assertThat(result2).isEqualTo(result1);
+        assertThat(getTestCapturedLog().split("Parameter names on method", -1)).hasSize(2);
+    }
+
     @Test
     void testProcessShouldReplaceIndexSubscriptArgumentPlaceholderUsingNegativeIndex() {
         // Given:
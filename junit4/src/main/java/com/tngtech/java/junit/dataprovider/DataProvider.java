@@ -31,8 +31,10 @@ import com.tngtech.junit.dataprovider.format.DataProviderTestNameFormatter;
  * attribute.
  * <ul>
  * <li><i>Use it on a separate method:</i> The name of the dataprovider is the the name of the method. The method must be static and return
- * an {@link Object}{@code [][]}, an {@link Iterable}{@code <Iterable<?>>}, an {@link Iterable}{@code <?>}, or a {@link String}{@code []}.
- * Whereby {@link Iterable} can be replaced with any vaild subtype as well as arbitrary inner types are also supported. The test method will
+ * an {@link Object}{@code [][]}, an {@link Iterable}{@code <Iterable<?>>}, an {@link Iterable}{@code <?>}, a {@link String}{@code []},
+ * an {@link java.util.Iterator}{@code <?>}, a {@link java.util.stream.Stream}{@code <?>}, or a {@link java.util.function.Supplier} of
+ * one of them. Whereby {@link Iterable}, {@link java.util.Iterator}, and {@link java.util.stream.Stream} can be replaced with any vaild
+ * subtype as well as arbitrary inner types are also supported. The test method will
  * be called with each "row" of this two-dimensional array. The test method must be annotated with {@code @}{@link UseDataProvider}. This
  * annotation behaves pretty much the same as the {@code @DataProvider} annotation from <a href="http://testng.org/">TestNG</a>.
  * <p>
@@ -198,6 +200,29 @@ public @interface DataProvider {
      */
     Class<? extends DataProviderTestNameFormatter> formatter() default DataProviderPlaceholderFormatter.class;
 
+    /**
+     * Maximum length of the test method name generated using {@link #format()}. Longer names are cut and followed by
+     * {@value com.tngtech.junit.dataprovider.placeholder.LengthLimits#ELISION_MARKER}. Defaults to the value of system
+     * property {@value com.tngtech.junit.dataprovider.placeholder.LengthLimits#PROPERTY_MAX_NAME_LENGTH} or no limit
+     * at all if not positive. Optional.
+     *
+     * @return the maximum length of the test method name
+     * @see com.tngtech.junit.dataprovider.placeholder.LengthLimits
+     */
+    int maxNameLength() default 0;
+
+    /**
+     * Maximum length of each parameter formatted by {@code %p} (see {@link #format()}). Longer parameters are cut and
+     * followed by {@value com.tngtech.junit.dataprovider.placeholder.LengthLimits#ELISION_MARKER} without formatting
+     * huge arrays or collections completely. Defaults to the value of system property
+     * {@value com.tngtech.junit.dataprovider.placeholder.LengthLimits#PROPERTY_MAX_ARGUMENT_LENGTH} or no limit at
+     * all if not positive. Optional.
+     *
+     * @return the maximum length of each formatted parameter
+     * @see com.tngtech.junit.dataprovider.placeholder.LengthLimits
+     */
+    int maxArgumentLength() default 0;
+
     /**
      * @return {@code true} if and only if the case for {@link Enum} conversion should be ignored such that searching
      *         for the corresponding {@link Enum} values is case-insensitive. Default is {@code false}. Optional.
@@ -208,6 +233,14 @@ public @interface DataProvider {
      * @return {@code true} if and only if the result of this dataprovider should be cached. Otherwise it will be
      *         evaluated for every usage. This could be necessary if it contains dynamic results, e.g. depending on a
      *         provided test methodO. Default is {@code true}.
+     *         <p>
+     *         Note: Single-use results, i.e. {@link java.util.Iterator} and {@link java.util.stream.Stream}, are never
+     *         cached and the dataprovider is invoked again for every usage instead. Return a
+     *         {@link java.util.function.Supplier} (e.g. {@code Supplier<Stream<?>>}) to have the dataprovider result
+     *         cached and still get fresh data for every usage.
+     *         <p>
+     *         Size and scope of the cache can be configured, see
+     *         {@link com.tngtech.java.junit.dataprovider.internal.DataProviderDataCache}.
      */
     boolean cache() default true;
 }
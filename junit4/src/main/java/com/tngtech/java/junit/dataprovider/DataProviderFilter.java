@@ -17,12 +17,17 @@ package com.tngtech.java.junit.dataprovider;
 
 import static com.tngtech.java.junit.dataprovider.common.Preconditions.checkNotNull;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.junit.runner.Description;
 import org.junit.runner.manipulation.Filter;
 
+import com.tngtech.java.junit.dataprovider.format.DataProviderPlaceholderFormatter;
+
 /**
  * This custom {@link Filter} filters test methods or even single dataprovider rows of a test class which is run by
  * {@link DataProviderRunner}.
@@ -49,7 +54,6 @@ public class DataProviderFilter extends Filter {
                     + "\\)$", Pattern.DOTALL);
 
     private static final int GROUP_METHOD_NAME = 1;
-    private static final int GROUP_METHOD_PARAMS = 2;
     private static final int GROUP_METHOD_IDX = 3;
     private static final int GROUP_CLASS = 4;
 
@@ -62,6 +66,18 @@ public class DataProviderFilter extends Filter {
      **/
     final Filter filter;
 
+    /**
+     * Lazily parsed description of {@link #filter}, see {@link #getSelection()}.
+     */
+    private volatile Selection selection;
+
+    /**
+     * Exploded test methods by the identity of their {@link Description}, see
+     * {@link #register(Description, DataProviderFrameworkMethod)}.
+     */
+    private final Map<Description, DataProviderFrameworkMethod> testMethods = Collections
+            .synchronizedMap(new IdentityHashMap<Description, DataProviderFrameworkMethod>());
+
     /**
      * Creates a new {@link DataProviderFilter} using the textual {@link Filter#describe()} of supplied {@link Filter}
      * to determine if a test method should run or not. If given {@code filter} description can not be parsed, request
@@ -75,17 +91,13 @@ public class DataProviderFilter extends Filter {
 
     @Override
     public boolean shouldRun(Description description) {
-        String filterDescription = filter.describe();
-
-        Matcher filterDescriptionMatcher = DESCRIPTION_PATTERN.matcher(filterDescription);
-        if (filterDescription.contains(" OR ") || filterDescription.contains("exclude ") || !filterDescriptionMatcher.find()) {
+        Selection selection = getSelection();
+        if (selection == null) {
             return filter.shouldRun(description);
         }
-        String methodName = filterDescriptionMatcher.group(GROUP_METHOD_NAME);
-        String className = filterDescriptionMatcher.group(GROUP_CLASS);
 
         if (description.isTest()) {
-            return shouldRunTest(description, filterDescriptionMatcher, methodName, className);
+            return shouldRunTest(description, selection);
         }
 
         // explicitly check if any children should to run
@@ -97,27 +109,126 @@ public class DataProviderFilter extends Filter {
         return false;
     }
 
+    /**
+     * Registers the given exploded test method for its {@link Description} such that {@link #shouldRun(Description)}
+     * matches it on its method name, index and class instead of parsing the display name of {@code description}, as
+     * far as its name format allows to, see {@link #isMatchableByMethodName(DataProviderFrameworkMethod, Selection)}.
+     * <p>
+     * This method is package private (= visible) for {@link DataProviderRunner}.
+     * </p>
+     *
+     * @param description of the given {@code testMethod}
+     * @param testMethod exploded test method described by {@code description}
+     */
+    void register(Description description, DataProviderFrameworkMethod testMethod) {
+        testMethods.put(description, testMethod);
+    }
+
+    /**
+     * Determines if the given exploded test method can be matched on its method name, index and class without
+     * rendering its name, i.e. if and only if this filter selects a single test method by name, all placeholders are
+     * the default ones (see {@link Placeholders#all()}), and the name format of the given {@code testMethod} starts
+     * with its simple method name ({@code %m[}) and, if this filter selects a single dataprovider row of the same
+     * method, continues with its index ({@code %m[%i:}).
+     * <p>
+     * This method is package private (= visible) for {@link DataProviderRunner}.
+     * </p>
+     *
+     * @param testMethod exploded test method to be checked
+     * @return {@code true} if and only if {@link #shouldRun(Description)} does not require the rendered name of the
+     *         given {@code testMethod}
+     */
+    boolean isMatchableByMethodName(DataProviderFrameworkMethod testMethod) {
+        Selection selection = getSelection();
+        return selection != null && isMatchableByMethodName(testMethod, selection);
+    }
+
     @Override
     public String describe() {
         return filter.describe();
     }
 
-    private boolean shouldRunTest(Description description, Matcher filterDescriptionMatcher, String methodName, String className) {
+    /**
+     * Parses the description of {@link #filter} on first access only.
+     *
+     * @return the test method or dataprovider row selected by {@link #filter} or {@code null} if its description
+     *         cannot be parsed
+     */
+    private Selection getSelection() {
+        Selection result = selection;
+        if (result == null) {
+            result = Selection.parse(filter.describe());
+            selection = result;
+        }
+        return (result == Selection.UNPARSABLE) ? null : result;
+    }
+
+    private boolean shouldRunTest(Description description, Selection selection) {
+        DataProviderFrameworkMethod testMethod = testMethods.get(description);
+        if (testMethod != null && isMatchableByMethodName(testMethod, selection)) {
+            return selection.className.equals(description.getClassName())
+                    && matchesMethodNameAndIndex(testMethod, selection);
+        }
+
         Matcher descriptionMatcher = DESCRIPTION_PATTERN.matcher(description.getDisplayName());
         if (!descriptionMatcher.matches()) {
-            if (filterDescriptionMatcher.group(GROUP_METHOD_IDX) == null) {
+            if (selection.methodIdx == null) {
                 Matcher generousDescMatcher = GENEROUS_DESCRIPTION_PATTERN.matcher(description.getDisplayName());
                 if (generousDescMatcher.matches()) {
-                    return methodName.equals(generousDescMatcher.group(GROUP_METHOD_NAME))
-                            && className.equals(generousDescMatcher.group(GROUP_CLASS));
+                    return selection.methodName.equals(generousDescMatcher.group(GROUP_METHOD_NAME))
+                            && selection.className.equals(generousDescMatcher.group(GROUP_CLASS));
                 }
             }
             return filter.shouldRun(description);
         }
-        if (!methodName.equals(descriptionMatcher.group(GROUP_METHOD_NAME)) || !className.equals(descriptionMatcher.group(GROUP_CLASS))) {
+        if (!selection.methodName.equals(descriptionMatcher.group(GROUP_METHOD_NAME)) || !selection.className.equals(descriptionMatcher.group(GROUP_CLASS))) {
+            return false;
+        }
+        return selection.methodIdx == null || selection.methodIdx.equals(descriptionMatcher.group(GROUP_METHOD_IDX));
+    }
+
+    /**
+     * @return {@code true} if and only if the rendered name of the given {@code testMethod} is known to start with its
+     *         simple method name and, if required by {@code selection} and the method names are equal, its index
+     */
+    private boolean isMatchableByMethodName(DataProviderFrameworkMethod testMethod, Selection selection) {
+        if (testMethod.nameFormatter != null && !DataProviderPlaceholderFormatter.class.equals(testMethod.nameFormatter)
+                || !testMethod.nameFormat.startsWith("%m[") || !Placeholders.containsDefaultsOnly()) {
             return false;
         }
-        return filterDescriptionMatcher.group(GROUP_METHOD_PARAMS) == null
-                || filterDescriptionMatcher.group(GROUP_METHOD_IDX).equals(descriptionMatcher.group(GROUP_METHOD_IDX));
+        return selection.methodIdx == null || testMethod.nameFormat.startsWith("%m[%i:")
+                || !selection.methodName.equals(testMethod.getMethod().getName());
+    }
+
+    private boolean matchesMethodNameAndIndex(DataProviderFrameworkMethod testMethod, Selection selection) {
+        return selection.methodName.equals(testMethod.getMethod().getName())
+                && (selection.methodIdx == null || selection.methodIdx.equals(String.valueOf(testMethod.idx)));
+    }
+
+    /**
+     * Test method or dataprovider row selected by a {@link Filter}, parsed from its {@link Filter#describe()}.
+     */
+    private static final class Selection {
+
+        static final Selection UNPARSABLE = new Selection(null, null, null);
+
+        final String methodName;
+        final String methodIdx;
+        final String className;
+
+        private Selection(String methodName, String methodIdx, String className) {
+            this.methodName = methodName;
+            this.methodIdx = methodIdx;
+            this.className = className;
+        }
+
+        static Selection parse(String filterDescription) {
+            Matcher filterDescriptionMatcher = DESCRIPTION_PATTERN.matcher(filterDescription);
+            if (filterDescription.contains(" OR ") || filterDescription.contains("exclude ") || !filterDescriptionMatcher.find()) {
+                return UNPARSABLE;
+            }
+            return new Selection(filterDescriptionMatcher.group(GROUP_METHOD_NAME),
+                    filterDescriptionMatcher.group(GROUP_METHOD_IDX), filterDescriptionMatcher.group(GROUP_CLASS));
+        }
     }
-}
\ No newline at end of file
+}
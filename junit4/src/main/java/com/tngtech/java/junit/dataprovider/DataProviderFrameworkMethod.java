@@ -26,6 +26,7 @@ import org.junit.runners.model.FrameworkMethod;
 
 import com.tngtech.java.junit.dataprovider.format.DataProviderPlaceholderFormatter;
 import com.tngtech.junit.dataprovider.format.DataProviderTestNameFormatter;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
 
 /**
  * A special framework method that allows the usage of parameters for the test method.
@@ -64,6 +65,27 @@ public class DataProviderFrameworkMethod extends FrameworkMethod {
      */
     final Class<? extends DataProviderTestNameFormatter> nameFormatter;
 
+    /**
+     * Maximum length of test method name, see {@link LengthLimits}.
+     * <p>
+     * This field is package private (= visible) for testing.
+     * </p>
+     */
+    final int maxNameLength;
+
+    /**
+     * Maximum length of each formatted parameter within test method name, see {@link LengthLimits}.
+     * <p>
+     * This field is package private (= visible) for testing.
+     * </p>
+     */
+    final int maxArgumentLength;
+
+    /**
+     * Lazily rendered name of this test method, see {@link #getName()}.
+     */
+    private volatile String name;
+
     /**
      * Create a {@link FrameworkMethod} extended with special attributes for using this test with a dataprovider.
      *
@@ -87,23 +109,66 @@ public class DataProviderFrameworkMethod extends FrameworkMethod {
      */
     public DataProviderFrameworkMethod(Method method, int idx, Object[] parameters,
             String nameFormat, Class<? extends DataProviderTestNameFormatter> nameFormatter) {
+        this(method, idx, parameters, nameFormat, nameFormatter, LengthLimits.maxNameLength(0),
+                LengthLimits.maxArgumentLength(0));
+    }
+
+    /**
+     * Create a {@link FrameworkMethod} extended with special attributes for using this test with a dataprovider.
+     *
+     * @param method test method for which the {@link FrameworkMethod} is created
+     * @param idx the index (row) of the used dataprovider
+     * @param parameters used for invoking this test method
+     * @param nameFormat defines the format of the test method name according to {@code @}{@link DataProvider#format()}
+     * @param nameFormatter defines the test method name formatter
+     * @param maxNameLength maximum length of the test method name according to
+     *            {@code @}{@link DataProvider#maxNameLength()} or {@link LengthLimits#UNLIMITED}
+     * @param maxArgumentLength maximum length of each formatted parameter according to
+     *            {@code @}{@link DataProvider#maxArgumentLength()} or {@link LengthLimits#UNLIMITED}
+     */
+    public DataProviderFrameworkMethod(Method method, int idx, Object[] parameters, String nameFormat,
+            Class<? extends DataProviderTestNameFormatter> nameFormatter, int maxNameLength, int maxArgumentLength) {
         super(method);
 
         checkNotNull(parameters, "parameter must not be null");
         checkNotNull(nameFormat, "nameFormat must not be null");
         checkArgument(parameters.length != 0, "parameter must not be empty");
+        checkArgument(maxNameLength > 0, "maxNameLength must be positive");
+        checkArgument(maxArgumentLength > 0, "maxArgumentLength must be positive");
 
         this.idx = idx;
         this.parameters = Arrays.copyOf(parameters, parameters.length);
         this.nameFormat = nameFormat;
         this.nameFormatter = nameFormatter;
+        this.maxNameLength = maxNameLength;
+        this.maxArgumentLength = maxArgumentLength;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The name is rendered lazily on first request only and memoized afterwards as JUnit requests it multiple times
+     * (e.g. for describing, filtering and sorting).
+     */
     @Override
     public String getName() {
+        String result = name;
+        if (result == null) {
+            synchronized (this) {
+                result = name;
+                if (result == null) {
+                    result = formatName();
+                    name = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private String formatName() {
         if (nameFormatter == null || DataProviderPlaceholderFormatter.class.equals(nameFormatter)) {
-            return new DataProviderPlaceholderFormatter(nameFormat, Placeholders.all()).format(getMethod(), idx,
-                    Arrays.asList(parameters));
+            return new DataProviderPlaceholderFormatter(nameFormat, Placeholders.all(), maxNameLength,
+                    maxArgumentLength).format(getMethod(), idx, Arrays.asList(parameters));
         }
 
         try {
@@ -17,17 +17,23 @@ package com.tngtech.java.junit.dataprovider;
 
 import static com.tngtech.java.junit.dataprovider.common.Preconditions.checkNotNull;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.Description;
 import org.junit.runner.manipulation.Filter;
 import org.junit.runner.manipulation.NoTestsRemainException;
 import org.junit.runners.BlockJUnit4ClassRunner;
@@ -40,6 +46,7 @@ import com.tngtech.java.junit.dataprovider.internal.DataConverter;
 import com.tngtech.java.junit.dataprovider.internal.DefaultDataProviderMethodResolver;
 import com.tngtech.java.junit.dataprovider.internal.TestGenerator;
 import com.tngtech.java.junit.dataprovider.internal.TestValidator;
+import com.tngtech.junit.dataprovider.resolver.ResolverRegistry;
 
 /**
  * A custom runner for JUnit that allows the usage of <a href="http://testng.org/">TestNG</a>-like dataproviders. Data
@@ -84,6 +91,11 @@ public class DataProviderRunner extends BlockJUnit4ClassRunner {
      */
     Map<FrameworkMethod, List<FrameworkMethod>> dataProviderMethods;
 
+    /**
+     * {@link DataProviderFilter} which is currently applied by {@link #filter(Filter)} of the current thread, if any.
+     */
+    private final ThreadLocal<DataProviderFilter> appliedFilter = new ThreadLocal<DataProviderFilter>();
+
     /**
      * Creates a DataProviderRunner to run supplied {@code clazz}.
      *
@@ -194,6 +206,7 @@ public class DataProviderRunner extends BlockJUnit4ClassRunner {
         if (computedTestMethods == null) {
             // Further method for generation is required due to stubbing of "super.computeTestMethods()" is not possible
             computedTestMethods = generateExplodedTestMethodsFor(super.computeTestMethods());
+            testGenerator.finishTestClass();
         }
         return computedTestMethods;
     }
@@ -202,14 +215,50 @@ public class DataProviderRunner extends BlockJUnit4ClassRunner {
      * {@inheritDoc}
      * <p>
      * If possible the given {@code filter} is wrapped by {@link DataProviderFilter} to enable filtering of tests using
-     * a dataprovider.
+     * a dataprovider. Exploded test methods are matched on their method name, index and class as far as possible such
+     * that the names of the ones which are filtered out need not be rendered, see {@link #describeChild(FrameworkMethod)}.
      *
      * @param filter the {@link Filter} to be wrapped or apply, respectively
      */
     @Override
     public void filter(Filter filter) throws NoTestsRemainException {
         checkNotNull(filter, "filter must not be null");
-        super.filter(new DataProviderFilter(filter));
+
+        DataProviderFilter dataProviderFilter = new DataProviderFilter(filter);
+        appliedFilter.set(dataProviderFilter);
+        try {
+            super.filter(dataProviderFilter);
+        } finally {
+            appliedFilter.remove();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * While {@link #filter(Filter)} is applied, the descriptions of exploded test methods are additionally registered
+     * at the applied {@link DataProviderFilter} such that it can match them on their method name, index and class
+     * instead of parsing their display names. If the filter does not require the display name at all (see
+     * {@link DataProviderFilter#isMatchableByMethodName(DataProviderFrameworkMethod)}), a description using the simple
+     * method name is used for filtering without rendering the name.
+     */
+    @Override
+    protected Description describeChild(FrameworkMethod method) {
+        DataProviderFilter filter = appliedFilter.get();
+        if (filter == null || !(method instanceof DataProviderFrameworkMethod)) {
+            return super.describeChild(method);
+        }
+
+        DataProviderFrameworkMethod testMethod = (DataProviderFrameworkMethod) method;
+        Description result;
+        if (filter.isMatchableByMethodName(testMethod)) {
+            result = Description.createTestDescription(getTestClass().getJavaClass(), method.getMethod().getName(),
+                    method.getAnnotations());
+        } else {
+            result = super.describeChild(method);
+        }
+        filter.register(result, testMethod);
+        return result;
     }
 
     /**
@@ -237,6 +286,10 @@ public class DataProviderRunner extends BlockJUnit4ClassRunner {
         if (testMethods == null) {
             return result;
         }
+        int threads = getExplosionThreads();
+        if (threads > 1) {
+            return generateExplodedTestMethodsInParallelFor(testMethods, threads);
+        }
         for (FrameworkMethod testMethod : testMethods) {
             for (FrameworkMethod dataProviderMethod : getDataProviderMethods(testMethod)) {
                 result.addAll(testGenerator.generateExplodedTestMethodsFor(testMethod, dataProviderMethod));
@@ -245,6 +298,110 @@ public class DataProviderRunner extends BlockJUnit4ClassRunner {
         return result;
     }
 
+    /**
+     * Same as {@link #generateExplodedTestMethodsFor(List)} but invokes the dataprovider methods and converts their
+     * results concurrently using at most the given number of {@code threads}. Dataprovider methods are still resolved
+     * sequentially and the result is in the same order. Generations are awaited in this order as well such that the
+     * error of the first failing generation in order is rethrown unchanged, exactly as if generated sequentially.
+     * Generations not started yet are cancelled afterwards, running ones are not interrupted.
+     * <p>
+     * This method is package private (= visible) for testing.
+     * </p>
+     */
+    List<FrameworkMethod> generateExplodedTestMethodsInParallelFor(List<FrameworkMethod> testMethods, int threads) {
+        List<Callable<List<FrameworkMethod>>> tasks = new ArrayList<Callable<List<FrameworkMethod>>>();
+        for (final FrameworkMethod testMethod : testMethods) {
+            for (final FrameworkMethod dataProviderMethod : getDataProviderMethods(testMethod)) {
+                tasks.add(new Callable<List<FrameworkMethod>>() {
+                    @Override
+                    public List<FrameworkMethod> call() {
+                        return testGenerator.generateExplodedTestMethodsFor(testMethod, dataProviderMethod);
+                    }
+                });
+            }
+        }
+
+        List<FrameworkMethod> result = new ArrayList<FrameworkMethod>();
+        if (tasks.isEmpty()) {
+            return result;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, tasks.size()), new ThreadFactory() {
+            private final AtomicInteger threadNumber = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "dataprovider-explosion-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        List<Future<List<FrameworkMethod>>> futures = new ArrayList<Future<List<FrameworkMethod>>>();
+        try {
+            for (Callable<List<FrameworkMethod>> task : tasks) {
+                futures.add(executor.submit(task));
+            }
+            for (Future<List<FrameworkMethod>> future : futures) {
+                result.addAll(getExplodedTestMethods(future));
+            }
+            return result;
+        } finally {
+            for (Future<List<FrameworkMethod>> future : futures) {
+                future.cancel(false);
+            }
+            executor.shutdown();
+        }
+    }
+
+    private List<FrameworkMethod> getExplodedTestMethods(Future<List<FrameworkMethod>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating test methods", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException("Unexpected exception while generating test methods", cause);
+        }
+    }
+
+    /**
+     * Returns the maximum number of threads used to generate the test methods of the test class, i.e. the
+     * {@link ParallelExplosion#threads()} of the test class or the value of system property
+     * {@link ParallelExplosion#PROPERTY_PARALLEL_EXPLOSION}. Test methods are generated sequentially if the result is
+     * not greater than one.
+     * <p>
+     * This method is package private (= visible) for testing.
+     * </p>
+     */
+    int getExplosionThreads() {
+        Class<?> javaClass = getTestClassInt().getJavaClass();
+        ParallelExplosion parallelExplosion = (javaClass == null) ? null : javaClass.getAnnotation(ParallelExplosion.class);
+        if (parallelExplosion != null) {
+            return (parallelExplosion.threads() > 0) ? parallelExplosion.threads() : Runtime.getRuntime().availableProcessors();
+        }
+
+        String property = System.getProperty(ParallelExplosion.PROPERTY_PARALLEL_EXPLOSION);
+        if (property == null || property.trim().isEmpty() || "false".equalsIgnoreCase(property.trim())) {
+            return 1;
+        }
+        if ("true".equalsIgnoreCase(property.trim())) {
+            return Runtime.getRuntime().availableProcessors();
+        }
+        try {
+            return Integer.parseInt(property.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(String.format("System property '%s' must be 'true', 'false' or a number but was: %s",
+                    ParallelExplosion.PROPERTY_PARALLEL_EXPLOSION, property), e);
+        }
+    }
+
     /**
      * <p>
      * This method is package private (= visible) for testing.
@@ -282,32 +439,18 @@ public class DataProviderRunner extends BlockJUnit4ClassRunner {
     }
 
     /**
-     * Returns a new instance of {@link DataProviderMethodResolver}. This method is required for testing. It calls
-     * {@link Class#newInstance()} which needs to be stubbed while testing.
+     * Returns an instance of {@link DataProviderMethodResolver} obtained from the {@link ResolverRegistry}, i.e. a shared
+     * instance for resolvers annotated with {@link com.tngtech.junit.dataprovider.resolver.Shareable} and a new instance
+     * otherwise. This method is required for testing as it needs to be stubbed while testing.
      * <p>
      * This method is package private (= visible) for testing.
      * </p>
      */
     DataProviderMethodResolver getResolverInstanceInt(Class<? extends DataProviderMethodResolver> resolverClass) {
-        Constructor<? extends DataProviderMethodResolver> constructor;
-        try {
-            constructor = resolverClass.getDeclaredConstructor();
-            constructor.setAccessible(true);
-        } catch (NoSuchMethodException e) {
-            throw new IllegalStateException("Could not find default constructor to instantiate resolver " + resolverClass, e);
-        } catch (SecurityException e) {
-            throw new IllegalStateException(
-                    "Security violation while trying to access default constructor to instantiate resolver " + resolverClass, e);
-        }
-
         try {
-            return constructor.newInstance();
-        } catch (IllegalAccessException e) {
-            throw new IllegalStateException("Could not access default constructor to instantiate resolver " + resolverClass, e);
-        } catch (InstantiationException e) {
-            throw new IllegalStateException("Could not instantiate resolver " + resolverClass + " using default constructor", e);
-        } catch (InvocationTargetException e) {
-            throw new IllegalStateException("The default constructor of " + resolverClass + " has thrown an exception", e);
+            return ResolverRegistry.getInstance(resolverClass);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e.getCause());
         }
     }
 }
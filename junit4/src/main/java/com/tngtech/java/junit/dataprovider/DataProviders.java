@@ -19,6 +19,7 @@ import static com.tngtech.java.junit.dataprovider.common.Preconditions.checkNotN
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class DataProviders {
 
@@ -120,4 +121,64 @@ public class DataProviders {
     public static Object[][] crossProduct(Object[][] rows1, Object[][] rows2) {
         return com.tngtech.junit.dataprovider.DataProviders.crossProduct(rows1, rows2);
     }
+
+    /**
+     * Creates a lazy cross product of all provided dataproviders, i.e. a dataprovider test for each combination of
+     * their rows which is not created until it is iterated.
+     *
+     * <pre>
+     * <code>
+     * Iterable&lt;Object[]&gt; r = lazyCrossProduct(dataProviderMethod1(), dataProviderMethod2(), dataProviderMethod3());
+     * </code>
+     * </pre>
+     *
+     * @param rows of all dataproviders which should be cross producted
+     * @return a reusable {@link Iterable} over the cross product of the given {@code rows}
+     * @see com.tngtech.junit.dataprovider.DataProviders#lazyCrossProduct(Object[][]...)
+     */
+    public static Iterable<Object[]> lazyCrossProduct(Object[][]... rows) {
+        return com.tngtech.junit.dataprovider.DataProviders.lazyCrossProduct(rows);
+    }
+
+    /**
+     * Same as {@link #lazyCrossProduct(Object[][]...)} but returns a {@link Stream}.
+     *
+     * @param rows of all dataproviders which should be cross producted
+     * @return a sequential and ordered {@link Stream} of the cross product of the given {@code rows}
+     * @see com.tngtech.junit.dataprovider.DataProviders#crossProductStream(Object[][]...)
+     */
+    public static Stream<Object[]> crossProductStream(Object[][]... rows) {
+        return com.tngtech.junit.dataprovider.DataProviders.crossProductStream(rows);
+    }
+
+    /**
+     * Creates a dataprovider test for a pairwise combination of all provided dataproviders covering every pair of rows
+     * of any two of them with far fewer tests than their cross product, e.g.
+     *
+     * <pre>
+     * Object[][] r = pairwise(dataProviderMethod1(), dataProviderMethod2(), dataProviderMethod3());
+     * </pre>
+     *
+     * @param rows of all dataproviders which should be combined pairwise
+     * @return an {@link Object} array array containing a pairwise combination of the given {@code rows}
+     * @see com.tngtech.junit.dataprovider.DataProviders#pairwise(Object[][]...)
+     */
+    public static Object[][] pairwise(Object[][]... rows) {
+        return com.tngtech.junit.dataprovider.DataProviders.pairwise(rows);
+    }
+
+    /**
+     * Same as {@link #pairwise(Object[][]...)} but covers every combination of rows of any {@code strength}
+     * dataproviders.
+     *
+     * @param strength number of dataproviders whose combinations of rows must all be covered
+     * @param seed for the randomized greedy construction of the combinations; the same seed always creates the same
+     *            result
+     * @param rows of all dataproviders which should be combined
+     * @return an {@link Object} array array containing a {@code strength}-wise combination of the given {@code rows}
+     * @see com.tngtech.junit.dataprovider.DataProviders#tWise(int, long, Object[][]...)
+     */
+    public static Object[][] tWise(int strength, long seed, Object[][]... rows) {
+        return com.tngtech.junit.dataprovider.DataProviders.tWise(strength, seed, rows);
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.java.junit.dataprovider;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotate a test class run by {@link DataProviderRunner} to invoke its dataprovider methods and convert their results
+ * concurrently while generating the test methods to be executed. The generated test methods are still in the same
+ * deterministic order and errors are reported the same way as for sequential generation.
+ * <p>
+ * Note: All dataprovider methods of the test class must be thread-safe.
+ * <p>
+ * Alternatively, parallel generation can be enabled for all test classes using system property
+ * {@value #PROPERTY_PARALLEL_EXPLOSION} with value {@code true} (= as many threads as available processors) or the
+ * maximum number of threads to be used.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ParallelExplosion {
+
+    /**
+     * Name of the system property to enable parallel generation of test methods for all test classes.
+     */
+    String PROPERTY_PARALLEL_EXPLOSION = "junit.dataprovider.parallelExplosion";
+
+    /**
+     * Maximum number of threads used to invoke the dataprovider methods and convert their results. Defaults to the
+     * number of available processors if not positive.
+     *
+     * @return the maximum number of threads to be used
+     */
+    int threads() default 0;
+}
@@ -16,6 +16,7 @@
 package com.tngtech.java.junit.dataprovider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import com.tngtech.java.junit.dataprovider.internal.placeholder.CanonicalClassNamePlaceholder;
@@ -44,6 +45,11 @@ import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
  */
 public class Placeholders {
 
+    private static final List<Class<? extends BasePlaceholder>> DEFAULT_PLACEHOLDER_TYPES = Arrays
+            .<Class<? extends BasePlaceholder>> asList(CanonicalClassNamePlaceholder.class,
+                    CompleteMethodSignaturePlaceholder.class, IndexPlaceholder.class, ParameterPlaceholder.class,
+                    SimpleClassNamePlaceholder.class, SimpleMethodNamePlaceholder.class);
+
     private static final List<BasePlaceholder> placeholders = new ArrayList<BasePlaceholder>();
     static {
         reset();
@@ -79,4 +85,27 @@ public class Placeholders {
         placeholders.add(new SimpleClassNamePlaceholder());
         placeholders.add(new SimpleMethodNamePlaceholder());
     }
+
+    /**
+     * Determines if {@link #all()} contains default placeholders only, including the ones for the simple method name
+     * ({@code %m}) and the index ({@code %i}), such that both are rendered as is.
+     * <p>
+     * This method is package private (= visible) for {@link DataProviderFilter}.
+     * </p>
+     *
+     * @return {@code true} if and only if {@link #all()} contains default placeholders only
+     */
+    static boolean containsDefaultsOnly() {
+        boolean simpleMethodName = false;
+        boolean index = false;
+        for (BasePlaceholder placeholder : placeholders) {
+            Class<? extends BasePlaceholder> type = placeholder.getClass();
+            if (!DEFAULT_PLACEHOLDER_TYPES.contains(type)) {
+                return false;
+            }
+            simpleMethodName |= SimpleMethodNamePlaceholder.class.equals(type);
+            index |= IndexPlaceholder.class.equals(type);
+        }
+        return simpleMethodName && index;
+    }
 }
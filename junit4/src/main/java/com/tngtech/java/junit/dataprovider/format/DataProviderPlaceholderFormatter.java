@@ -18,36 +18,76 @@ package com.tngtech.java.junit.dataprovider.format;
 import java.lang.reflect.Method;
 import java.util.List;
 
+import com.tngtech.java.junit.dataprovider.internal.placeholder.LegacyPlaceholderAdapter;
 import com.tngtech.junit.dataprovider.format.DataProviderTestNameFormatter;
 import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
+import com.tngtech.junit.dataprovider.placeholder.PlaceholderTemplate;
 import com.tngtech.junit.dataprovider.placeholder.ReplacementData;
 
 public class DataProviderPlaceholderFormatter implements DataProviderTestNameFormatter {
 
     private final String nameFormat;
     private final List<? extends BasePlaceholder> placeholders;
+    private final int maxNameLength;
+    private final int maxArgumentLength;
+
+    /**
+     * Template compiled once for the given {@link #nameFormat} and {@link #placeholders} or {@code null} if they
+     * contain a legacy placeholder which must be processed one after another.
+     */
+    private final PlaceholderTemplate template;
 
     public DataProviderPlaceholderFormatter(String nameFormat, List<? extends BasePlaceholder> placeholders) {
+        this(nameFormat, placeholders, LengthLimits.UNLIMITED, LengthLimits.UNLIMITED);
+    }
+
+    /**
+     * Note: The {@code maxArgumentLength} is not applied by legacy placeholders inheriting from
+     * {@link com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder} which are not stateless, only
+     * the overall {@code maxNameLength}.
+     *
+     * @param nameFormat to be rendered using the given {@code placeholders}
+     * @param placeholders used to render the given {@code nameFormat}
+     * @param maxNameLength maximum length of the formatted name or {@link LengthLimits#UNLIMITED}
+     * @param maxArgumentLength maximum length of each formatted parameter or {@link LengthLimits#UNLIMITED}
+     */
+    public DataProviderPlaceholderFormatter(String nameFormat, List<? extends BasePlaceholder> placeholders,
+            int maxNameLength, int maxArgumentLength) {
         this.nameFormat = nameFormat;
         this.placeholders = placeholders;
+        this.maxNameLength = maxNameLength;
+        this.maxArgumentLength = maxArgumentLength;
+        this.template = containsLegacyPlaceholder() ? null : PlaceholderTemplate.of(nameFormat, placeholders);
     }
 
     @Override
     public String format(Method testMethod, int invocationIndex, List<Object> arguments) {
+        ReplacementData data = ReplacementData.of(testMethod, invocationIndex, arguments, maxArgumentLength);
+        if (template != null) {
+            return template.render(data, maxNameLength);
+        }
+
         String result = nameFormat;
         for (BasePlaceholder placeholder : placeholders) {
             if (placeholder instanceof com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder) {
-                com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder placeHolder = (com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder) placeholder;
-                synchronized (placeHolder) {
-                    placeHolder.setContext(testMethod, invocationIndex, arguments.toArray());
-                    result = placeHolder.process(result);
-                }
-
+                result = LegacyPlaceholderAdapter.process(
+                        (com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder) placeholder, data,
+                        result);
             } else {
-                ReplacementData data = ReplacementData.of(testMethod, invocationIndex, arguments);
                 result = placeholder.process(data, result);
             }
         }
-        return result;
+        // legacy placeholders may return null which is passed on unchanged as ever
+        return (result == null) ? null : LengthLimits.elide(result, maxNameLength);
+    }
+
+    private boolean containsLegacyPlaceholder() {
+        for (BasePlaceholder placeholder : placeholders) {
+            if (placeholder instanceof com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -20,7 +20,16 @@ import static com.tngtech.java.junit.dataprovider.common.Preconditions.checkNotN
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.internal.convert.ObjectArrayConverter;
@@ -54,10 +63,15 @@ public class DataConverter extends com.tngtech.junit.dataprovider.convert.DataCo
      * <li>Iterable&lt;?&gt;</li>
      * <li>Object[]</li>
      * <li>String[]</li>
+     * <li>Iterator&lt;?&gt;</li>
+     * <li>Stream&lt;?&gt;</li>
+     * <li>Supplier&lt;?&gt; of any of the above, e.g. Supplier&lt;Stream&lt;?&gt;&gt;</li>
      * </ul>
      *
-     * Please note, that {@link Iterable} can be replaced by any valid subtype (checked via {@link Class#isAssignableFrom(Class)}). As well
-     * as an arbitrary inner type is also accepted.
+     * Please note, that {@link Iterable}, {@link Iterator}, {@link Stream}, and {@link Supplier} can be replaced by any
+     * valid subtype (checked via {@link Class#isAssignableFrom(Class)}). As well as an arbitrary inner type is also
+     * accepted. Raw types are not, neither any {@link Supplier} whose supplied type (i.e. the type argument of
+     * {@link Supplier} itself, also if given indirectly by a subtype) is not one of the above, e.g. {@code Supplier<?>}.
      *
      * @param type to be checked for convertibility (use either {@link Method#getGenericReturnType()}, {@link Method#getReturnType()}, or
      *            simple {@link Class} if possible)
@@ -70,11 +84,74 @@ public class DataConverter extends com.tngtech.junit.dataprovider.convert.DataCo
 
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
-            return Iterable.class.isAssignableFrom((Class<?>) parameterizedType.getRawType());
+            Class<?> rawType = (Class<?>) parameterizedType.getRawType();
+            if (Supplier.class.isAssignableFrom(rawType)) {
+                Type suppliedType = getSuppliedType(parameterizedType, new HashMap<TypeVariable<?>, Type>());
+                return suppliedType != null && canConvert(upperBoundOf(suppliedType));
+            }
+            return Iterable.class.isAssignableFrom(rawType) || Iterator.class.isAssignableFrom(rawType)
+                    || Stream.class.isAssignableFrom(rawType);
         }
         return false;
     }
 
+    /**
+     * @param type subtype of {@link Supplier} (or {@link Supplier} itself)
+     * @param typeArguments already resolved type arguments of the subtypes of given {@code type}
+     * @return the type argument of {@link Supplier} as resolved along the type hierarchy of given {@code type} or
+     *         {@code null} if it is a type variable which cannot be resolved
+     */
+    private Type getSuppliedType(Type type, Map<TypeVariable<?>, Type> typeArguments) {
+        Class<?> rawType;
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            rawType = (Class<?>) parameterizedType.getRawType();
+
+            TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+            Type[] actualTypeArguments = parameterizedType.getActualTypeArguments();
+            Map<TypeVariable<?>, Type> resolvedTypeArguments = new HashMap<TypeVariable<?>, Type>();
+            for (int idx = 0; idx < typeParameters.length; idx++) {
+                Type typeArgument = actualTypeArguments[idx];
+                resolvedTypeArguments.put(typeParameters[idx],
+                        typeArguments.containsKey(typeArgument) ? typeArguments.get(typeArgument) : typeArgument);
+            }
+            typeArguments = resolvedTypeArguments;
+
+        } else if (type instanceof Class) {
+            rawType = (Class<?>) type;
+            typeArguments = new HashMap<TypeVariable<?>, Type>();
+
+        } else {
+            return null;
+        }
+
+        if (Supplier.class.equals(rawType)) {
+            Type suppliedType = typeArguments.get(Supplier.class.getTypeParameters()[0]);
+            return (suppliedType instanceof TypeVariable) ? null : suppliedType;
+        }
+
+        List<Type> superTypes = new ArrayList<Type>(Arrays.asList(rawType.getGenericInterfaces()));
+        if (rawType.getGenericSuperclass() != null) {
+            superTypes.add(rawType.getGenericSuperclass());
+        }
+        for (Type superType : superTypes) {
+            Class<?> rawSuperType = (Class<?>) ((superType instanceof ParameterizedType)
+                    ? ((ParameterizedType) superType).getRawType() : superType);
+            if (Supplier.class.isAssignableFrom(rawSuperType)) {
+                return getSuppliedType(superType, typeArguments);
+            }
+        }
+        return null;
+    }
+
+    private Type upperBoundOf(Type type) {
+        if (type instanceof WildcardType) {
+            Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+            return (upperBounds.length == 1) ? upperBounds[0] : type;
+        }
+        return type;
+    }
+
     /**
      * Converts the given {@link Object} to a {@link List} of {@link Object}{@code []} with {@link Class}es correspond
      * to given {@code parameterTypes}.
@@ -0,0 +1,503 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.java.junit.dataprovider.internal;
+
+import static com.tngtech.java.junit.dataprovider.common.Preconditions.checkArgument;
+import static com.tngtech.java.junit.dataprovider.common.Preconditions.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.runners.model.FrameworkMethod;
+
+import com.tngtech.java.junit.dataprovider.DataProvider;
+
+/**
+ * Thread-safe cache for results of dataprovider methods having {@link DataProvider#cache()} enabled.
+ * <p>
+ * Every result is loaded at most once at a time per dataprovider method, i.e. concurrent requests for the same
+ * dataprovider method wait for the result instead of invoking the dataprovider method again. No lock is held while
+ * loading, such that a dataprovider method may itself request cached results. Single-use results (see
+ * {@link DataConverter#isReusable(Object)}) are never cached.
+ * <p>
+ * The cache can be bounded by the number of cached results ({@link Builder#maximumSize(long)}) or by their summed up
+ * weight ({@link Builder#maximumWeight(long, Weigher)}) such that least recently used results are evicted. Additionally
+ * it can be scoped per test class ({@link Scope#CLASS}) such that results are released as soon as all test methods of a
+ * test class are generated.
+ * <p>
+ * The default cache used by {@link TestGenerator} is configured using the following system properties:
+ * <ul>
+ * <li>{@value #PROPERTY_MAXIMUM_SIZE}: maximum number of cached results, {@code 0} disables caching (default:
+ * unbounded),</li>
+ * <li>{@value #PROPERTY_MAXIMUM_ROWS}: maximum number of summed up rows of all cached results (default: unbounded),
+ * see {@link #ROWS},</li>
+ * <li>{@value #PROPERTY_SCOPE}: {@link Scope} of the cached results (default: {@link Scope#GLOBAL}).</li>
+ * </ul>
+ */
+public class DataProviderDataCache {
+
+    /**
+     * Defines how long cached results are retained.
+     */
+    public enum Scope {
+        /**
+         * Results are shared between all test classes and retained until they are evicted.
+         */
+        GLOBAL,
+
+        /**
+         * Results are only shared between test methods of the same test class and released afterwards.
+         */
+        CLASS
+    }
+
+    /**
+     * Determines the weight of a dataprovider result.
+     */
+    public interface Weigher {
+        /**
+         * @param data result of a dataprovider method
+         * @return the weight of the given {@code data}; must not be negative
+         */
+        long weigh(Object data);
+    }
+
+    /**
+     * Loads a dataprovider result, i.e. invokes the dataprovider method.
+     */
+    public interface Loader {
+        /**
+         * @return the loaded dataprovider result
+         * @throws Throwable if loading failed
+         */
+        Object load() throws Throwable;
+    }
+
+    /**
+     * {@link Weigher} using the number of rows of a dataprovider result as weight, i.e. the length of an array or the
+     * size of a {@link Collection}. Any other result has a weight of one.
+     */
+    public static final Weigher ROWS = new Weigher() {
+        @Override
+        public long weigh(Object data) {
+            if (data instanceof Object[]) {
+                return ((Object[]) data).length;
+            }
+            if (data instanceof Collection) {
+                return ((Collection<?>) data).size();
+            }
+            return 1;
+        }
+    };
+
+    public static final String PROPERTY_MAXIMUM_SIZE = "junit.dataprovider.cache.maximumSize";
+    public static final String PROPERTY_MAXIMUM_ROWS = "junit.dataprovider.cache.maximumRows";
+    public static final String PROPERTY_SCOPE = "junit.dataprovider.cache.scope";
+
+    private static final Weigher ONE = new Weigher() {
+        @Override
+        public long weigh(Object data) {
+            return 1;
+        }
+    };
+
+    private static volatile DataProviderDataCache defaultCache;
+
+    /**
+     * @return the default {@link DataProviderDataCache} configured using system properties on first access
+     * @throws IllegalArgumentException if and only if a system property has an invalid value
+     */
+    public static DataProviderDataCache getDefault() {
+        DataProviderDataCache result = defaultCache;
+        if (result == null) {
+            synchronized (DataProviderDataCache.class) {
+                result = defaultCache;
+                if (result == null) {
+                    result = fromSystemProperties();
+                    defaultCache = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the default {@link DataProviderDataCache} used by subsequently created {@link TestGenerator}s.
+     *
+     * @param cache to be used as default, or {@code null} to reconfigure it using system properties on next access
+     */
+    public static void setDefault(DataProviderDataCache cache) {
+        synchronized (DataProviderDataCache.class) {
+            defaultCache = cache;
+        }
+    }
+
+    /**
+     * @return a new {@link Builder} for a {@link DataProviderDataCache} with unbounded size and global scope
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * This method is package private (= visible) for testing.
+     */
+    static DataProviderDataCache fromSystemProperties() {
+        Builder builder = builder();
+
+        String maximumSize = System.getProperty(PROPERTY_MAXIMUM_SIZE);
+        if (maximumSize != null) {
+            builder.maximumSize(parseLong(PROPERTY_MAXIMUM_SIZE, maximumSize));
+        }
+        String maximumRows = System.getProperty(PROPERTY_MAXIMUM_ROWS);
+        if (maximumRows != null) {
+            builder.maximumWeight(parseLong(PROPERTY_MAXIMUM_ROWS, maximumRows), ROWS);
+        }
+        String scope = System.getProperty(PROPERTY_SCOPE);
+        if (scope != null) {
+            try {
+                builder.scope(Scope.valueOf(scope.trim().toUpperCase(Locale.ENGLISH)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("System property '%s' must be one of %s but was: %s",
+                        PROPERTY_SCOPE, Arrays.toString(Scope.values()), scope), e);
+            }
+        }
+        return builder.build();
+    }
+
+    private static long parseLong(String property, String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("System property '%s' must be a number but was: %s", property, value), e);
+        }
+    }
+
+    private final long maximumWeight;
+    private final Weigher weigher;
+    private final Scope scope;
+
+    private final ConcurrentMap<FrameworkMethod, Entry> entries = new ConcurrentHashMap<FrameworkMethod, Entry>();
+
+    /**
+     * Loaded entries in access order, guarded by itself.
+     */
+    private final LinkedHashMap<FrameworkMethod, Entry> loadedEntries = new LinkedHashMap<FrameworkMethod, Entry>(16,
+            0.75f, true);
+    private long totalWeight;
+
+    /**
+     * Shared with all caches returned by {@link #forTestClass()} such that their statistics are accumulated here.
+     */
+    private final StatsCounter statsCounter;
+
+    private DataProviderDataCache(long maximumWeight, Weigher weigher, Scope scope, StatsCounter statsCounter) {
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+        this.scope = scope;
+        this.statsCounter = statsCounter;
+    }
+
+    /**
+     * @return the {@link Scope} of this cache
+     */
+    public Scope getScope() {
+        return scope;
+    }
+
+    /**
+     * Returns the cache to be used for a single test class, i.e. this cache for {@link Scope#GLOBAL} and a new, empty
+     * cache with the same configuration for {@link Scope#CLASS}. The latter records its statistics in this cache.
+     *
+     * @return the cache to be used for a single test class; never {@code null}
+     */
+    public DataProviderDataCache forTestClass() {
+        if (scope == Scope.GLOBAL) {
+            return this;
+        }
+        return new DataProviderDataCache(maximumWeight, weigher, scope, statsCounter);
+    }
+
+    /**
+     * Returns the cached result for the given {@code dataProviderMethod} or loads it using the given {@code loader}
+     * otherwise. While loading, concurrent requests for the same {@code dataProviderMethod} wait for the result. If
+     * loading fails, returns a single-use result, or the maximum size or weight is {@code 0} (= caching disabled),
+     * waiting requests load the result on their own. A request for the same {@code dataProviderMethod} from within its
+     * own {@code loader} loads the result again without caching it instead of waiting for itself.
+     *
+     * @param dataProviderMethod for which the result is requested
+     * @param loader to load the result if not cached
+     * @return the cached or loaded result
+     * @throws Throwable if and only if the given {@code loader} has thrown or the current thread was interrupted
+     *             while waiting for the result
+     */
+    public Object get(FrameworkMethod dataProviderMethod, Loader loader) throws Throwable {
+        checkNotNull(dataProviderMethod, "'dataProviderMethod' must not be null");
+        checkNotNull(loader, "'loader' must not be null");
+
+        while (true) {
+            Entry entry = entries.get(dataProviderMethod);
+            if (entry == null) {
+                Entry newEntry = new Entry(dataProviderMethod);
+                entry = entries.putIfAbsent(dataProviderMethod, newEntry);
+                if (entry == null) {
+                    return load(newEntry, loader);
+                }
+            }
+
+            if (entry.isLoadingBy(Thread.currentThread())) {
+                // re-entrant request from within the loader, waiting would block forever
+                statsCounter.missCount.incrementAndGet();
+                return loader.load();
+            }
+            entry.done.await();
+            if (entry.loaded && !entry.removed) {
+                statsCounter.hitCount.incrementAndGet();
+                synchronized (loadedEntries) {
+                    loadedEntries.get(dataProviderMethod);
+                }
+                return entry.data;
+            }
+        }
+    }
+
+    /**
+     * @param dataProviderMethod for which the result is requested
+     * @return the cached result for the given {@code dataProviderMethod} or {@code null} if none is cached
+     */
+    public Object getIfPresent(FrameworkMethod dataProviderMethod) {
+        synchronized (loadedEntries) {
+            Entry entry = loadedEntries.get(dataProviderMethod);
+            return (entry == null) ? null : entry.data;
+        }
+    }
+
+    /**
+     * @return the number of cached results
+     */
+    public int size() {
+        synchronized (loadedEntries) {
+            return loadedEntries.size();
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void invalidateAll() {
+        synchronized (loadedEntries) {
+            for (Entry entry : loadedEntries.values()) {
+                entry.removed = true;
+                entries.remove(entry.dataProviderMethod, entry);
+            }
+            loadedEntries.clear();
+            totalWeight = 0;
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of this cache including all caches returned by {@link #forTestClass()}
+     */
+    public Stats stats() {
+        return new Stats(statsCounter.hitCount.get(), statsCounter.missCount.get(), statsCounter.evictionCount.get());
+    }
+
+    private Object load(Entry entry, Loader loader) throws Throwable {
+        statsCounter.missCount.incrementAndGet();
+        try {
+            Object data;
+            try {
+                data = loader.load();
+            } catch (Throwable t) {
+                remove(entry);
+                throw t;
+            }
+            if (maximumWeight == 0 || !DataConverter.isReusable(data)) {
+                remove(entry);
+                return data;
+            }
+            entry.data = data;
+            entry.weight = weigher.weigh(data);
+            entry.loaded = true;
+            addLoaded(entry);
+            return data;
+        } finally {
+            entry.done.countDown();
+        }
+    }
+
+    private void addLoaded(Entry entry) {
+        synchronized (loadedEntries) {
+            loadedEntries.put(entry.dataProviderMethod, entry);
+            totalWeight += entry.weight;
+
+            Iterator<Map.Entry<FrameworkMethod, Entry>> iterator = loadedEntries.entrySet().iterator();
+            while (totalWeight > maximumWeight && iterator.hasNext()) {
+                Entry eldest = iterator.next().getValue();
+                if (eldest == entry) {
+                    // keep most recently loaded result even if it exceeds the maximum weight on its own
+                    continue;
+                }
+                iterator.remove();
+                eldest.removed = true;
+                entries.remove(eldest.dataProviderMethod, eldest);
+                totalWeight -= eldest.weight;
+                statsCounter.evictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        entry.removed = true;
+        entries.remove(entry.dataProviderMethod, entry);
+    }
+
+    private static final class Entry {
+        private final FrameworkMethod dataProviderMethod;
+        private final Thread loadingThread = Thread.currentThread();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private volatile boolean removed;
+        private volatile boolean loaded;
+        private Object data;
+        private long weight;
+
+        Entry(FrameworkMethod dataProviderMethod) {
+            this.dataProviderMethod = dataProviderMethod;
+        }
+
+        boolean isLoadingBy(Thread thread) {
+            return loadingThread == thread && done.getCount() > 0;
+        }
+    }
+
+    private static final class StatsCounter {
+        private final AtomicLong hitCount = new AtomicLong();
+        private final AtomicLong missCount = new AtomicLong();
+        private final AtomicLong evictionCount = new AtomicLong();
+    }
+
+    /**
+     * Builder for {@link DataProviderDataCache}.
+     */
+    public static class Builder {
+        private long maximumWeight = Long.MAX_VALUE;
+        private Weigher weigher = ONE;
+        private Scope scope = Scope.GLOBAL;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize maximum number of cached results; must not be negative, {@code 0} disables caching
+         * @return {@code this}
+         * @throws IllegalArgumentException if and only if given {@code maximumSize} is negative
+         */
+        public Builder maximumSize(long maximumSize) {
+            return maximumWeight(maximumSize, ONE);
+        }
+
+        /**
+         * @param maximumWeight maximum summed up weight of all cached results; must not be negative, {@code 0}
+         *            disables caching
+         * @param weigher to determine the weight of a single result
+         * @return {@code this}
+         * @throws IllegalArgumentException if and only if given {@code maximumWeight} is negative
+         * @throws NullPointerException if and only if given {@code weigher} is {@code null}
+         */
+        public Builder maximumWeight(long maximumWeight, Weigher weigher) {
+            checkArgument(maximumWeight >= 0, "'maximumWeight' must not be negative but was: " + maximumWeight);
+            this.maximumWeight = maximumWeight;
+            this.weigher = checkNotNull(weigher, "'weigher' must not be null");
+            return this;
+        }
+
+        /**
+         * @param scope of the cached results
+         * @return {@code this}
+         * @throws NullPointerException if and only if given {@code scope} is {@code null}
+         */
+        public Builder scope(Scope scope) {
+            this.scope = checkNotNull(scope, "'scope' must not be null");
+            return this;
+        }
+
+        /**
+         * @return a new, empty {@link DataProviderDataCache}
+         */
+        public DataProviderDataCache build() {
+            return new DataProviderDataCache(maximumWeight, weigher, scope, new StatsCounter());
+        }
+    }
+
+    /**
+     * Statistics of a {@link DataProviderDataCache}.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return the number of requests returning a cached result
+         */
+        public long hitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of requests loading the result, i.e. invoking the dataprovider method
+         */
+        public long missCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the number of results evicted due to size or weight
+         */
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return the ratio of requests returning a cached result, or {@code 1.0} if there were no requests yet
+         */
+        public double hitRate() {
+            long requestCount = hitCount + missCount;
+            return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats [hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount + "]";
+        }
+    }
+}
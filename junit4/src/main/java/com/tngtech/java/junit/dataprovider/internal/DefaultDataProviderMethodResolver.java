@@ -27,6 +27,7 @@ import org.junit.runners.model.TestClass;
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderMethodResolver;
 import com.tngtech.java.junit.dataprovider.UseDataProvider;
+import com.tngtech.junit.dataprovider.resolver.Shareable;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -65,11 +66,23 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * {@code dataProviderShouldReturnTwoForOnePlusOne}.</li>
  * </ul>
  */
+@Shareable
 @SuppressFBWarnings(value = "NM_SAME_SIMPLE_NAME_AS_SUPERCLASS", justification = "for backwards compatibility and easier migration to core")
 public class DefaultDataProviderMethodResolver
         extends com.tngtech.junit.dataprovider.resolver.DefaultDataProviderMethodResolver
         implements DataProviderMethodResolver {
 
+    /**
+     * {@link TestClass}es of all dataprovider locations which are expensive to create as all annotated methods and
+     * fields are searched and sorted.
+     */
+    private static final ClassValue<TestClass> LOCATIONS = new ClassValue<TestClass>() {
+        @Override
+        protected TestClass computeValue(Class<?> location) {
+            return new TestClass(location);
+        }
+    };
+
     /**
      * {@inheritDoc}
      * <p>
@@ -89,12 +102,12 @@ public class DefaultDataProviderMethodResolver
 
     protected List<TestClass> findDataProviderLocations(FrameworkMethod testMethod, Class<?>[] useDataProviderLocation) {
         if (useDataProviderLocation.length == 0) {
-            return singletonList(new TestClass(testMethod.getMethod().getDeclaringClass()));
+            return singletonList(LOCATIONS.get(testMethod.getMethod().getDeclaringClass()));
         }
 
         List<TestClass> result = new ArrayList<TestClass>();
         for (Class<?> location : useDataProviderLocation) {
-            result.add(new TestClass(location));
+            result.add(LOCATIONS.get(location));
         }
         return result;
     }
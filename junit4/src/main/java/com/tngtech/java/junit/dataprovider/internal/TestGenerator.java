@@ -22,29 +22,54 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import org.junit.runners.model.FrameworkMethod;
 
 import com.tngtech.java.junit.dataprovider.DataProvider;
 import com.tngtech.java.junit.dataprovider.DataProviderFrameworkMethod;
+import com.tngtech.junit.dataprovider.placeholder.LengthLimits;
 
 public class TestGenerator {
 
     private final DataConverter dataConverter;
 
     /**
-     * Cached result of {@link #explodeTestMethod(FrameworkMethod, FrameworkMethod)}.
+     * Cached results of dataprovider methods used by {@link #explodeTestMethod(FrameworkMethod, FrameworkMethod)}.
      * <p>
      * This field is package private (= visible) for testing.
      * </p>
      */
-    static final Map<FrameworkMethod, Object> dataProviderDataCache = new HashMap<FrameworkMethod, Object>();
+    final DataProviderDataCache dataProviderDataCache;
 
+    /**
+     * Creates a new {@link TestGenerator} using the default {@link DataProviderDataCache} (see
+     * {@link DataProviderDataCache#getDefault()}).
+     *
+     * @param dataConverter to be used to convert dataprovider results
+     */
     public TestGenerator(DataConverter dataConverter) {
+        this(dataConverter, DataProviderDataCache.getDefault().forTestClass());
+    }
+
+    /**
+     * @param dataConverter to be used to convert dataprovider results
+     * @param dataProviderDataCache to be used to cache dataprovider results
+     */
+    public TestGenerator(DataConverter dataConverter, DataProviderDataCache dataProviderDataCache) {
         this.dataConverter = checkNotNull(dataConverter, "dataConverter must not be null");
+        this.dataProviderDataCache = checkNotNull(dataProviderDataCache, "dataProviderDataCache must not be null");
+    }
+
+    /**
+     * Releases all dataprovider results cached for the current test class only, i.e. if the used
+     * {@link DataProviderDataCache} has {@link DataProviderDataCache.Scope#CLASS}. Should be called as soon as all test
+     * methods of the test class are generated.
+     */
+    public void finishTestClass() {
+        if (dataProviderDataCache.getScope() == DataProviderDataCache.Scope.CLASS) {
+            dataProviderDataCache.invalidateAll();
+        }
     }
 
     /**
@@ -101,32 +126,37 @@ public class TestGenerator {
      * @param dataProviderMethod the dataprovider method that gives the parameters
      * @return a list of methods, each method bound to a parameter combination returned by the dataprovider
      */
-    List<FrameworkMethod> explodeTestMethod(FrameworkMethod testMethod, FrameworkMethod dataProviderMethod) {
+    List<FrameworkMethod> explodeTestMethod(final FrameworkMethod testMethod, final FrameworkMethod dataProviderMethod) {
         DataProvider dataProvider = dataProviderMethod.getAnnotation(DataProvider.class);
 
         Object data;
-        if (dataProviderDataCache.containsKey(dataProviderMethod)) {
-            data = dataProviderDataCache.get(dataProviderMethod);
-        } else {
-            try {
-                Class<?>[] parameterTypes = dataProviderMethod.getMethod().getParameterTypes();
-                if (parameterTypes.length > 0) {
-                    data = dataProviderMethod.invokeExplosively(null, testMethod);
-                } else {
-                    data = dataProviderMethod.invokeExplosively(null);
-                }
-                if (dataProvider.cache()) {
-                    dataProviderDataCache.put(dataProviderMethod, data);
-                }
-
-            } catch (Throwable t) {
-                throw new IllegalArgumentException(String.format("Exception while invoking dataprovider method '%s': %s",
-                        dataProviderMethod.getName(), t.getMessage()), t);
+        try {
+            if (dataProvider.cache()) {
+                data = dataProviderDataCache.get(dataProviderMethod, new DataProviderDataCache.Loader() {
+                    @Override
+                    public Object load() throws Throwable {
+                        return invokeDataProviderMethod(testMethod, dataProviderMethod);
+                    }
+                });
+            } else {
+                data = invokeDataProviderMethod(testMethod, dataProviderMethod);
             }
+        } catch (Throwable t) {
+            throw new IllegalArgumentException(String.format("Exception while invoking dataprovider method '%s': %s",
+                    dataProviderMethod.getName(), t.getMessage()), t);
         }
         return explodeTestMethod(testMethod, data, dataProvider);
     }
 
+    private Object invokeDataProviderMethod(FrameworkMethod testMethod, FrameworkMethod dataProviderMethod)
+            throws Throwable {
+        Class<?>[] parameterTypes = dataProviderMethod.getMethod().getParameterTypes();
+        if (parameterTypes.length > 0) {
+            return dataProviderMethod.invokeExplosively(null, testMethod);
+        }
+        return dataProviderMethod.invokeExplosively(null);
+    }
+
     /**
      * Creates a list of test methods out of an existing test method and its {@link DataProvider#value()} arguments.
      * <p>
@@ -149,11 +179,14 @@ public class TestGenerator {
             throw new IllegalArgumentException("Could not create test methods using probably 'null' or 'empty' dataprovider");
         }
 
+        int maxNameLength = LengthLimits.maxNameLength(dataProvider.maxNameLength());
+        int maxArgumentLength = LengthLimits.maxArgumentLength(dataProvider.maxArgumentLength());
+
         int idx = 0;
         List<FrameworkMethod> result = new ArrayList<FrameworkMethod>();
         for (Object[] parameters : converted) {
             result.add(new DataProviderFrameworkMethod(method, idx++, parameters, dataProvider.format(),
-                    dataProvider.formatter()));
+                    dataProvider.formatter(), maxNameLength, maxArgumentLength));
         }
         return result;
     }
@@ -109,7 +109,7 @@ public class TestValidator {
         }
         if (!dataConverter.canConvert(method.getGenericReturnType())) {
             errors.add(new Exception(messageBasePart
-                    + " either return Object[][], Object[], String[], Iterable<Iterable<?>>, or Iterable<?>, whereby any subtype of Iterable as well as an arbitrary inner type are also accepted"));
+                    + " either return Object[][], Object[], String[], Iterable<Iterable<?>>, Iterable<?>, Iterator<?>, Stream<?>, or a Supplier of one of them, whereby any subtype of Iterable, Iterator, and Stream as well as an arbitrary inner type are also accepted"));
         }
         if (dataProvider.value().length > 0) {
             errors.add(new Exception(messageBasePart + " not define @DataProvider.value()"));
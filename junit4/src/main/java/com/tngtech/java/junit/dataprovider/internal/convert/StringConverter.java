@@ -83,27 +83,6 @@ public class StringConverter extends com.tngtech.junit.dataprovider.convert.Stri
         return OBJECT_NO_CONVERSION;
     }
 
-    @Override
-    protected Object convertPrimaryOrWrapper(String str, Class<?> targetType) {
-        return super.convertPrimaryOrWrapper(str, targetType);
-    }
-
-    @Override
-    protected Object convertToLong(String str) {
-        return super.convertToLong(str);
-    }
-
-    @Override
-    @SuppressWarnings("rawtypes")
-    protected Object convertToEnumValue(String str, Class<Enum> enumType, boolean ignoreEnumCase) {
-        return super.convertToEnumValue(str, enumType, ignoreEnumCase);
-    }
-
-    @Override
-    protected Object tryConvertUsingSingleStringParamConstructor(String str, Class<?> targetType) {
-        return super.tryConvertUsingSingleStringParamConstructor(str, targetType);
-    }
-
     private DataProvider createProxyDataProvider(final ConverterContext context) {
         return new DataProvider() {
             @Override
@@ -150,6 +129,18 @@ public class StringConverter extends com.tngtech.junit.dataprovider.convert.Stri
                         "Sorry, this operation is not available anymore. Please create an issue if you still need it.");
             }
 
+            @Override
+            public int maxNameLength() {
+                throw new UnsupportedOperationException(
+                        "Sorry, this operation is not available anymore. Please create an issue if you still need it.");
+            }
+
+            @Override
+            public int maxArgumentLength() {
+                throw new UnsupportedOperationException(
+                        "Sorry, this operation is not available anymore. Please create an issue if you still need it.");
+            }
+
             @Override
             public boolean convertNulls() {
                 return context.isConvertNulls();
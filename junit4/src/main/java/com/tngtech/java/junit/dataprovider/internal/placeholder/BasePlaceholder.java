@@ -86,6 +86,24 @@ public abstract class BasePlaceholder extends com.tngtech.junit.dataprovider.pla
         return super.process(data, formatPattern);
     }
 
+    /**
+     * Determines whether this placeholder generates its replacements solely from the {@link ReplacementData} given to
+     * {@link #getReplacementFor(String, ReplacementData)}, i.e. it neither reads the context fields nor overrides
+     * {@link #setContext(Method, int, Object[])} or {@link #process(String)}. Such a placeholder is processed using
+     * {@link #process(ReplacementData, String)} without setting any context and without synchronization such that test
+     * names can be formatted concurrently.
+     * <p>
+     * Defaults to {@code false} such that custom placeholders are processed as before, i.e. by calling
+     * {@link #setContext(Method, int, Object[])} and {@link #process(String)} while holding the lock of this
+     * placeholder.
+     *
+     * @return {@code true} if and only if this placeholder does not depend on the context set by
+     *         {@link #setContext(Method, int, Object[])}
+     */
+    protected boolean isStateless() {
+        return false;
+    }
+
     /**
      * Generate and returns the replacement for the found and given placeholder.
      * <p>
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2019 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.java.junit.dataprovider.internal.placeholder;
+
+import com.tngtech.java.junit.dataprovider.Placeholders;
+import com.tngtech.junit.dataprovider.placeholder.ReplacementData;
+
+/**
+ * Adapts legacy {@link BasePlaceholder}s to the context passing
+ * {@link com.tngtech.junit.dataprovider.placeholder.BasePlaceholder#process(ReplacementData, String)}.
+ */
+public class LegacyPlaceholderAdapter {
+
+    /**
+     * Processes the given legacy {@code placeholder} for the given {@code formatPattern}. Stateless placeholders (see
+     * {@link BasePlaceholder#isStateless()}) are processed directly, all others get their context set and are processed
+     * while holding their lock as they are shared via {@link Placeholders#all()}.
+     *
+     * @param placeholder to be processed
+     * @param data used to process the given {@code formatPattern}
+     * @param formatPattern to be processed
+     * @return the given {@code formatPattern} containing the generated replacements instead of matching patterns
+     */
+    public static String process(BasePlaceholder placeholder, ReplacementData data, String formatPattern) {
+        if (placeholder.isStateless()) {
+            return placeholder.process(data, formatPattern);
+        }
+        synchronized (placeholder) {
+            placeholder.setContext(data.getTestMethod(), data.getTestIndex(), data.getArguments().toArray());
+            return placeholder.process(formatPattern);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.regex.Matcher;
 
+import org.junit.After;
 import org.junit.Test;
 import org.junit.runner.Description;
 import org.junit.runner.RunWith;
@@ -18,6 +19,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import com.tngtech.junit.dataprovider.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.ReplacementData;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -29,6 +33,11 @@ public class DataProviderFilterTest extends BaseTest {
     @Mock
     private Filter filter;
 
+    @After
+    public void tearDown() {
+        Placeholders.reset();
+    }
+
     @SuppressFBWarnings("DLS_DEAD_LOCAL_STORE")
     @Test(expected = NullPointerException.class)
     public void testDataProviderFilterShouldThrowNullPointerExceptionWhenFilterIsNull() {
@@ -347,6 +356,71 @@ public class DataProviderFilterTest extends BaseTest {
         assertThat(result).isFalse();
     }
 
+    @Test
+    public void testShouldRunShouldParseOriginalFilterDescriptionOnlyOnce() {
+        // Given:
+        when(filter.describe()).thenReturn("Method testMain[1: ](com.tngtech.Clazz)");
+
+        Description description1 = setupDescription(true, "testMain[1: ](com.tngtech.Clazz)");
+        Description description2 = setupDescription(true, "testMain[2: ](com.tngtech.Clazz)");
+
+        // When:
+        boolean result1 = underTest.shouldRun(description1);
+        boolean result2 = underTest.shouldRun(description2);
+
+        // Then:
+        assertThat(result1).isTrue();
+        assertThat(result2).isFalse();
+
+        verify(filter).describe();
+        verifyNoMoreInteractions(filter);
+    }
+
+    @Test
+    public void testShouldRunShouldMatchRegisteredTestMethodOnMethodNameIndexAndClass() {
+        // Given:
+        when(filter.describe()).thenReturn("Method " + anyMethod().getName() + "[1: 1](com.tngtech.Clazz)");
+
+        Description description1 = setupDescription(true, "unparsable", "com.tngtech.Clazz");
+        Description description2 = setupDescription(true, "unparsable", "com.tngtech.Clazz");
+        Description description3 = setupDescription(true, "unparsable", "com.tngtech.ClazzOther");
+
+        underTest.register(description1, new DataProviderFrameworkMethod(anyMethod(), 1, new Object[] { 1 },
+                "%m[%i: %p[0..-1]]"));
+        underTest.register(description2, new DataProviderFrameworkMethod(anyMethod(), 2, new Object[] { 1 },
+                "%m[%i: %p[0..-1]]"));
+        underTest.register(description3, new DataProviderFrameworkMethod(anyMethod(), 1, new Object[] { 1 },
+                "%m[%i: %p[0..-1]]"));
+
+        // When:
+        boolean result1 = underTest.shouldRun(description1);
+        boolean result2 = underTest.shouldRun(description2);
+        boolean result3 = underTest.shouldRun(description3);
+
+        // Then:
+        assertThat(result1).isTrue();
+        assertThat(result2).isFalse();
+        assertThat(result3).isFalse();
+
+        verify(filter).describe();
+        verifyNoMoreInteractions(filter);
+    }
+
+    @Test
+    public void testShouldRunShouldMatchRegisteredTestMethodOnDisplayNameIfNameFormatDoesNotStartWithMethodName() {
+        // Given:
+        when(filter.describe()).thenReturn("Method " + anyMethod().getName() + "[1: 1](com.tngtech.Clazz)");
+
+        Description description = setupDescription(true, anyMethod().getName() + "[2: 1](com.tngtech.Clazz)");
+        underTest.register(description, new DataProviderFrameworkMethod(anyMethod(), 1, new Object[] { 1 }, "%p[0]"));
+
+        // When:
+        boolean result = underTest.shouldRun(description);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
     @Test
     public void testDescribeShouldReturnFilterDescripe() {
         // Given:
@@ -359,6 +433,112 @@ public class DataProviderFilterTest extends BaseTest {
         assertThat(result).isEqualTo("Method testMain[1: ](com.tngtech.Clazz)");
     }
 
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnTrueIfFilterSelectsOtherMethod() {
+        // Given:
+        when(filter.describe()).thenReturn("Method otherMethod[0: 0](com.tngtech.Clazz)");
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%p[0..-1]]");
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnTrueIfFilterSelectsSameMethod() {
+        // Given:
+        when(filter.describe()).thenReturn("Method " + anyMethod().getName() + "(com.tngtech.Clazz)");
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%p[0..-1]]");
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnTrueIfFilterSelectsIndexOfSameMethodAndNameFormatContainsIt() {
+        // Given:
+        when(filter.describe()).thenReturn("Method " + anyMethod().getName() + "[1: 1](com.tngtech.Clazz)");
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%i: %p[0..-1]]");
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnFalseIfFilterSelectsIndexOfSameMethodButNameFormatDoesNotContainIt() {
+        // Given:
+        when(filter.describe()).thenReturn("Method " + anyMethod().getName() + "[1: 1](com.tngtech.Clazz)");
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%p[0..-1]]");
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnFalseIfFilterDescriptionContainsOr() {
+        // Given:
+        when(filter.describe()).thenReturn("Matching description Method failing1[0: 0](Test1) OR Method failing2[0: 0](Test2)");
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%i: %p[0..-1]]");
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnFalseIfNameFormatDoesNotStartWithMethodName() {
+        // Given:
+        when(filter.describe()).thenReturn("Method otherMethod[0: 0](com.tngtech.Clazz)");
+
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%p[0]");
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testIsMatchableByMethodNameShouldReturnFalseIfCustomPlaceholderIsUsed() {
+        // Given:
+        when(filter.describe()).thenReturn("Method otherMethod[0: 0](com.tngtech.Clazz)");
+        DataProviderFrameworkMethod testMethod = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%i: %p[0..-1]]");
+
+        Placeholders.all().add(0, new BasePlaceholder("%m") {
+            @Override
+            protected String getReplacementFor(String placeholder, ReplacementData data) {
+                return "custom";
+            }
+        });
+
+        // When:
+        boolean result = underTest.isMatchableByMethodName(testMethod);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
     @Test
     public void testDescriptionPatternShouldNotMatchEmptyString() {
         // Given:
@@ -545,6 +725,12 @@ public class DataProviderFilterTest extends BaseTest {
         return description;
     }
 
+    private Description setupDescription(boolean isTest, String descriptionDisplayName, String className) {
+        Description description = setupDescription(isTest, descriptionDisplayName);
+        when(description.getClassName()).thenReturn(className);
+        return description;
+    }
+
     private void assertThatMatcherGroupsAre(Matcher matcher, String... expectedGroups) {
         assertThat(matcher.groupCount()).as("group-count").isEqualTo(expectedGroups.length);
         for (int idx = 0; idx < expectedGroups.length; idx++) {
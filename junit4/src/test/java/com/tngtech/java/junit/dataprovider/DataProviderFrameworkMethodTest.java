@@ -9,6 +9,7 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 import org.junit.After;
 import org.junit.Before;
@@ -19,6 +20,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import com.tngtech.java.junit.dataprovider.internal.placeholder.BasePlaceholder;
+import com.tngtech.junit.dataprovider.placeholder.ReplacementData;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -26,7 +28,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 public class DataProviderFrameworkMethodTest extends BaseTest {
 
     @Mock
-    private BasePlaceholder placeholder;
+    private TestPlaceholder placeholder;
 
     private Method method;
 
@@ -108,6 +110,7 @@ public class DataProviderFrameworkMethodTest extends BaseTest {
         underTest.getName();
 
         // Then:
+        verify(placeholder).isStateless();
         verify(placeholder).setContext(method, 20, parameters);
         verify(placeholder).process("%m");
         verifyNoMoreInteractions(placeholder);
@@ -118,8 +121,8 @@ public class DataProviderFrameworkMethodTest extends BaseTest {
         // Given:
         final Object[] parameters = new Object[] { 719, "719" };
 
-        BasePlaceholder placeholder2 = mock(BasePlaceholder.class);
-        BasePlaceholder placeholder3 = mock(BasePlaceholder.class);
+        TestPlaceholder placeholder2 = mock(TestPlaceholder.class);
+        TestPlaceholder placeholder3 = mock(TestPlaceholder.class);
 
         Placeholders.all().clear();
         Placeholders.all().add(placeholder);
@@ -139,15 +142,42 @@ public class DataProviderFrameworkMethodTest extends BaseTest {
         assertThat(result).isEqualTo("%cm4");
 
         InOrder inOrder = inOrder(placeholder, placeholder2, placeholder3);
+        inOrder.verify(placeholder).isStateless();
         inOrder.verify(placeholder).setContext(method, 21, parameters);
         inOrder.verify(placeholder).process("%cm1");
+        inOrder.verify(placeholder2).isStateless();
         inOrder.verify(placeholder2).setContext(method, 21, parameters);
         inOrder.verify(placeholder2).process("%cm2");
+        inOrder.verify(placeholder3).isStateless();
         inOrder.verify(placeholder3).setContext(method, 21, parameters);
         inOrder.verify(placeholder3).process("%cm3");
         verifyNoMoreInteractions(placeholder, placeholder2, placeholder3);
     }
 
+    @Test
+    public void testGetNameShouldProcessStatelessPlaceholderWithoutSettingContext() {
+        // Given:
+        final Object[] parameters = new Object[] { 722, "722" };
+
+        Placeholders.all().clear();
+        Placeholders.all().add(placeholder);
+
+        when(placeholder.isStateless()).thenReturn(true);
+        when(placeholder.process(any(ReplacementData.class), any(String.class))).thenReturn("name");
+
+        DataProviderFrameworkMethod underTest = new DataProviderFrameworkMethod(method, 22, parameters, "%m");
+
+        // When:
+        String result = underTest.getName();
+
+        // Then:
+        assertThat(result).isEqualTo("name");
+
+        verify(placeholder).isStateless();
+        verify(placeholder).process(ReplacementData.of(method, 22, Arrays.asList(parameters)), "%m");
+        verifyNoMoreInteractions(placeholder);
+    }
+
     @Test
     public void testGetNameShouldRetrunResultOfProcess() {
         // Given:
@@ -164,6 +194,65 @@ public class DataProviderFrameworkMethodTest extends BaseTest {
         assertThat(result).isEqualTo("testGetNameShouldRetrunResultOfProcess[22: 720, 720]");
     }
 
+    @Test
+    public void testGetNameShouldElideArgumentsAndNameLongerThanMaxLengths() {
+        // Given:
+        final Object[] parameters = new Object[] { "abcdefghij", 724 };
+        final String nameFormat = "%m[%i: %p[0..-1]]";
+
+        DataProviderFrameworkMethod underTest1 = new DataProviderFrameworkMethod(method, 24, parameters, nameFormat,
+                null, 100, 5);
+        DataProviderFrameworkMethod underTest2 = new DataProviderFrameworkMethod(method, 24, parameters, nameFormat,
+                null, 25, 5);
+
+        // When:
+        String result1 = underTest1.getName();
+        String result2 = underTest2.getName();
+
+        // Then:
+        assertThat(result1).isEqualTo("anyMethod[24: abcde..., 724]");
+        assertThat(result2).isEqualTo("anyMethod[24: abcde..., 7...");
+    }
+
+    @SuppressFBWarnings("DLS_DEAD_LOCAL_STORE")
+    @Test(expected = IllegalArgumentException.class)
+    public void testDataProviderFrameworkMethodShouldThrowIllegalArgumentExceptionIfMaxNameLengthIsNotPositive() {
+        // Given:
+
+        // When:
+        @SuppressWarnings("unused")
+        DataProviderFrameworkMethod underTest = new DataProviderFrameworkMethod(method, 0, new Object[] { 1 }, "%m",
+                null, 0, 5);
+
+        // Then: expect exception
+    }
+
+    @Test
+    public void testGetNameShouldRenderNameOnlyOnce() {
+        // Given:
+        final Object[] parameters = new Object[] { 721, "721" };
+
+        Placeholders.all().clear();
+        Placeholders.all().add(placeholder);
+
+        when(placeholder.process(any(String.class))).thenReturn("name");
+
+        DataProviderFrameworkMethod underTest = new DataProviderFrameworkMethod(method, 23, parameters, "%m");
+
+        // When:
+        String result1 = underTest.getName();
+        String result2 = underTest.getName();
+
+        // Then:
+        assertThat(result1).isEqualTo("name");
+        assertThat(result2).isSameAs(result1);
+
+        verify(placeholder).isStateless();
+        verify(placeholder).setContext(method, 23, parameters);
+        verify(placeholder).process("%m");
+        verifyNoMoreInteractions(placeholder);
+    }
+
     @Test
     public void testInvokeExplosively() throws Throwable {
         // Given:
@@ -280,4 +369,18 @@ public class DataProviderFrameworkMethodTest extends BaseTest {
     public Object returnObjectArrayArrayMethod(Object param) {
         return param;
     }
+
+    /**
+     * Legacy placeholder making {@link BasePlaceholder#isStateless()} visible for stubbing and verification.
+     */
+    abstract static class TestPlaceholder extends BasePlaceholder {
+        TestPlaceholder() {
+            super("%x");
+        }
+
+        @Override
+        public boolean isStateless() {
+            return super.isStateless();
+        }
+    }
 }
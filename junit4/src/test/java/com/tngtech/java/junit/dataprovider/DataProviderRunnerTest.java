@@ -10,6 +10,8 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.verifyZeroInteractions;
@@ -20,10 +22,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.junit.runner.Description;
 import org.junit.runner.manipulation.Filter;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.TestClass;
@@ -422,6 +427,46 @@ public class DataProviderRunnerTest extends BaseTest {
         assertThat(underTest.getDescription().getChildren()).isNotEmpty();
     }
 
+    @Test
+    public void testFilterShouldMatchDataProviderFrameworkMethodsOnMethodNameAndIndex() throws Exception {
+        // Given:
+        DataProviderFrameworkMethod testMethod0 = new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%i: %p[0..-1]]");
+        DataProviderFrameworkMethod testMethod1 = new DataProviderFrameworkMethod(anyMethod(), 1, new Object[] { 1 },
+                "%m[%i: %p[0..-1]]");
+        underTest.computedTestMethods = asList((FrameworkMethod) testMethod0, testMethod1);
+
+        Filter filter = Filter.matchMethodDescription(
+                Description.createTestDescription(DataProviderRunnerTest.class, anyMethod().getName() + "[1: 1]"));
+
+        // When:
+        underTest.filter(filter);
+
+        // Then:
+        assertThat(underTest.getDescription().getChildren()).extracting("displayName")
+                .containsExactly(anyMethod().getName() + "[1: 1](" + DataProviderRunnerTest.class.getName() + ")");
+    }
+
+    @Test
+    public void testFilterShouldNotRenderNamesOfDataProviderFrameworkMethodsBeingFilteredOut() throws Exception {
+        // Given:
+        DataProviderFrameworkMethod excluded = spy(new DataProviderFrameworkMethod(anyMethod(), 0, new Object[] { 0 },
+                "%m[%i: %p[0..-1]]"));
+        DataProviderFrameworkMethod included = spy(new DataProviderFrameworkMethod(anyMethod(), 1, new Object[] { 1 },
+                "%m[%i: %p[0..-1]]"));
+        underTest.computedTestMethods = asList((FrameworkMethod) excluded, included);
+
+        Filter filter = Filter.matchMethodDescription(
+                Description.createTestDescription(DataProviderRunnerTest.class, anyMethod().getName() + "[1: 1]"));
+
+        // When:
+        underTest.filter(filter);
+
+        // Then:
+        assertThat(underTest.computedTestMethods).containsExactly(excluded, included);
+        verify(excluded, never()).getName();
+    }
+
     @Test
     public void testGenerateExplodedTestMethodsForShouldReturnEmptyListIfArgumentIsNull() {
         // Given:
@@ -519,6 +564,128 @@ public class DataProviderRunnerTest extends BaseTest {
         verifyNoMoreInteractions(testGenerator);
     }
 
+    @Test
+    public void testGenerateExplodedTestMethodsForShouldGenerateInParallelIfEnabled() {
+        // Given:
+        doReturn(4).when(underTest).getExplosionThreads();
+        doReturn(singletonList(dataProviderMethod)).when(underTest).getDataProviderMethods(testMethod);
+
+        List<FrameworkMethod> explodedMethods = singletonList(mock(FrameworkMethod.class));
+        when(testGenerator.generateExplodedTestMethodsFor(testMethod, dataProviderMethod)).thenReturn(explodedMethods);
+
+        // When:
+        List<FrameworkMethod> result = underTest.generateExplodedTestMethodsFor(singletonList(testMethod));
+
+        // Then:
+        assertThat(result).isEqualTo(explodedMethods);
+        verify(underTest).generateExplodedTestMethodsInParallelFor(singletonList(testMethod), 4);
+    }
+
+    @Test
+    public void testGenerateExplodedTestMethodsInParallelForShouldKeepOrderOfTestMethods() {
+        // Given:
+        FrameworkMethod testMethod2 = mock(FrameworkMethod.class);
+        FrameworkMethod dataProviderMethod21 = mock(FrameworkMethod.class);
+        FrameworkMethod dataProviderMethod22 = mock(FrameworkMethod.class);
+
+        doReturn(singletonList(dataProviderMethod)).when(underTest).getDataProviderMethods(testMethod);
+        doReturn(asList(dataProviderMethod21, dataProviderMethod22)).when(underTest).getDataProviderMethods(testMethod2);
+
+        final FrameworkMethod exploded1 = mock(FrameworkMethod.class);
+        final FrameworkMethod exploded21 = mock(FrameworkMethod.class);
+        final FrameworkMethod exploded22 = mock(FrameworkMethod.class);
+        when(testGenerator.generateExplodedTestMethodsFor(testMethod, dataProviderMethod)).thenAnswer(new Answer<List<FrameworkMethod>>() {
+            @Override
+            public List<FrameworkMethod> answer(InvocationOnMock invocation) throws Throwable {
+                Thread.sleep(50);
+                return singletonList(exploded1);
+            }
+        });
+        when(testGenerator.generateExplodedTestMethodsFor(testMethod2, dataProviderMethod21)).thenReturn(singletonList(exploded21));
+        when(testGenerator.generateExplodedTestMethodsFor(testMethod2, dataProviderMethod22)).thenReturn(singletonList(exploded22));
+
+        // When:
+        List<FrameworkMethod> result = underTest.generateExplodedTestMethodsInParallelFor(asList(testMethod, testMethod2), 3);
+
+        // Then:
+        assertThat(result).containsExactly(exploded1, exploded21, exploded22);
+    }
+
+    @Test
+    public void testGenerateExplodedTestMethodsInParallelForShouldRethrowErrorOfFirstFailingTestMethodEvenIfLaterOneFailsEarlier() {
+        // Given:
+        FrameworkMethod testMethod2 = mock(FrameworkMethod.class);
+
+        doReturn(singletonList(dataProviderMethod)).when(underTest).getDataProviderMethods(testMethod);
+        doReturn(singletonList(dataProviderMethod)).when(underTest).getDataProviderMethods(testMethod2);
+
+        final CountDownLatch secondFailed = new CountDownLatch(1);
+        final Error error1 = new Error("first");
+        final Error error2 = new Error("second");
+        when(testGenerator.generateExplodedTestMethodsFor(testMethod, dataProviderMethod)).thenAnswer(new Answer<List<FrameworkMethod>>() {
+            @Override
+            public List<FrameworkMethod> answer(InvocationOnMock invocation) throws Throwable {
+                secondFailed.await(10, TimeUnit.SECONDS);
+                throw error1;
+            }
+        });
+        when(testGenerator.generateExplodedTestMethodsFor(testMethod2, dataProviderMethod)).thenAnswer(new Answer<List<FrameworkMethod>>() {
+            @Override
+            public List<FrameworkMethod> answer(InvocationOnMock invocation) throws Throwable {
+                secondFailed.countDown();
+                throw error2;
+            }
+        });
+
+        // When:
+        try {
+            underTest.generateExplodedTestMethodsInParallelFor(asList(testMethod, testMethod2), 2);
+
+            // Then:
+            throw new AssertionError("Expected error");
+        } catch (Error e) {
+            assertThat(e).isSameAs(error1);
+        }
+    }
+
+    @Test
+    public void testGetExplosionThreadsShouldReturnOneIfNeitherAnnotatedNorConfigured() {
+        // Given:
+
+        // When:
+        int result = underTest.getExplosionThreads();
+
+        // Then:
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetExplosionThreadsShouldReturnThreadsOfAnnotation() {
+        // Given:
+        doReturn(ParallelExplosionTestClass.class).when(testClass).getJavaClass();
+
+        // When:
+        int result = underTest.getExplosionThreads();
+
+        // Then:
+        assertThat(result).isEqualTo(3);
+    }
+
+    @Test
+    public void testGetExplosionThreadsShouldReturnThreadsOfSystemProperty() {
+        // Given:
+        System.setProperty(ParallelExplosion.PROPERTY_PARALLEL_EXPLOSION, "5");
+        try {
+            // When:
+            int result = underTest.getExplosionThreads();
+
+            // Then:
+            assertThat(result).isEqualTo(5);
+        } finally {
+            System.clearProperty(ParallelExplosion.PROPERTY_PARALLEL_EXPLOSION);
+        }
+    }
+
     @Test
     public void testGetDataProviderMethodShouldInitializeMapUsedForCaching() {
         // Given:
@@ -686,6 +853,30 @@ public class DataProviderRunnerTest extends BaseTest {
         assertThat(result).isInstanceOf(PrivateDefaultConstructor.class);
     }
 
+    @Test
+    public void testGetResolverInstanceIntShouldReturnNewInstanceForEachCallIfResolverIsNotShareable() {
+        // Given:
+
+        // When:
+        DataProviderMethodResolver result1 = underTest.getResolverInstanceInt(PrivateDefaultConstructor.class);
+        DataProviderMethodResolver result2 = underTest.getResolverInstanceInt(PrivateDefaultConstructor.class);
+
+        // Then:
+        assertThat(result2).isNotSameAs(result1);
+    }
+
+    @Test
+    public void testGetResolverInstanceIntShouldReturnSameInstanceForEachCallIfResolverIsShareable() {
+        // Given:
+
+        // When:
+        DataProviderMethodResolver result1 = underTest.getResolverInstanceInt(DefaultDataProviderMethodResolver.class);
+        DataProviderMethodResolver result2 = underTest.getResolverInstanceInt(DefaultDataProviderMethodResolver.class);
+
+        // Then:
+        assertThat(result1).isInstanceOf(DefaultDataProviderMethodResolver.class).isSameAs(result2);
+    }
+
     // -- helper classes to test with ------------------------------------------------------------------------------------------------------
 
     private static class NoDefaultConstructor implements DataProviderMethodResolver {
@@ -726,4 +917,8 @@ public class DataProviderRunnerTest extends BaseTest {
             return null;
         }
     }
+
+    @ParallelExplosion(threads = 3)
+    private static class ParallelExplosionTestClass {
+    }
 }
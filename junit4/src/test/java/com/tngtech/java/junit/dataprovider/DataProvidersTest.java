@@ -3,7 +3,12 @@ package com.tngtech.java.junit.dataprovider;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.crossProduct;
+import static com.tngtech.java.junit.dataprovider.DataProviders.crossProductStream;
+import static com.tngtech.java.junit.dataprovider.DataProviders.lazyCrossProduct;
+import static com.tngtech.java.junit.dataprovider.DataProviders.pairwise;
+import static com.tngtech.java.junit.dataprovider.DataProviders.tWise;
 import static com.tngtech.java.junit.dataprovider.DataProviders.testForEach;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.ArrayList;
@@ -231,4 +236,54 @@ public class DataProvidersTest extends BaseTest {
         // Then:
         assertThat(result).isEqualTo(new Object[][] { {1, 4}, { 1, 5 }, { 2, 4 }, { 2, 5 }, { 3, 4 }, { 3, 5 } });
     }
+
+    @Test
+    public void testLazyCrossProductShouldReturnTheCrossProductOfAllSides() {
+        // Given:
+
+        // When:
+        Iterable<Object[]> result = lazyCrossProduct(testForEach(1, 2), testForEach(3), testForEach(4, 5));
+
+        // Then:
+        List<Object[]> rows = new ArrayList<Object[]>();
+        for (Object[] row : result) {
+            rows.add(row);
+        }
+        assertThat(rows.toArray()).isEqualTo(new Object[][] { { 1, 3, 4 }, { 1, 3, 5 }, { 2, 3, 4 }, { 2, 3, 5 } });
+    }
+
+    @Test
+    public void testCrossProductStreamShouldReturnTheCrossProductOfAllSides() {
+        // Given:
+
+        // When:
+        List<Object[]> result = crossProductStream(testForEach(1, 2), testForEach(3, 4)).collect(toList());
+
+        // Then:
+        assertThat(result.toArray()).isEqualTo(new Object[][] { { 1, 3 }, { 1, 4 }, { 2, 3 }, { 2, 4 } });
+    }
+
+    @Test
+    public void testPairwiseShouldDelegateToCoreDataProviders() {
+        // Given:
+        Object[][] rows = testForEach(1, 2, 3);
+
+        // When:
+        Object[][] result = pairwise(rows, rows, rows);
+
+        // Then:
+        assertThat(result).isEqualTo(com.tngtech.junit.dataprovider.DataProviders.pairwise(rows, rows, rows));
+    }
+
+    @Test
+    public void testTWiseShouldDelegateToCoreDataProviders() {
+        // Given:
+        Object[][] rows = testForEach(1, 2);
+
+        // When:
+        Object[][] result = tWise(2, 3L, rows, rows, rows, rows);
+
+        // Then:
+        assertThat(result).isEqualTo(com.tngtech.junit.dataprovider.DataProviders.tWise(2, 3L, rows, rows, rows, rows));
+    }
 }
@@ -14,8 +14,11 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -280,6 +283,147 @@ public class DataConverterTest extends BaseTest {
         assertThat(result).isTrue();
     }
 
+    @Test
+    public void testCanConvertShouldReturnTrueIfTypeIsIteratorOfObject() {
+        // Given:
+        Type type = getMethod("methodReturningIteratorOfObject").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnTrueIfTypeIsStreamOfListOfObject() {
+        // Given:
+        Type type = getMethod("methodReturningStreamOfListOfObject").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnTrueIfTypeIsSupplierOfStreamOfWildcard() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierOfStreamOfWildcard").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnTrueIfTypeIsSupplierOfWildcardExtendingObjectArrayArray() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierOfWildcardExtendingObjectArrayArray").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnFalseIfTypeIsSupplierOfString() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierOfString").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnFalseIfTypeIsSupplierOfWildcard() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierOfWildcard").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnTrueIfTypeIsSupplierSubtypeOfObjectArrayArray() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierSubtypeOfObjectArrayArray").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnFalseIfTypeIsSupplierSubtypeOfStringHavingOwnTypeArgument() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierSubtypeOfStringHavingOwnTypeArgument").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnTrueIfTypeIsSupplierSubtypePassingTypeArgumentToSupplier() {
+        // Given:
+        Type type = getMethod("methodReturningSupplierSubtypePassingListOfObjectToSupplier").getGenericReturnType();
+
+        // When:
+        boolean result = underTest.canConvert(type);
+
+        // Then:
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnFalseIfTypeIsRawStream() {
+        // Given:
+
+        // When:
+        boolean result = underTest.canConvert(Stream.class);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnFalseIfTypeIsRawIterator() {
+        // Given:
+
+        // When:
+        boolean result = underTest.canConvert(Iterator.class);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    public void testCanConvertShouldReturnFalseIfTypeIsRawSupplier() {
+        // Given:
+
+        // When:
+        boolean result = underTest.canConvert(Supplier.class);
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
     @Test(expected = NullPointerException.class)
     public void testConvertShouldThrowNullPointerExceptionIfParameterTypesIsNull() {
         // Given:
@@ -582,4 +726,52 @@ public class DataConverterTest extends BaseTest {
     public static SubList<SubList<Object>> methodReturningSubListOfSubListOfObject() {
         return null;
     }
+
+    public static Iterator<Object> methodReturningIteratorOfObject() {
+        return null;
+    }
+
+    public static Stream<List<Object>> methodReturningStreamOfListOfObject() {
+        return null;
+    }
+
+    public static Supplier<Stream<?>> methodReturningSupplierOfStreamOfWildcard() {
+        return null;
+    }
+
+    public static Supplier<? extends Object[][]> methodReturningSupplierOfWildcardExtendingObjectArrayArray() {
+        return null;
+    }
+
+    public static Supplier<String> methodReturningSupplierOfString() {
+        return null;
+    }
+
+    public static Supplier<?> methodReturningSupplierOfWildcard() {
+        return null;
+    }
+
+    private interface SupplierOfObjectArrayArray<A> extends Supplier<Object[][]> {
+        // not required for now :-)
+    }
+
+    private interface SupplierOfString<A> extends Supplier<String> {
+        // not required for now :-)
+    }
+
+    private interface PassingSupplier<A, B> extends Supplier<B> {
+        // not required for now :-)
+    }
+
+    public static SupplierOfObjectArrayArray<String> methodReturningSupplierSubtypeOfObjectArrayArray() {
+        return null;
+    }
+
+    public static SupplierOfString<Object[][]> methodReturningSupplierSubtypeOfStringHavingOwnTypeArgument() {
+        return null;
+    }
+
+    public static PassingSupplier<String, List<Object>> methodReturningSupplierSubtypePassingListOfObjectToSupplier() {
+        return null;
+    }
 }
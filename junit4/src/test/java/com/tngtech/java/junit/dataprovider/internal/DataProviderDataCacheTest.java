@@ -0,0 +1,376 @@
+package com.tngtech.java.junit.dataprovider.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.model.FrameworkMethod;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.tngtech.java.junit.dataprovider.BaseTest;
+import com.tngtech.java.junit.dataprovider.internal.DataProviderDataCache.Loader;
+import com.tngtech.java.junit.dataprovider.internal.DataProviderDataCache.Scope;
+import com.tngtech.java.junit.dataprovider.internal.DataProviderDataCache.Stats;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DataProviderDataCacheTest extends BaseTest {
+
+    @Mock
+    private FrameworkMethod dataProviderMethod;
+    @Mock
+    private FrameworkMethod dataProviderMethod2;
+    @Mock
+    private FrameworkMethod dataProviderMethod3;
+
+    @After
+    public void tearDown() {
+        System.clearProperty(DataProviderDataCache.PROPERTY_MAXIMUM_SIZE);
+        System.clearProperty(DataProviderDataCache.PROPERTY_MAXIMUM_ROWS);
+        System.clearProperty(DataProviderDataCache.PROPERTY_SCOPE);
+    }
+
+    @Test
+    public void testGetShouldLoadDataOnlyOnceAndReturnCachedDataAfterwards() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+        CountingLoader loader = new CountingLoader(new Object[][] { { 1 } });
+
+        // When:
+        Object result1 = underTest.get(dataProviderMethod, loader);
+        Object result2 = underTest.get(dataProviderMethod, loader);
+
+        // Then:
+        assertThat(result1).isSameAs(loader.data);
+        assertThat(result2).isSameAs(loader.data);
+        assertThat(loader.count.get()).isEqualTo(1);
+
+        Stats stats = underTest.stats();
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.evictionCount()).isEqualTo(0);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void testGetShouldNotCacheSingleUseData() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+        final Iterator<?> data = Arrays.asList(1, 2).iterator();
+
+        CountingLoader loader = new CountingLoader(data);
+
+        // When:
+        Object result1 = underTest.get(dataProviderMethod, loader);
+        Object result2 = underTest.get(dataProviderMethod, loader);
+
+        // Then:
+        assertThat(result1).isSameAs(data);
+        assertThat(result2).isSameAs(data);
+        assertThat(loader.count.get()).isEqualTo(2);
+        assertThat(underTest.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testGetShouldRethrowExceptionOfLoaderAndNotCacheAnything() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+        final IllegalStateException exception = new IllegalStateException("failed");
+
+        // When:
+        try {
+            underTest.get(dataProviderMethod, new Loader() {
+                @Override
+                public Object load() {
+                    throw exception;
+                }
+            });
+
+            // Then:
+            throw new AssertionError("Expected exception");
+        } catch (IllegalStateException e) {
+            assertThat(e).isSameAs(exception);
+        }
+        assertThat(underTest.size()).isEqualTo(0);
+        assertThat(underTest.getIfPresent(dataProviderMethod)).isNull();
+    }
+
+    @Test
+    public void testGetShouldEvictLeastRecentlyUsedDataIfMaximumSizeIsExceeded() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().maximumSize(2).build();
+
+        underTest.get(dataProviderMethod, new CountingLoader("1"));
+        underTest.get(dataProviderMethod2, new CountingLoader("2"));
+        underTest.get(dataProviderMethod, new CountingLoader("1"));
+
+        // When:
+        underTest.get(dataProviderMethod3, new CountingLoader("3"));
+
+        // Then:
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(underTest.getIfPresent(dataProviderMethod)).isEqualTo("1");
+        assertThat(underTest.getIfPresent(dataProviderMethod2)).isNull();
+        assertThat(underTest.getIfPresent(dataProviderMethod3)).isEqualTo("3");
+        assertThat(underTest.stats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetShouldEvictDataIfMaximumRowsAreExceeded() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder()
+                .maximumWeight(3, DataProviderDataCache.ROWS).build();
+
+        underTest.get(dataProviderMethod, new CountingLoader(new Object[][] { { 1 }, { 2 } }));
+
+        // When:
+        underTest.get(dataProviderMethod2, new CountingLoader(Arrays.asList(1, 2)));
+
+        // Then:
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.getIfPresent(dataProviderMethod)).isNull();
+        assertThat(underTest.getIfPresent(dataProviderMethod2)).isEqualTo(Arrays.asList(1, 2));
+    }
+
+    @Test
+    public void testGetShouldKeepMostRecentlyLoadedDataEvenIfItExceedsMaximumWeightOnItsOwn() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder()
+                .maximumWeight(1, DataProviderDataCache.ROWS).build();
+
+        // When:
+        underTest.get(dataProviderMethod, new CountingLoader(new Object[][] { { 1 }, { 2 } }));
+
+        // Then:
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testGetShouldNotCacheAnythingIfMaximumSizeIsZero() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().maximumSize(0).build();
+        CountingLoader loader = new CountingLoader(new Object[][] { { 1 } });
+
+        // When:
+        Object result1 = underTest.get(dataProviderMethod, loader);
+        Object result2 = underTest.get(dataProviderMethod, loader);
+
+        // Then:
+        assertThat(result1).isSameAs(loader.data);
+        assertThat(result2).isSameAs(loader.data);
+        assertThat(loader.count.get()).isEqualTo(2);
+        assertThat(underTest.size()).isEqualTo(0);
+        assertThat(underTest.getIfPresent(dataProviderMethod)).isNull();
+    }
+
+    @Test
+    public void testGetShouldLoadDataOnlyOnceForConcurrentRequests() throws Exception {
+        // Given:
+        final DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+        final CountingLoader loader = new CountingLoader(new Object[][] { { 1 } }) {
+            @Override
+            public Object load() throws Throwable {
+                Thread.sleep(50);
+                return super.load();
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = new ArrayList<Future<Object>>();
+            for (int idx = 0; idx < 8; idx++) {
+                futures.add(executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        try {
+                            return underTest.get(dataProviderMethod, loader);
+                        } catch (Throwable t) {
+                            throw new Exception(t);
+                        }
+                    }
+                }));
+            }
+
+            // When:
+            List<Object> results = new ArrayList<Object>();
+            for (Future<Object> future : futures) {
+                results.add(future.get());
+            }
+
+            // Then:
+            assertThat(loader.count.get()).isEqualTo(1);
+            for (Object result : results) {
+                assertThat(result).isSameAs(loader.data);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetShouldLoadDataAgainInsteadOfWaitingIfRequestedFromWithinOwnLoader() throws Throwable {
+        // Given:
+        final DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+        final CountingLoader innerLoader = new CountingLoader(new Object[][] { { 2 } });
+        CountingLoader loader = new CountingLoader(new Object[][] { { 1 } }) {
+            @Override
+            public Object load() throws Throwable {
+                underTest.get(dataProviderMethod, innerLoader);
+                return super.load();
+            }
+        };
+
+        // When:
+        Object result = underTest.get(dataProviderMethod, loader);
+
+        // Then:
+        assertThat(result).isSameAs(loader.data);
+        assertThat(innerLoader.count.get()).isEqualTo(1);
+        assertThat(underTest.get(dataProviderMethod, innerLoader)).isSameAs(loader.data);
+        assertThat(underTest.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testInvalidateAllShouldRemoveAllCachedData() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+        CountingLoader loader = new CountingLoader("1");
+
+        underTest.get(dataProviderMethod, loader);
+        underTest.get(dataProviderMethod2, new CountingLoader("2"));
+
+        // When:
+        underTest.invalidateAll();
+
+        // Then:
+        assertThat(underTest.size()).isEqualTo(0);
+
+        underTest.get(dataProviderMethod, loader);
+        assertThat(loader.count.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testForTestClassShouldReturnSameCacheForGlobalScope() {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().build();
+
+        // When:
+        DataProviderDataCache result = underTest.forTestClass();
+
+        // Then:
+        assertThat(result).isSameAs(underTest);
+    }
+
+    @Test
+    public void testForTestClassShouldReturnNewCacheForClassScope() {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().scope(Scope.CLASS).build();
+
+        // When:
+        DataProviderDataCache result = underTest.forTestClass();
+
+        // Then:
+        assertThat(result).isNotSameAs(underTest);
+        assertThat(result.getScope()).isEqualTo(Scope.CLASS);
+    }
+
+    @Test
+    public void testStatsShouldIncludeStatisticsOfCachesForTestClasses() throws Throwable {
+        // Given:
+        DataProviderDataCache underTest = DataProviderDataCache.builder().scope(Scope.CLASS).build();
+        CountingLoader loader = new CountingLoader(new Object[][] { { 1 } });
+
+        DataProviderDataCache cache1 = underTest.forTestClass();
+        cache1.get(dataProviderMethod, loader);
+        cache1.get(dataProviderMethod, loader);
+
+        DataProviderDataCache cache2 = underTest.forTestClass();
+        cache2.get(dataProviderMethod, loader);
+
+        // When:
+        Stats result = underTest.stats();
+
+        // Then:
+        assertThat(result.hitCount()).isEqualTo(1);
+        assertThat(result.missCount()).isEqualTo(2);
+        assertThat(cache2.stats().missCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFromSystemPropertiesShouldUseConfiguredMaximumSizeAndScope() throws Throwable {
+        // Given:
+        System.setProperty(DataProviderDataCache.PROPERTY_MAXIMUM_SIZE, "1");
+        System.setProperty(DataProviderDataCache.PROPERTY_SCOPE, "class");
+
+        // When:
+        DataProviderDataCache result = DataProviderDataCache.fromSystemProperties();
+
+        // Then:
+        assertThat(result.getScope()).isEqualTo(Scope.CLASS);
+
+        result.get(dataProviderMethod, new CountingLoader("1"));
+        result.get(dataProviderMethod2, new CountingLoader("2"));
+        assertThat(result.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testFromSystemPropertiesShouldDisableCachingIfMaximumSizeIsZero() throws Throwable {
+        // Given:
+        System.setProperty(DataProviderDataCache.PROPERTY_MAXIMUM_SIZE, "0");
+
+        // When:
+        DataProviderDataCache result = DataProviderDataCache.fromSystemProperties();
+
+        // Then:
+        result.get(dataProviderMethod, new CountingLoader("1"));
+        assertThat(result.size()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromSystemPropertiesShouldThrowIllegalArgumentExceptionIfMaximumSizeIsNoNumber() {
+        // Given:
+        System.setProperty(DataProviderDataCache.PROPERTY_MAXIMUM_SIZE, "many");
+
+        // When:
+        DataProviderDataCache.fromSystemProperties();
+
+        // Then: expect exception
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromSystemPropertiesShouldThrowIllegalArgumentExceptionIfScopeIsUnknown() {
+        // Given:
+        System.setProperty(DataProviderDataCache.PROPERTY_SCOPE, "method");
+
+        // When:
+        DataProviderDataCache.fromSystemProperties();
+
+        // Then: expect exception
+    }
+
+    private static class CountingLoader implements Loader {
+        private final Object data;
+        private final AtomicInteger count = new AtomicInteger();
+
+        CountingLoader(Object data) {
+            this.data = data;
+        }
+
+        @Override
+        public Object load() throws Throwable {
+            count.incrementAndGet();
+            return data;
+        }
+    }
+}
@@ -12,12 +12,12 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.model.FrameworkMethod;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -29,7 +29,6 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 @RunWith(MockitoJUnitRunner.class)
 public class TestGeneratorTest extends BaseTest {
 
-    @InjectMocks
     private TestGenerator underTest;
 
     @Mock
@@ -43,7 +42,7 @@ public class TestGeneratorTest extends BaseTest {
 
     @Before
     public void setup() {
-        TestGenerator.dataProviderDataCache.clear();
+        underTest = new TestGenerator(dataConverter, DataProviderDataCache.builder().build());
 
         when(testMethod.getMethod()).thenReturn(anyMethod());
         when(dataProviderMethod.getMethod()).thenReturn(anyMethod());
@@ -154,14 +153,20 @@ public class TestGeneratorTest extends BaseTest {
     }
 
     @Test
-    public void testExplodeTestMethodsUseDataProviderShouldUseCachedDataProviderResultIfAvailable() {
+    public void testExplodeTestMethodsUseDataProviderShouldUseCachedDataProviderResultIfAvailable() throws Throwable {
         // Given:
-        Object data = new Object[][] { { 1 } };
-        TestGenerator.dataProviderDataCache.put(dataProviderMethod, data);
+        final Object data = new Object[][] { { 1 } };
+        underTest.dataProviderDataCache.get(dataProviderMethod, new DataProviderDataCache.Loader() {
+            @Override
+            public Object load() {
+                return data;
+            }
+        });
 
         when(dataConverter.convert(any(), any(Boolean.class), any(Class[].class), any(DataProvider.class)))
                 .thenReturn(listOfArrays(new Object[] { 1 }));
         when(dataProviderMethod.getAnnotation(DataProvider.class)).thenReturn(dataProvider);
+        when(dataProvider.cache()).thenReturn(true);
         when(dataProvider.format()).thenReturn("%m");
 
         // When:
@@ -188,7 +193,7 @@ public class TestGeneratorTest extends BaseTest {
         List<FrameworkMethod> result = underTest.explodeTestMethod(testMethod, dataProviderMethod);
 
         // Then:
-        assertThat(TestGenerator.dataProviderDataCache).isEmpty();
+        assertThat(underTest.dataProviderDataCache.size()).isEqualTo(0);
         assertDataProviderFrameworkMethods(result, dataConverterResult, "%c");
         verify(dataProviderMethod).invokeExplosively(null);
     }
@@ -209,11 +214,66 @@ public class TestGeneratorTest extends BaseTest {
         List<FrameworkMethod> result = underTest.explodeTestMethod(testMethod, dataProviderMethod);
 
         // Then:
-        assertThat(TestGenerator.dataProviderDataCache).hasSize(1).containsKey(dataProviderMethod);
+        assertThat(underTest.dataProviderDataCache.size()).isEqualTo(1);
         assertThat(result).hasSize(1);
         verify(dataProviderMethod).invokeExplosively(null, testMethod);
     }
 
+    @Test
+    public void testExplodeTestMethodsUseDataProviderShouldNotCacheSingleUseDataEvenIfCacheIsTrue() throws Throwable {
+        // Given:
+        when(dataProviderMethod.invokeExplosively(null)).thenReturn(Stream.of("a"));
+
+        List<Object[]> dataConverterResult = listOfArrays(new Object[] { "a" });
+        when(dataConverter.convert(any(), anyBoolean(), any(Class[].class), any(DataProvider.class))).thenReturn(dataConverterResult);
+        when(dataProviderMethod.getAnnotation(DataProvider.class)).thenReturn(dataProvider);
+        when(dataProvider.format()).thenReturn(DataProvider.DEFAULT_FORMAT);
+        when(dataProvider.cache()).thenReturn(true);
+
+        // When:
+        List<FrameworkMethod> result = underTest.explodeTestMethod(testMethod, dataProviderMethod);
+
+        // Then:
+        assertThat(underTest.dataProviderDataCache.size()).isEqualTo(0);
+        assertThat(result).hasSize(1);
+    }
+
+    @Test
+    public void testFinishTestClassShouldReleaseCachedDataIfCacheIsScopedPerClass() throws Throwable {
+        // Given:
+        underTest = new TestGenerator(dataConverter, DataProviderDataCache.builder().scope(DataProviderDataCache.Scope.CLASS).build());
+
+        when(dataConverter.convert(any(), anyBoolean(), any(Class[].class), any(DataProvider.class))).thenReturn(listOfArrays(new Object[] { 1 }));
+        when(dataProviderMethod.getAnnotation(DataProvider.class)).thenReturn(dataProvider);
+        when(dataProvider.format()).thenReturn(DataProvider.DEFAULT_FORMAT);
+        when(dataProvider.cache()).thenReturn(true);
+
+        underTest.explodeTestMethod(testMethod, dataProviderMethod);
+
+        // When:
+        underTest.finishTestClass();
+
+        // Then:
+        assertThat(underTest.dataProviderDataCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testFinishTestClassShouldKeepCachedDataIfCacheIsGlobal() throws Throwable {
+        // Given:
+        when(dataConverter.convert(any(), anyBoolean(), any(Class[].class), any(DataProvider.class))).thenReturn(listOfArrays(new Object[] { 1 }));
+        when(dataProviderMethod.getAnnotation(DataProvider.class)).thenReturn(dataProvider);
+        when(dataProvider.format()).thenReturn(DataProvider.DEFAULT_FORMAT);
+        when(dataProvider.cache()).thenReturn(true);
+
+        underTest.explodeTestMethod(testMethod, dataProviderMethod);
+
+        // When:
+        underTest.finishTestClass();
+
+        // Then:
+        assertThat(underTest.dataProviderDataCache.size()).isEqualTo(1);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void testExplodeTestMethodsDataProviderShouldIllegalArgumentExceptionIfDataConverterReturnsAnEmptyList() {
         // Given:
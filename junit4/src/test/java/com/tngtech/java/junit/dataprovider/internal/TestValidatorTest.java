@@ -362,7 +362,7 @@ public class TestValidatorTest extends BaseTest {
         // Then:
         assertThat(errors).hasSize(1);
         assertThat(errors.get(0).getMessage()).contains(dataProviderName).containsIgnoringCase(
-                "must either return Object[][], Object[], String[], Iterable<Iterable<?>>, or Iterable<?>");
+                "must either return Object[][], Object[], String[], Iterable<Iterable<?>>, Iterable<?>, Iterator<?>, Stream<?>, or a Supplier of one of them");
     }
 
     @Test
@@ -408,7 +408,7 @@ public class TestValidatorTest extends BaseTest {
         assertThat(errors.get(2).getMessage()).contains(dataProviderName).containsIgnoringCase(
                 "must either have a single FrameworkMethod parameter or none");
         assertThat(errors.get(3).getMessage()).contains(dataProviderName).containsIgnoringCase(
-                "must either return Object[][], Object[], String[], Iterable<Iterable<?>>, or Iterable<?>");
+                "must either return Object[][], Object[], String[], Iterable<Iterable<?>>, Iterable<?>, Iterator<?>, Stream<?>, or a Supplier of one of them");
         assertThat(errors.get(4).getMessage()).contains(dataProviderName).containsIgnoringCase(
                 "must not define @DataProvider.value()");
     }
@@ -55,6 +55,18 @@ public class BasePlaceholderTest extends BaseTest {
         assertThat(underTest.parameters).isNotSameAs(parameters).isEqualTo(parameters);
     }
 
+    @Test
+    public void testIsStatelessShouldReturnFalseByDefault() {
+        // Given:
+        BasePlaceholder underTest = new TestPlaceholder("%s", "###");
+
+        // When:
+        boolean result = underTest.isStateless();
+
+        // Then:
+        assertThat(result).isFalse();
+    }
+
     @Test
     public void testProcessShouldReplaceNothingForNotMatchingPlaceholder() {
         // Given:
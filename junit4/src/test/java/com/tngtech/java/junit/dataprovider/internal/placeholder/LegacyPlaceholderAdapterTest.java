@@ -0,0 +1,67 @@
+package com.tngtech.java.junit.dataprovider.internal.placeholder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.tngtech.java.junit.dataprovider.BaseTest;
+import com.tngtech.junit.dataprovider.placeholder.ReplacementData;
+
+public class LegacyPlaceholderAdapterTest extends BaseTest {
+
+    private static class TestPlaceholder extends BasePlaceholder {
+        private final boolean stateless;
+
+        TestPlaceholder(boolean stateless) {
+            super("%x");
+            this.stateless = stateless;
+        }
+
+        @Override
+        protected boolean isStateless() {
+            return stateless;
+        }
+
+        @Override
+        protected String getReplacementFor(String placeholder) {
+            return "context-" + parameters[0];
+        }
+
+        @Override
+        protected String getReplacementFor(String placeholder, ReplacementData data) {
+            return (parameters == null) ? "data-" + data.getArguments().get(0) : getReplacementFor(placeholder);
+        }
+    }
+
+    @Test
+    public void testProcessShouldNotSetContextForStatelessPlaceholder() {
+        // Given:
+        TestPlaceholder placeholder = new TestPlaceholder(true);
+        ReplacementData data = ReplacementData.of(anyMethod(), 1, Arrays.<Object>asList("a"));
+
+        // When:
+        String result = LegacyPlaceholderAdapter.process(placeholder, data, "test %x");
+
+        // Then:
+        assertThat(result).isEqualTo("test data-a");
+        assertThat(placeholder.parameters).isNull();
+    }
+
+    @Test
+    public void testProcessShouldSetContextForPlaceholderNotBeingStateless() {
+        // Given:
+        TestPlaceholder placeholder = new TestPlaceholder(false);
+        ReplacementData data = ReplacementData.of(anyMethod(), 1, Arrays.<Object>asList("b"));
+
+        // When:
+        String result = LegacyPlaceholderAdapter.process(placeholder, data, "test %x");
+
+        // Then:
+        assertThat(result).isEqualTo("test context-b");
+        assertThat(placeholder.method).isEqualTo(anyMethod());
+        assertThat(placeholder.idx).isEqualTo(1);
+        assertThat(placeholder.parameters).containsExactly("b");
+    }
+}
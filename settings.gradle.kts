@@ -8,4 +8,4 @@ plugins {
     id("com.gradle.enterprise").version("3.1.1")
     id("org.gradle.toolchains.foojay-resolver-convention") version "1.0.0"
 }
-include(":core", ":junit4", ":junit-jupiter", ":junit-jupiter-params")
+include(":core", ":junit4", ":junit-jupiter", ":junit-jupiter-params", ":benchmarks")